@@ -0,0 +1,58 @@
+package com.brolius.benchmarks;
+
+import com.brolius.compiler.SyntheticProgramGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**
+ * Programs the benchmarks run on. A name is either an example from the examples directory
+ * (system property "decaf.examples", "../examples" by default) or "synthetic-N" for a
+ * generated program with N methods.
+ */
+public class BenchmarkPrograms {
+    private static final String SYNTHETIC = "synthetic-";
+
+    private BenchmarkPrograms() { }
+
+    public static String load(String name) throws IOException {
+        if (name.startsWith(SYNTHETIC)) {
+            return synthetic(Integer.parseInt(name.substring(SYNTHETIC.length())));
+        }
+
+        Path examples = Paths.get(System.getProperty("decaf.examples", "../examples"));
+        try (java.util.stream.Stream<Path> files = Files.walk(examples)) {
+            Path program = files.filter(p -> p.getFileName().toString().equals(name + ".decaf"))
+                    .findFirst()
+                    .orElseThrow(() -> new NoSuchFileException(name + ".decaf in " + examples.toAbsolutePath()));
+            return new String(Files.readAllBytes(program), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Builds a straight line program with the given number of methods, all called from main
+     */
+    private static String synthetic(int methods) {
+        return straightLine().methods(methods).generate();
+    }
+
+    /**
+     * Builds a straight line program of about the given number of lines
+     */
+    public static String syntheticLines(int lines) {
+        return straightLine().lines(lines).generate();
+    }
+
+    /**
+     * Straight line code over locals, without globals, structs, deeper expressions or if/while
+     * blocks, so programs of different sizes only differ in their number of methods
+     */
+    private static SyntheticProgramGenerator straightLine() {
+        return new SyntheticProgramGenerator()
+                .globals(0)
+                .structs(0)
+                .expressionDepth(1)
+                .nesting(0);
+    }
+}
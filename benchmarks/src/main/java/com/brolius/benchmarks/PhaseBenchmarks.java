@@ -0,0 +1,105 @@
+package com.brolius.benchmarks;
+
+import com.brolius.antlr.decafParser;
+import com.brolius.antlrtac.tacParser;
+import com.brolius.compiler.Compilation;
+import com.brolius.compiler.DecafCompiler;
+import com.brolius.semanticControl.DiscardTacSink;
+import com.brolius.semanticControl.MemoryTacSink;
+import com.brolius.semanticControl.SemanticListener;
+import com.brolius.tac.TacProgram;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One benchmark per compiler phase plus the whole pipeline. Each phase runs on the output of
+ * the previous ones, prepared once per trial, so only the phase itself is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhaseBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Program {
+        @Param({"Fact", "IfTests", "MIPS1", "StructOperations", "fib", "synthetic-10", "synthetic-100"})
+        public String name;
+
+        DecafCompiler compiler;
+        String source;
+        List<Token> tokens;
+        decafParser parser;
+        ParseTree parseTree;
+        SemanticListener semanticListener;
+        String tac;
+        TacProgram optimized;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            compiler = new DecafCompiler();
+            source = BenchmarkPrograms.load(name);
+
+            CommonTokenStream tokenStream = compiler.lex(source, ConsoleErrorListener.INSTANCE);
+            tokens = tokenStream.getTokens();
+            parser = compiler.newParser(tokenStream, ConsoleErrorListener.INSTANCE);
+            parseTree = compiler.parseProgram(parser, mode -> { });
+
+            MemoryTacSink tacSink = new MemoryTacSink();
+            semanticListener = compiler.analyze(parser, parseTree, tacSink);
+            tac = tacSink.getText();
+            optimized = compiler.optimize(semanticListener.getTacProgram());
+        }
+    }
+
+    @Benchmark
+    public CommonTokenStream lexer(Program program) {
+        return program.compiler.lex(program.source, ConsoleErrorListener.INSTANCE);
+    }
+
+    @Benchmark
+    public ParseTree parser(Program program) {
+        TokenStream tokens = new CommonTokenStream(new ListTokenSource(program.tokens));
+        decafParser parser = program.compiler.newParser(tokens, ConsoleErrorListener.INSTANCE);
+        return program.compiler.parseProgram(parser, mode -> { });
+    }
+
+    @Benchmark
+    public SemanticListener semanticAnalysis(Program program) {
+        return program.compiler.analyze(program.parser, program.parseTree, DiscardTacSink.INSTANCE);
+    }
+
+    @Benchmark
+    public String tacEmission(Program program) {
+        MemoryTacSink tacSink = new MemoryTacSink();
+        program.compiler.analyze(program.parser, program.parseTree, tacSink);
+        return tacSink.getText();
+    }
+
+    @Benchmark
+    public ParseTree tacParser(Program program) {
+        tacParser tp = program.compiler.newTacParser(program.tac);
+        return program.compiler.parseTac(tp, mode -> { });
+    }
+
+    @Benchmark
+    public TacProgram optimization(Program program) {
+        return program.compiler.optimize(program.semanticListener.getTacProgram());
+    }
+
+    @Benchmark
+    public String mipsGeneration(Program program) {
+        return program.compiler.generateMips(program.optimized, program.semanticListener);
+    }
+
+    @Benchmark
+    public Compilation fullPipeline(Program program) {
+        return program.compiler.compile(program.source);
+    }
+}
@@ -0,0 +1,39 @@
+package com.brolius.benchmarks;
+
+import com.brolius.compiler.Compilation;
+import com.brolius.compiler.DecafCompiler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compile time of the whole pipeline against program size, on generated programs.
+ * The default sizes stop at 20000 lines to keep a run short, larger ones are picked with -p lines=...
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ScalingBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Program {
+        @Param({"500", "1000", "2000", "5000", "10000", "20000"})
+        public int lines;
+
+        DecafCompiler compiler;
+        String source;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            compiler = new DecafCompiler();
+            source = BenchmarkPrograms.syntheticLines(lines);
+        }
+    }
+
+    @Benchmark
+    public Compilation fullPipeline(Program program) {
+        return program.compiler.compile(program.source);
+    }
+}
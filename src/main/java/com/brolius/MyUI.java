@@ -4,12 +4,11 @@ import javax.print.PrintException;
 import javax.servlet.annotation.WebServlet;
 
 import com.brolius.antlr.CustomErrorListener;
-import com.brolius.antlrtac.tacLexer;
-import com.brolius.antlrtac.tacParser;
-import com.brolius.semanticControl.SemanticListener;
-import com.brolius.antlr.decafLexer;
-import com.brolius.antlr.decafParser;
-import com.brolius.semanticControl.TacSemanticListener;
+import com.brolius.antlr.SyntaxError;
+import com.brolius.compiler.Compilation;
+import com.brolius.compiler.CompileExecutor;
+import com.brolius.semanticControl.IncrementalCache;
+import com.vaadin.annotations.Push;
 import com.vaadin.annotations.Theme;
 import com.vaadin.annotations.VaadinServletConfiguration;
 import com.vaadin.server.*;
@@ -22,23 +21,14 @@ import com.vaadin.ui.Label;
 import com.vaadin.ui.Panel;
 import com.vaadin.ui.TextArea;
 import com.vaadin.ui.Window;
-import org.antlr.v4.gui.TreeViewer;
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.misc.Utils;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.antlr.v4.runtime.tree.Tree;
 import org.antlr.v4.runtime.tree.Trees;
 
-import java.awt.*;
 import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Scanner;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * IDE UI for the Decaf Compiler
@@ -46,11 +36,11 @@ import java.util.Scanner;
  * Universidad del Valle de Guatemala, Construccion de Compiladores
  */
 @Theme("mytheme")
+@Push
 public class MyUI extends UI {
     private String editorInput; // actual input to compile
-    private ParseTree grammarParseTree; // the generated parse tree
-    private decafParser grammarParser; // the generated parser
-    private decafLexer grammarLexer; // the generated lexer
+    private Compilation compilation; // workspace of the last compilation of this UI
+    private final IncrementalCache methodCache = new IncrementalCache(); // methods of the last compilation, for recompiles
     private static final String endOfLine = "<br/>"; // EOF for tree visualization
     private int level = 0; // tree begin index level for tree visualization
     private String prettyFileTree; // a pretty tree visualization in text
@@ -106,78 +96,45 @@ public class MyUI extends UI {
                 /* clear the console */
                 consolePanelLayout.removeAllComponents();
 
-                /* generate a stream from input and create tree */
-                CharStream charStream = CharStreams.fromString(editorInput);
-                grammarLexer = new decafLexer(charStream);
-                grammarLexer.removeErrorListeners();
-                grammarLexer.addErrorListener(new CustomErrorListener(consolePanelLayout));
-                CommonTokenStream commonTokenStream = new CommonTokenStream(grammarLexer);
-                grammarParser = new decafParser(commonTokenStream);
-                grammarParser.removeErrorListeners();
-                grammarParser.addErrorListener(new CustomErrorListener(consolePanelLayout));
-
-                grammarParseTree = grammarParser.program();
-                Label lbl1 = new Label("<strong>TREE>> </strong>" + grammarParseTree.toStringTree(grammarParser)
-                        + "<br><i>For a cleaner tree, click the \"Tree representation \" button.<i>", ContentMode.HTML);
-                lbl1.setWidth(100.0f, Sizeable.Unit.PERCENTAGE);
-                //consolePanelLayout.addComponent(lbl1);
-
-                // SEMANTIC CONTROL ------------------------------------------------------------------------------------
-                /* TAC FILE GENERATION */
-                generateTACFile();
-
-                ParseTreeWalker walker = new ParseTreeWalker();
-                SemanticListener semanticListener = new SemanticListener(grammarParser);
-                walker.walk(semanticListener, grammarParseTree);
-                List<String> errList = semanticListener.getSemanticErrorsList();
-
-                if (!errList.isEmpty()) {
-                    for (String error : errList) {
-                        Label errLbl = new Label("<strong>ERROR>> </strong>" + error, ContentMode.HTML);
-                        lbl1.setWidth(100.0f, Sizeable.Unit.PERCENTAGE);
-                        consolePanelLayout.addComponent(errLbl);
-                    }
-                    Notification notification = new Notification("Compiled with errors", "See console for details",
-                            Notification.Type.ERROR_MESSAGE, true);
+                /* compile in a workspace of its own, on the shared compiler pool */
+                Label progressLbl = new Label("<i>Compiling...</i>", ContentMode.HTML);
+                consolePanelLayout.addComponent(progressLbl);
+                button.setEnabled(false);
+                button.setCaption("Compiling...");
+
+                try {
+                    CompileExecutor.shared().submit(editorInput,
+                            phase -> access(() -> progressLbl.setValue("<i>" + phase + "...</i>")), methodCache)
+                            .whenComplete((result, error) -> access(() -> {
+                                consolePanelLayout.removeComponent(progressLbl);
+                                button.setEnabled(true);
+                                button.setCaption("Compile");
+
+                                if (error != null) {
+                                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                                    cause.printStackTrace();
+                                    Notification notification = new Notification("Compilation failed", cause.toString(),
+                                            Notification.Type.ERROR_MESSAGE, true);
+                                    notification.setDelayMsec(4000);
+                                    notification.setPosition(Position.BOTTOM_RIGHT);
+                                    notification.show(Page.getCurrent());
+                                } else {
+                                    compilation = result;
+                                    showDiagnostics(consolePanelLayout);
+                                    generateTreeBtn.setEnabled(true);
+                                }
+                            }));
+                } catch (RejectedExecutionException busy) {
+                    consolePanelLayout.removeComponent(progressLbl);
+                    button.setEnabled(true);
+                    button.setCaption("Compile");
+
+                    Notification notification = new Notification("Server busy", "Too many compilations in progress, try again",
+                            Notification.Type.WARNING_MESSAGE, true);
                     notification.setDelayMsec(4000);
                     notification.setPosition(Position.BOTTOM_RIGHT);
                     notification.show(Page.getCurrent());
                 }
-
-                Notification notification = new Notification("Compilation done!", "Execution terminated!");
-                notification.setDelayMsec(2000);
-                notification.setPosition(Position.TOP_CENTER);
-                notification.show(Page.getCurrent());
-
-                generateTreeBtn.setEnabled(true);
-
-                /* Tac Parser generation and walkthrough */
-                Scanner in = null;
-                String tac = "";
-                try {
-                    in = new Scanner(new FileReader("decaf.tac"));
-                    StringBuilder sb = new StringBuilder();
-                    while(in.hasNext()) {
-                        sb.append(in.nextLine() + "\n");
-                    }
-                    in.close();
-                    tac = sb.toString();
-                } catch (FileNotFoundException er) {
-                    er.printStackTrace();
-                }
-
-                CharStream cs = CharStreams.fromString(tac);
-                tacLexer tl = new tacLexer(cs);
-                CommonTokenStream cts = new CommonTokenStream(tl);
-                tacParser tp = new tacParser(cts);
-
-                ParseTree pt = tp.program();
-
-                ParseTreeWalker tacTreeWalker = new ParseTreeWalker();
-                TacSemanticListener tacSL = new TacSemanticListener(tp, semanticListener.getVarList(), semanticListener.getMethodFirms());
-                walker.walk(tacSL, pt);
-
-
             } else {
                 Notification notification = new Notification("Empty code", "The editor is empty",
                         Notification.Type.WARNING_MESSAGE, true);
@@ -190,27 +147,24 @@ public class MyUI extends UI {
 
         /* visual tree representation */
         generateTreeBtn.addClickListener(event -> {
-            TreeViewer viewer = new TreeViewer(Arrays.asList(grammarParser.getRuleNames()), grammarParseTree);
-            viewer.setBorderColor(Color.WHITE);
-            viewer.setBoxColor(Color.WHITE);
             try {
-                viewer.save("tree.jpg");
+                File treeImage = compilation.renderTree();
                 //generate indented tree
-                List<String> ruleNamesList = Arrays.asList(grammarParser.getRuleNames());
+                List<String> ruleNamesList = compilation.getRuleNames();
                 //System.out.println(ruleNamesList.toString());
                 //System.out.println(prettyTree(parseTree, ruleNamesList));
-                prettyFileTree = prettyTree(grammarParseTree, ruleNamesList);
+                prettyFileTree = prettyTree(compilation.getParseTree(), ruleNamesList);
 
                 final Window window = new Window("Parse Tree");
                 //window.setWidth(90.0f, Unit.PERCENTAGE);
                 window.setHeight(90.0f, Unit.PERCENTAGE);
                 window.center();
                 window.setResizable(false);
+                window.addCloseListener(closeEvent -> treeImage.delete());
 
-                /* save the tree image */
-                //String basepath = VaadinService.getCurrent().getBaseDirectory().getAbsolutePath();
-                FileResource resource = new FileResource(new File("tree.jpg"));
-                Image image = new Image("Tree saved to /tree.jpg", resource);
+                /* show the tree image of this compilation */
+                FileResource resource = new FileResource(treeImage);
+                Image image = new Image("Parse tree", resource);
 
                 HorizontalLayout treeLayout = new HorizontalLayout();
                 treeLayout.setMargin(true);
@@ -269,19 +223,7 @@ public class MyUI extends UI {
             window.center();
             window.setResizable(false);
 
-            Scanner in = null;
-            String outString = "";
-            try {
-                in = new Scanner(new FileReader("decaf.tac"));
-                StringBuilder sb = new StringBuilder();
-                while(in.hasNext()) {
-                    sb.append(in.nextLine() + "\n");
-                }
-                in.close();
-                outString = sb.toString();
-            } catch (FileNotFoundException e) {
-                e.printStackTrace();
-            }
+            String outString = compilation != null ? compilation.getTac() : "";
 
             Panel tacPanel = new Panel();
 
@@ -308,19 +250,7 @@ public class MyUI extends UI {
             window.center();
             window.setResizable(false);
 
-            Scanner in = null;
-            String outString = "";
-            try {
-                in = new Scanner(new FileReader("generated_mips.asm"));
-                StringBuilder sb = new StringBuilder();
-                while(in.hasNext()) {
-                    sb.append(in.nextLine() + "\n");
-                }
-                in.close();
-                outString = sb.toString();
-            } catch (FileNotFoundException e) {
-                e.printStackTrace();
-            }
+            String outString = compilation != null ? compilation.getMips() : "";
 
             Panel tacPanel = new Panel();
 
@@ -365,6 +295,39 @@ public class MyUI extends UI {
     public static class MyUIServlet extends VaadinServlet {
     }
 
+    /**
+     * Writes the diagnostics of the last compilation to the console
+     * @param consolePanelLayout
+     */
+    private void showDiagnostics(Layout consolePanelLayout) {
+        CustomErrorListener syntaxErrorReporter = new CustomErrorListener(consolePanelLayout);
+        for (SyntaxError error : compilation.getSyntaxErrors()) {
+            syntaxErrorReporter.report(error.getLine(), error.getCharPos(), error.getMessage());
+        }
+
+        List<String> errList = compilation.getSemanticErrors();
+
+        if (!errList.isEmpty()) {
+            for (String error : errList) {
+                Label errLbl = new Label("<strong>ERROR>> </strong>" + error, ContentMode.HTML);
+                errLbl.setWidth(100.0f, Sizeable.Unit.PERCENTAGE);
+                consolePanelLayout.addComponent(errLbl);
+            }
+            syntaxErrorReporter.notifyErrors();
+        }
+
+        /* compact per phase breakdown */
+        Label metricsLbl = new Label("<small><strong>TIME>> </strong>" + compilation.getMetrics() + "</small>",
+                ContentMode.HTML);
+        metricsLbl.setWidth(100.0f, Sizeable.Unit.PERCENTAGE);
+        consolePanelLayout.addComponent(metricsLbl);
+
+        Notification notification = new Notification("Compilation done!", "Execution terminated!");
+        notification.setDelayMsec(2000);
+        notification.setPosition(Position.TOP_CENTER);
+        notification.show(Page.getCurrent());
+    }
+
     /**
      * Generates an indented string tree
      * Based on: https://github.com/grosenberg/SnippetsTest/blob/master/src/test/java/net/certiv/remark/test/TestBase.java
@@ -415,26 +378,4 @@ public class MyUI extends UI {
         }
         return sb.toString();
     }
-
-    private void generateTACFile() {
-        try {
-            File file = new File("decaf.tac");
-            if (file.exists()) {
-                file.delete();
-            }
-            file.createNewFile();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        try {
-            File file = new File("generated_mips.asm");
-            if (file.exists()) {
-                file.delete();
-            }
-            file.createNewFile();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
 }
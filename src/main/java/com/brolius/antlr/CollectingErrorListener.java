@@ -0,0 +1,47 @@
+package com.brolius.antlr;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects syntax errors instead of reporting them, so compilation can run away from the UI thread.
+ * Past a limit, or at the first error in fail fast mode, it stops the lexer or parser by throwing a
+ * {@link ParseCancellationException}, so a badly broken program costs no more than its first errors.
+ */
+public class CollectingErrorListener extends BaseErrorListener {
+    private final List<SyntaxError> errors = new ArrayList<>();
+    private final int limit;
+    private final boolean failFast;
+
+    public CollectingErrorListener() {
+        this(Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * @param limit errors collected, the next one stops the recognizer
+     * @param failFast stop the recognizer at the first error
+     */
+    public CollectingErrorListener(int limit, boolean failFast) {
+        this.limit = limit;
+        this.failFast = failFast;
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?,?> recognizer, Object offSymb, int line, int charPos, String msg, RecognitionException e) {
+        if (errors.size() >= limit) {
+            errors.add(new SyntaxError(line, charPos, "too many errors, stopped here"));
+            throw new ParseCancellationException("more than " + limit + " syntax errors");
+        }
+        errors.add(new SyntaxError(line, charPos, msg));
+        if (failFast) {
+            throw new ParseCancellationException(msg, e);
+        }
+    }
+
+    public List<SyntaxError> getErrors() { return errors; }
+}
@@ -1,5 +1,6 @@
 package com.brolius.antlr;
 
+import com.brolius.compiler.Trace;
 import com.vaadin.server.Page;
 import com.vaadin.server.Sizeable;
 import com.vaadin.shared.Position;
@@ -11,9 +12,14 @@ import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 
+/**
+ * Reports errors in the console layout of the UI. However many errors there are, the user gets a single
+ * notification.
+ */
 public class CustomErrorListener extends BaseErrorListener {
     //public static CustomErrorListener INSTANCE = new CustomErrorListener();
     Layout layout;
+    private boolean notified;   // the "compiled with errors" notification has been shown
 
     public CustomErrorListener(Layout layout) {
         this.layout = layout;
@@ -21,21 +27,41 @@ public class CustomErrorListener extends BaseErrorListener {
 
     @Override
     public void syntaxError(Recognizer<?,?> recognizer, Object offSymb, int line, int charPos, String msg, RecognitionException e) {
-        String sourceName = recognizer.getInputStream().getSourceName();
-        if (!sourceName.isEmpty()) {
-            sourceName = String.format("%s:%d:%d: ", sourceName, line, charPos);
+        report(line, charPos, msg);
+        if (Trace.isEnabled(Trace.Category.PARSER, Trace.Level.INFO)) {
+            String sourceName = recognizer.getInputStream().getSourceName();
+            if (!sourceName.isEmpty()) {
+                sourceName = String.format("%s:%d:%d: ", sourceName, line, charPos);
+            }
+            Trace.log(Trace.Category.PARSER, Trace.Level.INFO, sourceName + "line " + line + ":" + charPos + " ", msg);
         }
+    }
 
+    /**
+     * Shows a syntax error in the console layout
+     * @param line
+     * @param charPos
+     * @param msg
+     */
+    public void report(int line, int charPos, String msg) {
         Label lbl = new Label("<strong>ERROR >> </strong> Line <strong>"+line+":"+charPos+ "</strong> "+msg, ContentMode.HTML);
         lbl.setWidth(100.0f, Sizeable.Unit.PERCENTAGE);
         layout.addComponent(lbl);
+        notifyErrors();
+    }
 
+    /**
+     * Tells the user that there are errors in the console, once
+     */
+    public void notifyErrors() {
+        if (notified) {
+            return;
+        }
+        notified = true;
         Notification notification = new Notification("Compiled with errors", "See console for details",
                 Notification.Type.ERROR_MESSAGE, true);
         notification.setDelayMsec(4000);
         notification.setPosition(Position.BOTTOM_RIGHT);
         notification.show(Page.getCurrent());
-
-        System.out.println(sourceName+"line "+line+":"+charPos+ " "+msg);
     }
 }
@@ -1,5 +1,6 @@
 package com.brolius.antlr;
 
+import com.brolius.compiler.Trace;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.RecognitionException;
@@ -15,10 +16,12 @@ public class DecafErrorListener extends BaseErrorListener {
                             int line, int pos,
                             String msg,
                             RecognitionException e) {
+        if (!Trace.isEnabled(Trace.Category.PARSER, Trace.Level.DEBUG)) {
+            return;
+        }
         List<String> stack = ((Parser)recognizer).getRuleInvocationStack();
         Collections.reverse(stack);
-        System.err.println("rule stack: "+stack);
-        System.err.println("line "+line+":"+pos+" at "+
-                os+": "+msg);
+        Trace.debug(Trace.Category.PARSER, "rule stack: ", stack);
+        Trace.debug(Trace.Category.PARSER, "line "+line+":"+pos+" at "+ os+": ", msg);
     }
 }
@@ -0,0 +1,24 @@
+package com.brolius.antlr;
+
+/**
+ * A lexer or parser error, detached from any UI so it can be reported later
+ */
+public class SyntaxError {
+    private final int line;
+    private final int charPos;
+    private final String message;
+
+    public SyntaxError(int line, int charPos, String message) {
+        this.line = line;
+        this.charPos = charPos;
+        this.message = message;
+    }
+
+    public int getLine() { return line; }
+    public int getCharPos() { return charPos; }
+    public String getMessage() { return message; }
+
+    public String toString() {
+        return "line " + line + ":" + charPos + " " + message;
+    }
+}
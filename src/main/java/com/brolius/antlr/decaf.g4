@@ -42,32 +42,33 @@ parameterType:        'int' | 'char' | 'boolean'  ;
 
 block:                '{' (varDeclaration)* (statement)* '}' ;
 
-statement:            'if' '(' expression ')' block ( 'else' block )?
-                       | 'while' '(' expression ')' block
-                       |'return' expressionA ';'
-                       | methodCall ';'
-                       | block
-                       | location '=' expression
-                       | (expression)? ';'  ;
+statement:            'if' '(' expression ')' block ( 'else' block )?     # ifStatement
+                       | 'while' '(' expression ')' block                  # whileStatement
+                       | 'return' expressionA ';'                          # returnStatement
+                       | methodCall ';'                                    # methodCallStatement
+                       | block                                             # blockStatement
+                       | location '=' expression                           # assignStatement
+                       | (expression)? ';'                                 # expressionStatement
+                       ;
 
 expressionA:           expression | ;
 
 location:              (ID|ID '[' expression ']') ('.' location)?  ;
 
-expression:            methodCall
-                       | location
-                       | literal
-                       | '('expression')'
-                       | '-' expression
-                       | '!' expression
-                       | expression and_op expression
-                       | expression or_op expression
-                       | expression eq_op expression
-                       | expression rel_op expression
-                       | expression modulus_op expression
-                       | expression div_op expression
-                       | expression mul_op expression
-                       | expression arith_op_sum_subs expression
+expression:            methodCall                                          # methodCallExpression
+                       | location                                          # locationExpression
+                       | literal                                           # literalExpression
+                       | '('expression')'                                  # parenthesizedExpression
+                       | '-' expression                                    # minusExpression
+                       | '!' expression                                    # notExpression
+                       | expression and_op expression                      # binaryExpression
+                       | expression or_op expression                       # binaryExpression
+                       | expression eq_op expression                       # binaryExpression
+                       | expression rel_op expression                      # binaryExpression
+                       | expression modulus_op expression                  # binaryExpression
+                       | expression div_op expression                      # binaryExpression
+                       | expression mul_op expression                      # binaryExpression
+                       | expression arith_op_sum_subs expression           # binaryExpression
                        ;
 
 methodCall:            ID '(' arg1 ')' ;
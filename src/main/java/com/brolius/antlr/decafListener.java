@@ -108,15 +108,89 @@ public interface decafListener extends ParseTreeListener {
 	 */
 	void exitBlock(decafParser.BlockContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link decafParser#statement}.
+	 * Enter a parse tree produced by the {@code ifStatement}
+	 * labeled alternative in {@link decafParser#statement}.
 	 * @param ctx the parse tree
 	 */
-	void enterStatement(decafParser.StatementContext ctx);
+	void enterIfStatement(decafParser.IfStatementContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link decafParser#statement}.
+	 * Exit a parse tree produced by the {@code ifStatement}
+	 * labeled alternative in {@link decafParser#statement}.
 	 * @param ctx the parse tree
 	 */
-	void exitStatement(decafParser.StatementContext ctx);
+	void exitIfStatement(decafParser.IfStatementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code whileStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterWhileStatement(decafParser.WhileStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code whileStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitWhileStatement(decafParser.WhileStatementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code returnStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterReturnStatement(decafParser.ReturnStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code returnStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitReturnStatement(decafParser.ReturnStatementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code methodCallStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethodCallStatement(decafParser.MethodCallStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code methodCallStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethodCallStatement(decafParser.MethodCallStatementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code blockStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterBlockStatement(decafParser.BlockStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code blockStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitBlockStatement(decafParser.BlockStatementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code assignStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterAssignStatement(decafParser.AssignStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code assignStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitAssignStatement(decafParser.AssignStatementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionStatement(decafParser.ExpressionStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionStatement}
+	 * labeled alternative in {@link decafParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionStatement(decafParser.ExpressionStatementContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link decafParser#expressionA}.
 	 * @param ctx the parse tree
@@ -138,15 +212,89 @@ public interface decafListener extends ParseTreeListener {
 	 */
 	void exitLocation(decafParser.LocationContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link decafParser#expression}.
+	 * Enter a parse tree produced by the {@code binaryExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterBinaryExpression(decafParser.BinaryExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code binaryExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitBinaryExpression(decafParser.BinaryExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code parenthesizedExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterParenthesizedExpression(decafParser.ParenthesizedExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code parenthesizedExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitParenthesizedExpression(decafParser.ParenthesizedExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code minusExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterMinusExpression(decafParser.MinusExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code minusExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitMinusExpression(decafParser.MinusExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code methodCallExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethodCallExpression(decafParser.MethodCallExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code methodCallExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethodCallExpression(decafParser.MethodCallExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code locationExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterLocationExpression(decafParser.LocationExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code locationExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitLocationExpression(decafParser.LocationExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code notExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterNotExpression(decafParser.NotExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code notExpression}
+	 * labeled alternative in {@link decafParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitNotExpression(decafParser.NotExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code literalExpression}
+	 * labeled alternative in {@link decafParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpression(decafParser.ExpressionContext ctx);
+	void enterLiteralExpression(decafParser.LiteralExpressionContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link decafParser#expression}.
+	 * Exit a parse tree produced by the {@code literalExpression}
+	 * labeled alternative in {@link decafParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpression(decafParser.ExpressionContext ctx);
+	void exitLiteralExpression(decafParser.LiteralExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link decafParser#methodCall}.
 	 * @param ctx the parse tree
@@ -766,35 +766,124 @@ public class decafParser extends Parser {
 	}
 
 	public static class StatementContext extends ParserRuleContext {
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+	 
+		public StatementContext() { }
+		public void copyFrom(StatementContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class WhileStatementContext extends StatementContext {
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
-		public List<BlockContext> block() {
-			return getRuleContexts(BlockContext.class);
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
 		}
-		public BlockContext block(int i) {
-			return getRuleContext(BlockContext.class,i);
+		public WhileStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterWhileStatement(this);
 		}
-		public ExpressionAContext expressionA() {
-			return getRuleContext(ExpressionAContext.class,0);
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitWhileStatement(this);
+		}
+	}
+	public static class BlockStatementContext extends StatementContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public BlockStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterBlockStatement(this);
 		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitBlockStatement(this);
+		}
+	}
+	public static class MethodCallStatementContext extends StatementContext {
 		public MethodCallContext methodCall() {
 			return getRuleContext(MethodCallContext.class,0);
 		}
+		public MethodCallStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterMethodCallStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitMethodCallStatement(this);
+		}
+	}
+	public static class AssignStatementContext extends StatementContext {
 		public LocationContext location() {
 			return getRuleContext(LocationContext.class,0);
 		}
-		public StatementContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		@Override public int getRuleIndex() { return RULE_statement; }
+		public AssignStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterAssignStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitAssignStatement(this);
+		}
+	}
+	public static class ExpressionStatementContext extends StatementContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ExpressionStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterExpressionStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitExpressionStatement(this);
+		}
+	}
+	public static class IfStatementContext extends StatementContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<BlockContext> block() {
+			return getRuleContexts(BlockContext.class);
+		}
+		public BlockContext block(int i) {
+			return getRuleContext(BlockContext.class,i);
+		}
+		public IfStatementContext(StatementContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof decafListener ) ((decafListener)listener).enterStatement(this);
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterIfStatement(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof decafListener ) ((decafListener)listener).exitStatement(this);
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitIfStatement(this);
+		}
+	}
+	public static class ReturnStatementContext extends StatementContext {
+		public ExpressionAContext expressionA() {
+			return getRuleContext(ExpressionAContext.class,0);
+		}
+		public ReturnStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterReturnStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitReturnStatement(this);
 		}
 	}
 
@@ -807,6 +896,7 @@ public class decafParser extends Parser {
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
 			case 1:
+				_localctx = new IfStatementContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
 				setState(157);
@@ -834,6 +924,7 @@ public class decafParser extends Parser {
 				}
 				break;
 			case 2:
+				_localctx = new WhileStatementContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
 				setState(166);
@@ -849,6 +940,7 @@ public class decafParser extends Parser {
 				}
 				break;
 			case 3:
+				_localctx = new ReturnStatementContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
 				setState(172);
@@ -860,6 +952,7 @@ public class decafParser extends Parser {
 				}
 				break;
 			case 4:
+				_localctx = new MethodCallStatementContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
 				setState(176);
@@ -869,6 +962,7 @@ public class decafParser extends Parser {
 				}
 				break;
 			case 5:
+				_localctx = new BlockStatementContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
 				setState(179);
@@ -876,6 +970,7 @@ public class decafParser extends Parser {
 				}
 				break;
 			case 6:
+				_localctx = new AssignStatementContext(_localctx);
 				enterOuterAlt(_localctx, 6);
 				{
 				setState(180);
@@ -887,6 +982,7 @@ public class decafParser extends Parser {
 				}
 				break;
 			case 7:
+				_localctx = new ExpressionStatementContext(_localctx);
 				enterOuterAlt(_localctx, 7);
 				{
 				setState(185);
@@ -1051,15 +1147,17 @@ public class decafParser extends Parser {
 	}
 
 	public static class ExpressionContext extends ParserRuleContext {
-		public MethodCallContext methodCall() {
-			return getRuleContext(MethodCallContext.class,0);
-		}
-		public LocationContext location() {
-			return getRuleContext(LocationContext.class,0);
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public LiteralContext literal() {
-			return getRuleContext(LiteralContext.class,0);
+		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
 		}
+	}
+	public static class BinaryExpressionContext extends ExpressionContext {
 		public List<ExpressionContext> expression() {
 			return getRuleContexts(ExpressionContext.class);
 		}
@@ -1090,17 +1188,98 @@ public class decafParser extends Parser {
 		public Arith_op_sum_subsContext arith_op_sum_subs() {
 			return getRuleContext(Arith_op_sum_subsContext.class,0);
 		}
-		public ExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public BinaryExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterBinaryExpression(this);
 		}
-		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitBinaryExpression(this);
+		}
+	}
+	public static class ParenthesizedExpressionContext extends ExpressionContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ParenthesizedExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof decafListener ) ((decafListener)listener).enterExpression(this);
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterParenthesizedExpression(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof decafListener ) ((decafListener)listener).exitExpression(this);
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitParenthesizedExpression(this);
+		}
+	}
+	public static class MinusExpressionContext extends ExpressionContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public MinusExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterMinusExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitMinusExpression(this);
+		}
+	}
+	public static class MethodCallExpressionContext extends ExpressionContext {
+		public MethodCallContext methodCall() {
+			return getRuleContext(MethodCallContext.class,0);
+		}
+		public MethodCallExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterMethodCallExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitMethodCallExpression(this);
+		}
+	}
+	public static class LocationExpressionContext extends ExpressionContext {
+		public LocationContext location() {
+			return getRuleContext(LocationContext.class,0);
+		}
+		public LocationExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterLocationExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitLocationExpression(this);
+		}
+	}
+	public static class NotExpressionContext extends ExpressionContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public NotExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterNotExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitNotExpression(this);
+		}
+	}
+	public static class LiteralExpressionContext extends ExpressionContext {
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public LiteralExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).enterLiteralExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof decafListener ) ((decafListener)listener).exitLiteralExpression(this);
 		}
 	}
 
@@ -1124,24 +1303,37 @@ public class decafParser extends Parser {
 			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 			case 1:
 				{
+				_localctx = new MethodCallExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
 				setState(207);
 				methodCall();
 				}
 				break;
 			case 2:
 				{
+				_localctx = new LocationExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
 				setState(208);
 				location();
 				}
 				break;
 			case 3:
 				{
+				_localctx = new LiteralExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
 				setState(209);
 				literal();
 				}
 				break;
 			case 4:
 				{
+				_localctx = new ParenthesizedExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
 				setState(210);
 				match(T__11);
 				setState(211);
@@ -1152,6 +1344,9 @@ public class decafParser extends Parser {
 				break;
 			case 5:
 				{
+				_localctx = new MinusExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
 				setState(214);
 				match(T__20);
 				setState(215);
@@ -1160,6 +1355,9 @@ public class decafParser extends Parser {
 				break;
 			case 6:
 				{
+				_localctx = new NotExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
 				setState(216);
 				match(T__21);
 				setState(217);
@@ -1181,7 +1379,7 @@ public class decafParser extends Parser {
 					switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
 					case 1:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
 						setState(220);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
@@ -1193,7 +1391,7 @@ public class decafParser extends Parser {
 						break;
 					case 2:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
 						setState(224);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
@@ -1205,7 +1403,7 @@ public class decafParser extends Parser {
 						break;
 					case 3:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
 						setState(228);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
@@ -1217,7 +1415,7 @@ public class decafParser extends Parser {
 						break;
 					case 4:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
 						setState(232);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
@@ -1229,7 +1427,7 @@ public class decafParser extends Parser {
 						break;
 					case 5:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
 						setState(236);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
@@ -1241,7 +1439,7 @@ public class decafParser extends Parser {
 						break;
 					case 6:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
 						setState(240);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
@@ -1253,7 +1451,7 @@ public class decafParser extends Parser {
 						break;
 					case 7:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
 						setState(244);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
@@ -1265,7 +1463,7 @@ public class decafParser extends Parser {
 						break;
 					case 8:
 						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
 						setState(248);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
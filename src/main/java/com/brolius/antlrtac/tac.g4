@@ -8,51 +8,41 @@ COMMENTS:           '//' ~('\r' | '\n' )*  -> channel(HIDDEN);
 WHITESPACE:         [ \t\r\n\f]+  ->channel(HIDDEN);
 CHAR:               '\'' ( ~['\r\n\\] | '\\' ['\\] ) '\'';
 
-program:            (declaration)* ;
+program:            (dataDeclaration)* (declaration)* ;
+dataDeclaration:    'Global' ID NUM ';'                                 # global
+                    | 'Struct' ID NUM ';'                               # struct
+                    ;
 declaration:        mainDeclaration | methodDeclaration ;
 mainDeclaration:    'main' ':' funcBlock ;
 methodDeclaration:  location ':' funcBlock ;
-funcBlock:          'BeginFunc' NUM ';' block 'EndFunc' ';' ;
-block:              (statement)* ;
-statement:          ifStatement
-                    | whileStatement
-                    | returnExp
-                    | methodCall
-                    | structCall
-                    | assignStatement
-                    | (expression)? ';';
-ifStatement:        'Ifz' location 'Goto' location ';' block 'Goto' location ';' label block label ;
-whileStatement:     'StartWhile:' label (assignStatement) 'Ifz' location 'Goto' location ';' block 'Goto' location (':')* label ;
-assignStatement:    location '=' expression ';' ;
-methodCall:         (pushParam)* 'LCall' location ';' 'PopParams' NUM ';' ;
-structCall:         'SCall' structLocation block 'End Scall;' ;
-returnExp:             'Return' location ;
-structLocation:     ID ('.' structLocation)? ;
-pushParam:          'PushParam' location ';' ;
-location:           ID | '_' ID | memoryLocation ;
-memoryLocation:     '*(_' ID ');' ;
-label:              '_' ID ':' ;
-expression:         methodCall
-                    | location
-                    | literal
-                    | expression and_op expression
-                    | expression or_op expression
-                    | expression eq_op expression
-                    | expression rel_op expression
-                    | expression modulus_op expression
-                    | expression div_op expression
-                    | expression mul_op expression
-                    | expression arith_op_sum_subs expression
+funcBlock:          'BeginFunc' NUM ';' (variableDeclaration)* (instruction)* 'EndFunc' ';' ;
+variableDeclaration: 'Param' ID ';'                                     # param
+                    | 'Local' ID NUM ';'                                # local
+                    ;
+instruction:        label                                               # labelInstruction
+                    | 'StartWhile:'                                     # startWhile
+                    | 'Ifz' operand 'Goto' location ';'                 # ifz
+                    | 'Goto' location (';' | loop=':')                  # jump
+                    | 'PushParam' operand ';'                           # pushParam
+                    | (location '=')? 'LCall' location ';'              # call
+                    | 'PopParams' NUM ';'                               # popParams
+                    | 'Return' (operand)? ';'                           # returnInstruction
+                    | '*(' operand ')' '=' operand ';'                  # store
+                    | location '=' expression ';'                       # assign
+                    | ';'                                               # empty
                     ;
-and_op:                '&&';
-or_op:                 '||';
-eq_op:                 '==' | '!=' ;
-rel_op:                '<' | '<=' ;
-modulus_op:            '%';
-div_op:                '/';
-mul_op:                '*';
-arith_op_sum_subs:     '+' | '-';
-literal:               int_literal | char_literal | bool_literal ;
-int_literal:           NUM ;
-char_literal:          CHAR ;
-bool_literal:          'true' | 'false' ;
\ No newline at end of file
+expression:         operand                                             # copy
+                    | operand binary_op operand                         # binary
+                    | unary_op operand                                  # unary
+                    | '&' ID                                            # address
+                    | '*(' operand ')'                                  # load
+                    ;
+operand:            location | literal ;
+location:           ID | '_' ID ;
+label:              '_' ID ':' ;
+binary_op:          '&&' | '||' | '==' | '!=' | '<' | '<=' | '>' | '>=' | '%' | '/' | '*' | '+' | '-' ;
+unary_op:           '-' | '!' ;
+literal:            int_literal | char_literal | bool_literal ;
+int_literal:        ('-')? NUM ;
+char_literal:       CHAR ;
+bool_literal:       'true' | 'false' ;
@@ -1,5 +1,6 @@
 // Generated from tac.g4 by ANTLR 4.7.1
 package com.brolius.antlrtac;
+
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.TerminalNode;
@@ -22,6 +23,30 @@ public class tacBaseListener implements tacListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitProgram(tacParser.ProgramContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterGlobal(tacParser.GlobalContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitGlobal(tacParser.GlobalContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterStruct(tacParser.StructContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitStruct(tacParser.StructContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -75,265 +100,277 @@ public class tacBaseListener implements tacListener {
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterBlock(tacParser.BlockContext ctx) { }
+	@Override public void enterParam(tacParser.ParamContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitBlock(tacParser.BlockContext ctx) { }
+	@Override public void exitParam(tacParser.ParamContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterStatement(tacParser.StatementContext ctx) { }
+	@Override public void enterLocal(tacParser.LocalContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitStatement(tacParser.StatementContext ctx) { }
+	@Override public void exitLocal(tacParser.LocalContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterIfStatement(tacParser.IfStatementContext ctx) { }
+	@Override public void enterLabelInstruction(tacParser.LabelInstructionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitIfStatement(tacParser.IfStatementContext ctx) { }
+	@Override public void exitLabelInstruction(tacParser.LabelInstructionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterWhileStatement(tacParser.WhileStatementContext ctx) { }
+	@Override public void enterStartWhile(tacParser.StartWhileContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitWhileStatement(tacParser.WhileStatementContext ctx) { }
+	@Override public void exitStartWhile(tacParser.StartWhileContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterAssignStatement(tacParser.AssignStatementContext ctx) { }
+	@Override public void enterIfz(tacParser.IfzContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitAssignStatement(tacParser.AssignStatementContext ctx) { }
+	@Override public void exitIfz(tacParser.IfzContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterMethodCall(tacParser.MethodCallContext ctx) { }
+	@Override public void enterJump(tacParser.JumpContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitMethodCall(tacParser.MethodCallContext ctx) { }
+	@Override public void exitJump(tacParser.JumpContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterStructCall(tacParser.StructCallContext ctx) { }
+	@Override public void enterPushParam(tacParser.PushParamContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitStructCall(tacParser.StructCallContext ctx) { }
+	@Override public void exitPushParam(tacParser.PushParamContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterReturnExp(tacParser.ReturnExpContext ctx) { }
+	@Override public void enterCall(tacParser.CallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitReturnExp(tacParser.ReturnExpContext ctx) { }
+	@Override public void exitCall(tacParser.CallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterStructLocation(tacParser.StructLocationContext ctx) { }
+	@Override public void enterPopParams(tacParser.PopParamsContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitStructLocation(tacParser.StructLocationContext ctx) { }
+	@Override public void exitPopParams(tacParser.PopParamsContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterPushParam(tacParser.PushParamContext ctx) { }
+	@Override public void enterReturnInstruction(tacParser.ReturnInstructionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitPushParam(tacParser.PushParamContext ctx) { }
+	@Override public void exitReturnInstruction(tacParser.ReturnInstructionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterLocation(tacParser.LocationContext ctx) { }
+	@Override public void enterStore(tacParser.StoreContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitLocation(tacParser.LocationContext ctx) { }
+	@Override public void exitStore(tacParser.StoreContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterMemoryLocation(tacParser.MemoryLocationContext ctx) { }
+	@Override public void enterAssign(tacParser.AssignContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitMemoryLocation(tacParser.MemoryLocationContext ctx) { }
+	@Override public void exitAssign(tacParser.AssignContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterLabel(tacParser.LabelContext ctx) { }
+	@Override public void enterEmpty(tacParser.EmptyContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitLabel(tacParser.LabelContext ctx) { }
+	@Override public void exitEmpty(tacParser.EmptyContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpression(tacParser.ExpressionContext ctx) { }
+	@Override public void enterCopy(tacParser.CopyContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpression(tacParser.ExpressionContext ctx) { }
+	@Override public void exitCopy(tacParser.CopyContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterAnd_op(tacParser.And_opContext ctx) { }
+	@Override public void enterBinary(tacParser.BinaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitAnd_op(tacParser.And_opContext ctx) { }
+	@Override public void exitBinary(tacParser.BinaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterOr_op(tacParser.Or_opContext ctx) { }
+	@Override public void enterUnary(tacParser.UnaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitOr_op(tacParser.Or_opContext ctx) { }
+	@Override public void exitUnary(tacParser.UnaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterEq_op(tacParser.Eq_opContext ctx) { }
+	@Override public void enterAddress(tacParser.AddressContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitEq_op(tacParser.Eq_opContext ctx) { }
+	@Override public void exitAddress(tacParser.AddressContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterRel_op(tacParser.Rel_opContext ctx) { }
+	@Override public void enterLoad(tacParser.LoadContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitRel_op(tacParser.Rel_opContext ctx) { }
+	@Override public void exitLoad(tacParser.LoadContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterModulus_op(tacParser.Modulus_opContext ctx) { }
+	@Override public void enterOperand(tacParser.OperandContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitModulus_op(tacParser.Modulus_opContext ctx) { }
+	@Override public void exitOperand(tacParser.OperandContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterDiv_op(tacParser.Div_opContext ctx) { }
+	@Override public void enterLocation(tacParser.LocationContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitDiv_op(tacParser.Div_opContext ctx) { }
+	@Override public void exitLocation(tacParser.LocationContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterLabel(tacParser.LabelContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitLabel(tacParser.LabelContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterMul_op(tacParser.Mul_opContext ctx) { }
+	@Override public void enterBinary_op(tacParser.Binary_opContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitMul_op(tacParser.Mul_opContext ctx) { }
+	@Override public void exitBinary_op(tacParser.Binary_opContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterArith_op_sum_subs(tacParser.Arith_op_sum_subsContext ctx) { }
+	@Override public void enterUnary_op(tacParser.Unary_opContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitArith_op_sum_subs(tacParser.Arith_op_sum_subsContext ctx) { }
+	@Override public void exitUnary_op(tacParser.Unary_opContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -21,7 +21,8 @@ public class tacLexer extends Lexer {
 		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
 		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
-		T__31=32, ID=33, NUM=34, COMMENTS=35, WHITESPACE=36, CHAR=37;
+		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, ID=38, NUM=39, 
+		COMMENTS=40, WHITESPACE=41, CHAR=42;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -34,22 +35,23 @@ public class tacLexer extends Lexer {
 		"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
 		"T__9", "T__10", "T__11", "T__12", "T__13", "T__14", "T__15", "T__16", 
 		"T__17", "T__18", "T__19", "T__20", "T__21", "T__22", "T__23", "T__24", 
-		"T__25", "T__26", "T__27", "T__28", "T__29", "T__30", "T__31", "LETTER", 
-		"DIGIT", "ID", "NUM", "COMMENTS", "WHITESPACE", "CHAR"
+		"T__25", "T__26", "T__27", "T__28", "T__29", "T__30", "T__31", "T__32", 
+		"T__33", "T__34", "T__35", "T__36", "LETTER", "DIGIT", "ID", "NUM", "COMMENTS", 
+		"WHITESPACE", "CHAR"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
-		null, "'main'", "':'", "'BeginFunc'", "';'", "'EndFunc'", "'Ifz'", "'Goto'", 
-		"'StartWhile:'", "'='", "'LCall'", "'PopParams'", "'SCall'", "'End Scall;'", 
-		"'Return'", "'.'", "'PushParam'", "'_'", "'*(_'", "');'", "'&&'", "'||'", 
-		"'=='", "'!='", "'<'", "'<='", "'%'", "'/'", "'*'", "'+'", "'-'", "'true'", 
-		"'false'"
+		null, "'Global'", "';'", "'Struct'", "'main'", "':'", "'BeginFunc'", "'EndFunc'", 
+		"'Param'", "'Local'", "'StartWhile:'", "'Ifz'", "'Goto'", "'PushParam'", 
+		"'='", "'LCall'", "'PopParams'", "'Return'", "'*('", "')'", "'&'", "'_'", 
+		"'&&'", "'||'", "'=='", "'!='", "'<'", "'<='", "'>'", "'>='", "'%'", "'/'", 
+		"'*'", "'+'", "'-'", "'!'", "'true'", "'false'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, null, null, null, "ID", "NUM", "COMMENTS", 
-		"WHITESPACE", "CHAR"
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, "ID", "NUM", "COMMENTS", "WHITESPACE", "CHAR"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -109,90 +111,98 @@ public class tacLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\'\u0113\b\1\4\2\t"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2,\u012b\b\1\4\2\t"+
 		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
 		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
-		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\3\2\3\2\3\2\3\2\3\2"+
-		"\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\6\3\6\3\6\3"+
-		"\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t"+
-		"\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13"+
-		"\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\16"+
-		"\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17"+
-		"\3\17\3\17\3\17\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
-		"\3\21\3\22\3\22\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3\25\3\25\3\25\3\26"+
-		"\3\26\3\26\3\27\3\27\3\27\3\30\3\30\3\30\3\31\3\31\3\32\3\32\3\32\3\33"+
-		"\3\33\3\34\3\34\3\35\3\35\3\36\3\36\3\37\3\37\3 \3 \3 \3 \3 \3!\3!\3!"+
-		"\3!\3!\3!\3\"\3\"\3#\3#\3$\3$\3$\7$\u00ee\n$\f$\16$\u00f1\13$\3%\3%\7"+
-		"%\u00f5\n%\f%\16%\u00f8\13%\3&\3&\3&\3&\7&\u00fe\n&\f&\16&\u0101\13&\3"+
-		"&\3&\3\'\6\'\u0106\n\'\r\'\16\'\u0107\3\'\3\'\3(\3(\3(\3(\5(\u0110\n("+
-		"\3(\3(\2\2)\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33"+
-		"\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67"+
-		"\359\36;\37= ?!A\"C\2E\2G#I$K%M&O\'\3\2\7\4\2C\\c|\4\2\f\f\17\17\5\2\13"+
-		"\f\16\17\"\"\6\2\f\f\17\17))^^\4\2))^^\2\u0116\2\3\3\2\2\2\2\5\3\2\2\2"+
-		"\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3"+
-		"\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2"+
-		"\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2"+
-		"\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2"+
-		"\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2"+
-		"\2\2\2A\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2"+
-		"\3Q\3\2\2\2\5V\3\2\2\2\7X\3\2\2\2\tb\3\2\2\2\13d\3\2\2\2\rl\3\2\2\2\17"+
-		"p\3\2\2\2\21u\3\2\2\2\23\u0081\3\2\2\2\25\u0083\3\2\2\2\27\u0089\3\2\2"+
-		"\2\31\u0093\3\2\2\2\33\u0099\3\2\2\2\35\u00a4\3\2\2\2\37\u00ab\3\2\2\2"+
-		"!\u00ad\3\2\2\2#\u00b7\3\2\2\2%\u00b9\3\2\2\2\'\u00bd\3\2\2\2)\u00c0\3"+
-		"\2\2\2+\u00c3\3\2\2\2-\u00c6\3\2\2\2/\u00c9\3\2\2\2\61\u00cc\3\2\2\2\63"+
-		"\u00ce\3\2\2\2\65\u00d1\3\2\2\2\67\u00d3\3\2\2\29\u00d5\3\2\2\2;\u00d7"+
-		"\3\2\2\2=\u00d9\3\2\2\2?\u00db\3\2\2\2A\u00e0\3\2\2\2C\u00e6\3\2\2\2E"+
-		"\u00e8\3\2\2\2G\u00ea\3\2\2\2I\u00f2\3\2\2\2K\u00f9\3\2\2\2M\u0105\3\2"+
-		"\2\2O\u010b\3\2\2\2QR\7o\2\2RS\7c\2\2ST\7k\2\2TU\7p\2\2U\4\3\2\2\2VW\7"+
-		"<\2\2W\6\3\2\2\2XY\7D\2\2YZ\7g\2\2Z[\7i\2\2[\\\7k\2\2\\]\7p\2\2]^\7H\2"+
-		"\2^_\7w\2\2_`\7p\2\2`a\7e\2\2a\b\3\2\2\2bc\7=\2\2c\n\3\2\2\2de\7G\2\2"+
-		"ef\7p\2\2fg\7f\2\2gh\7H\2\2hi\7w\2\2ij\7p\2\2jk\7e\2\2k\f\3\2\2\2lm\7"+
-		"K\2\2mn\7h\2\2no\7|\2\2o\16\3\2\2\2pq\7I\2\2qr\7q\2\2rs\7v\2\2st\7q\2"+
-		"\2t\20\3\2\2\2uv\7U\2\2vw\7v\2\2wx\7c\2\2xy\7t\2\2yz\7v\2\2z{\7Y\2\2{"+
-		"|\7j\2\2|}\7k\2\2}~\7n\2\2~\177\7g\2\2\177\u0080\7<\2\2\u0080\22\3\2\2"+
-		"\2\u0081\u0082\7?\2\2\u0082\24\3\2\2\2\u0083\u0084\7N\2\2\u0084\u0085"+
-		"\7E\2\2\u0085\u0086\7c\2\2\u0086\u0087\7n\2\2\u0087\u0088\7n\2\2\u0088"+
-		"\26\3\2\2\2\u0089\u008a\7R\2\2\u008a\u008b\7q\2\2\u008b\u008c\7r\2\2\u008c"+
-		"\u008d\7R\2\2\u008d\u008e\7c\2\2\u008e\u008f\7t\2\2\u008f\u0090\7c\2\2"+
-		"\u0090\u0091\7o\2\2\u0091\u0092\7u\2\2\u0092\30\3\2\2\2\u0093\u0094\7"+
-		"U\2\2\u0094\u0095\7E\2\2\u0095\u0096\7c\2\2\u0096\u0097\7n\2\2\u0097\u0098"+
-		"\7n\2\2\u0098\32\3\2\2\2\u0099\u009a\7G\2\2\u009a\u009b\7p\2\2\u009b\u009c"+
-		"\7f\2\2\u009c\u009d\7\"\2\2\u009d\u009e\7U\2\2\u009e\u009f\7e\2\2\u009f"+
-		"\u00a0\7c\2\2\u00a0\u00a1\7n\2\2\u00a1\u00a2\7n\2\2\u00a2\u00a3\7=\2\2"+
-		"\u00a3\34\3\2\2\2\u00a4\u00a5\7T\2\2\u00a5\u00a6\7g\2\2\u00a6\u00a7\7"+
-		"v\2\2\u00a7\u00a8\7w\2\2\u00a8\u00a9\7t\2\2\u00a9\u00aa\7p\2\2\u00aa\36"+
-		"\3\2\2\2\u00ab\u00ac\7\60\2\2\u00ac \3\2\2\2\u00ad\u00ae\7R\2\2\u00ae"+
-		"\u00af\7w\2\2\u00af\u00b0\7u\2\2\u00b0\u00b1\7j\2\2\u00b1\u00b2\7R\2\2"+
-		"\u00b2\u00b3\7c\2\2\u00b3\u00b4\7t\2\2\u00b4\u00b5\7c\2\2\u00b5\u00b6"+
-		"\7o\2\2\u00b6\"\3\2\2\2\u00b7\u00b8\7a\2\2\u00b8$\3\2\2\2\u00b9\u00ba"+
-		"\7,\2\2\u00ba\u00bb\7*\2\2\u00bb\u00bc\7a\2\2\u00bc&\3\2\2\2\u00bd\u00be"+
-		"\7+\2\2\u00be\u00bf\7=\2\2\u00bf(\3\2\2\2\u00c0\u00c1\7(\2\2\u00c1\u00c2"+
-		"\7(\2\2\u00c2*\3\2\2\2\u00c3\u00c4\7~\2\2\u00c4\u00c5\7~\2\2\u00c5,\3"+
-		"\2\2\2\u00c6\u00c7\7?\2\2\u00c7\u00c8\7?\2\2\u00c8.\3\2\2\2\u00c9\u00ca"+
-		"\7#\2\2\u00ca\u00cb\7?\2\2\u00cb\60\3\2\2\2\u00cc\u00cd\7>\2\2\u00cd\62"+
-		"\3\2\2\2\u00ce\u00cf\7>\2\2\u00cf\u00d0\7?\2\2\u00d0\64\3\2\2\2\u00d1"+
-		"\u00d2\7\'\2\2\u00d2\66\3\2\2\2\u00d3\u00d4\7\61\2\2\u00d48\3\2\2\2\u00d5"+
-		"\u00d6\7,\2\2\u00d6:\3\2\2\2\u00d7\u00d8\7-\2\2\u00d8<\3\2\2\2\u00d9\u00da"+
-		"\7/\2\2\u00da>\3\2\2\2\u00db\u00dc\7v\2\2\u00dc\u00dd\7t\2\2\u00dd\u00de"+
-		"\7w\2\2\u00de\u00df\7g\2\2\u00df@\3\2\2\2\u00e0\u00e1\7h\2\2\u00e1\u00e2"+
-		"\7c\2\2\u00e2\u00e3\7n\2\2\u00e3\u00e4\7u\2\2\u00e4\u00e5\7g\2\2\u00e5"+
-		"B\3\2\2\2\u00e6\u00e7\t\2\2\2\u00e7D\3\2\2\2\u00e8\u00e9\4\62;\2\u00e9"+
-		"F\3\2\2\2\u00ea\u00ef\5C\"\2\u00eb\u00ee\5C\"\2\u00ec\u00ee\5E#\2\u00ed"+
-		"\u00eb\3\2\2\2\u00ed\u00ec\3\2\2\2\u00ee\u00f1\3\2\2\2\u00ef\u00ed\3\2"+
-		"\2\2\u00ef\u00f0\3\2\2\2\u00f0H\3\2\2\2\u00f1\u00ef\3\2\2\2\u00f2\u00f6"+
-		"\5E#\2\u00f3\u00f5\5E#\2\u00f4\u00f3\3\2\2\2\u00f5\u00f8\3\2\2\2\u00f6"+
-		"\u00f4\3\2\2\2\u00f6\u00f7\3\2\2\2\u00f7J\3\2\2\2\u00f8\u00f6\3\2\2\2"+
-		"\u00f9\u00fa\7\61\2\2\u00fa\u00fb\7\61\2\2\u00fb\u00ff\3\2\2\2\u00fc\u00fe"+
-		"\n\3\2\2\u00fd\u00fc\3\2\2\2\u00fe\u0101\3\2\2\2\u00ff\u00fd\3\2\2\2\u00ff"+
-		"\u0100\3\2\2\2\u0100\u0102\3\2\2\2\u0101\u00ff\3\2\2\2\u0102\u0103\b&"+
-		"\2\2\u0103L\3\2\2\2\u0104\u0106\t\4\2\2\u0105\u0104\3\2\2\2\u0106\u0107"+
-		"\3\2\2\2\u0107\u0105\3\2\2\2\u0107\u0108\3\2\2\2\u0108\u0109\3\2\2\2\u0109"+
-		"\u010a\b\'\2\2\u010aN\3\2\2\2\u010b\u010f\7)\2\2\u010c\u0110\n\5\2\2\u010d"+
-		"\u010e\7^\2\2\u010e\u0110\t\6\2\2\u010f\u010c\3\2\2\2\u010f\u010d\3\2"+
-		"\2\2\u0110\u0111\3\2\2\2\u0111\u0112\7)\2\2\u0112P\3\2\2\2\t\2\u00ed\u00ef"+
-		"\u00f6\u00ff\u0107\u010f\3\2\3\2";
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4"+
+		"\3\4\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3"+
+		"\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n"+
+		"\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3"+
+		"\13\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\16"+
+		"\3\16\3\16\3\16\3\16\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\21\3\21"+
+		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22"+
+		"\3\22\3\23\3\23\3\23\3\24\3\24\3\25\3\25\3\26\3\26\3\27\3\27\3\27\3\30"+
+		"\3\30\3\30\3\31\3\31\3\31\3\32\3\32\3\32\3\33\3\33\3\34\3\34\3\34\3\35"+
+		"\3\35\3\36\3\36\3\36\3\37\3\37\3 \3 \3!\3!\3\"\3\"\3#\3#\3$\3$\3%\3%\3"+
+		"%\3%\3%\3&\3&\3&\3&\3&\3&\3\'\3\'\3(\3(\3)\3)\3)\7)\u0106\n)\f)\16)\u0109"+
+		"\13)\3*\3*\7*\u010d\n*\f*\16*\u0110\13*\3+\3+\3+\3+\7+\u0116\n+\f+\16"+
+		"+\u0119\13+\3+\3+\3,\6,\u011e\n,\r,\16,\u011f\3,\3,\3-\3-\3-\3-\5-\u0128"+
+		"\n-\3-\3-\2\2.\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16"+
+		"\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34"+
+		"\67\359\36;\37= ?!A\"C#E$G%I&K\'M\2O\2Q(S)U*W+Y,\3\2\7\4\2C\\c|\4\2\f"+
+		"\f\17\17\5\2\13\f\16\17\"\"\6\2\f\f\17\17))^^\4\2))^^\2\u012e\2\3\3\2"+
+		"\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17"+
+		"\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2"+
+		"\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3"+
+		"\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3"+
+		"\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2"+
+		"=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3"+
+		"\2\2\2\2K\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2"+
+		"\2\3[\3\2\2\2\5b\3\2\2\2\7d\3\2\2\2\tk\3\2\2\2\13p\3\2\2\2\rr\3\2\2\2"+
+		"\17|\3\2\2\2\21\u0084\3\2\2\2\23\u008a\3\2\2\2\25\u0090\3\2\2\2\27\u009c"+
+		"\3\2\2\2\31\u00a0\3\2\2\2\33\u00a5\3\2\2\2\35\u00af\3\2\2\2\37\u00b1\3"+
+		"\2\2\2!\u00b7\3\2\2\2#\u00c1\3\2\2\2%\u00c8\3\2\2\2\'\u00cb\3\2\2\2)\u00cd"+
+		"\3\2\2\2+\u00cf\3\2\2\2-\u00d1\3\2\2\2/\u00d4\3\2\2\2\61\u00d7\3\2\2\2"+
+		"\63\u00da\3\2\2\2\65\u00dd\3\2\2\2\67\u00df\3\2\2\29\u00e2\3\2\2\2;\u00e4"+
+		"\3\2\2\2=\u00e7\3\2\2\2?\u00e9\3\2\2\2A\u00eb\3\2\2\2C\u00ed\3\2\2\2E"+
+		"\u00ef\3\2\2\2G\u00f1\3\2\2\2I\u00f3\3\2\2\2K\u00f8\3\2\2\2M\u00fe\3\2"+
+		"\2\2O\u0100\3\2\2\2Q\u0102\3\2\2\2S\u010a\3\2\2\2U\u0111\3\2\2\2W\u011d"+
+		"\3\2\2\2Y\u0123\3\2\2\2[\\\7I\2\2\\]\7n\2\2]^\7q\2\2^_\7d\2\2_`\7c\2\2"+
+		"`a\7n\2\2a\4\3\2\2\2bc\7=\2\2c\6\3\2\2\2de\7U\2\2ef\7v\2\2fg\7t\2\2gh"+
+		"\7w\2\2hi\7e\2\2ij\7v\2\2j\b\3\2\2\2kl\7o\2\2lm\7c\2\2mn\7k\2\2no\7p\2"+
+		"\2o\n\3\2\2\2pq\7<\2\2q\f\3\2\2\2rs\7D\2\2st\7g\2\2tu\7i\2\2uv\7k\2\2"+
+		"vw\7p\2\2wx\7H\2\2xy\7w\2\2yz\7p\2\2z{\7e\2\2{\16\3\2\2\2|}\7G\2\2}~\7"+
+		"p\2\2~\177\7f\2\2\177\u0080\7H\2\2\u0080\u0081\7w\2\2\u0081\u0082\7p\2"+
+		"\2\u0082\u0083\7e\2\2\u0083\20\3\2\2\2\u0084\u0085\7R\2\2\u0085\u0086"+
+		"\7c\2\2\u0086\u0087\7t\2\2\u0087\u0088\7c\2\2\u0088\u0089\7o\2\2\u0089"+
+		"\22\3\2\2\2\u008a\u008b\7N\2\2\u008b\u008c\7q\2\2\u008c\u008d\7e\2\2\u008d"+
+		"\u008e\7c\2\2\u008e\u008f\7n\2\2\u008f\24\3\2\2\2\u0090\u0091\7U\2\2\u0091"+
+		"\u0092\7v\2\2\u0092\u0093\7c\2\2\u0093\u0094\7t\2\2\u0094\u0095\7v\2\2"+
+		"\u0095\u0096\7Y\2\2\u0096\u0097\7j\2\2\u0097\u0098\7k\2\2\u0098\u0099"+
+		"\7n\2\2\u0099\u009a\7g\2\2\u009a\u009b\7<\2\2\u009b\26\3\2\2\2\u009c\u009d"+
+		"\7K\2\2\u009d\u009e\7h\2\2\u009e\u009f\7|\2\2\u009f\30\3\2\2\2\u00a0\u00a1"+
+		"\7I\2\2\u00a1\u00a2\7q\2\2\u00a2\u00a3\7v\2\2\u00a3\u00a4\7q\2\2\u00a4"+
+		"\32\3\2\2\2\u00a5\u00a6\7R\2\2\u00a6\u00a7\7w\2\2\u00a7\u00a8\7u\2\2\u00a8"+
+		"\u00a9\7j\2\2\u00a9\u00aa\7R\2\2\u00aa\u00ab\7c\2\2\u00ab\u00ac\7t\2\2"+
+		"\u00ac\u00ad\7c\2\2\u00ad\u00ae\7o\2\2\u00ae\34\3\2\2\2\u00af\u00b0\7"+
+		"?\2\2\u00b0\36\3\2\2\2\u00b1\u00b2\7N\2\2\u00b2\u00b3\7E\2\2\u00b3\u00b4"+
+		"\7c\2\2\u00b4\u00b5\7n\2\2\u00b5\u00b6\7n\2\2\u00b6 \3\2\2\2\u00b7\u00b8"+
+		"\7R\2\2\u00b8\u00b9\7q\2\2\u00b9\u00ba\7r\2\2\u00ba\u00bb\7R\2\2\u00bb"+
+		"\u00bc\7c\2\2\u00bc\u00bd\7t\2\2\u00bd\u00be\7c\2\2\u00be\u00bf\7o\2\2"+
+		"\u00bf\u00c0\7u\2\2\u00c0\"\3\2\2\2\u00c1\u00c2\7T\2\2\u00c2\u00c3\7g"+
+		"\2\2\u00c3\u00c4\7v\2\2\u00c4\u00c5\7w\2\2\u00c5\u00c6\7t\2\2\u00c6\u00c7"+
+		"\7p\2\2\u00c7$\3\2\2\2\u00c8\u00c9\7,\2\2\u00c9\u00ca\7*\2\2\u00ca&\3"+
+		"\2\2\2\u00cb\u00cc\7+\2\2\u00cc(\3\2\2\2\u00cd\u00ce\7(\2\2\u00ce*\3\2"+
+		"\2\2\u00cf\u00d0\7a\2\2\u00d0,\3\2\2\2\u00d1\u00d2\7(\2\2\u00d2\u00d3"+
+		"\7(\2\2\u00d3.\3\2\2\2\u00d4\u00d5\7~\2\2\u00d5\u00d6\7~\2\2\u00d6\60"+
+		"\3\2\2\2\u00d7\u00d8\7?\2\2\u00d8\u00d9\7?\2\2\u00d9\62\3\2\2\2\u00da"+
+		"\u00db\7#\2\2\u00db\u00dc\7?\2\2\u00dc\64\3\2\2\2\u00dd\u00de\7>\2\2\u00de"+
+		"\66\3\2\2\2\u00df\u00e0\7>\2\2\u00e0\u00e1\7?\2\2\u00e18\3\2\2\2\u00e2"+
+		"\u00e3\7@\2\2\u00e3:\3\2\2\2\u00e4\u00e5\7@\2\2\u00e5\u00e6\7?\2\2\u00e6"+
+		"<\3\2\2\2\u00e7\u00e8\7\'\2\2\u00e8>\3\2\2\2\u00e9\u00ea\7\61\2\2\u00ea"+
+		"@\3\2\2\2\u00eb\u00ec\7,\2\2\u00ecB\3\2\2\2\u00ed\u00ee\7-\2\2\u00eeD"+
+		"\3\2\2\2\u00ef\u00f0\7/\2\2\u00f0F\3\2\2\2\u00f1\u00f2\7#\2\2\u00f2H\3"+
+		"\2\2\2\u00f3\u00f4\7v\2\2\u00f4\u00f5\7t\2\2\u00f5\u00f6\7w\2\2\u00f6"+
+		"\u00f7\7g\2\2\u00f7J\3\2\2\2\u00f8\u00f9\7h\2\2\u00f9\u00fa\7c\2\2\u00fa"+
+		"\u00fb\7n\2\2\u00fb\u00fc\7u\2\2\u00fc\u00fd\7g\2\2\u00fdL\3\2\2\2\u00fe"+
+		"\u00ff\t\2\2\2\u00ffN\3\2\2\2\u0100\u0101\4\62;\2\u0101P\3\2\2\2\u0102"+
+		"\u0107\5M\'\2\u0103\u0106\5M\'\2\u0104\u0106\5O(\2\u0105\u0103\3\2\2\2"+
+		"\u0105\u0104\3\2\2\2\u0106\u0109\3\2\2\2\u0107\u0105\3\2\2\2\u0107\u0108"+
+		"\3\2\2\2\u0108R\3\2\2\2\u0109\u0107\3\2\2\2\u010a\u010e\5O(\2\u010b\u010d"+
+		"\5O(\2\u010c\u010b\3\2\2\2\u010d\u0110\3\2\2\2\u010e\u010c\3\2\2\2\u010e"+
+		"\u010f\3\2\2\2\u010fT\3\2\2\2\u0110\u010e\3\2\2\2\u0111\u0112\7\61\2\2"+
+		"\u0112\u0113\7\61\2\2\u0113\u0117\3\2\2\2\u0114\u0116\n\3\2\2\u0115\u0114"+
+		"\3\2\2\2\u0116\u0119\3\2\2\2\u0117\u0115\3\2\2\2\u0117\u0118\3\2\2\2\u0118"+
+		"\u011a\3\2\2\2\u0119\u0117\3\2\2\2\u011a\u011b\b+\2\2\u011bV\3\2\2\2\u011c"+
+		"\u011e\t\4\2\2\u011d\u011c\3\2\2\2\u011e\u011f\3\2\2\2\u011f\u011d\3\2"+
+		"\2\2\u011f\u0120\3\2\2\2\u0120\u0121\3\2\2\2\u0121\u0122\b,\2\2\u0122"+
+		"X\3\2\2\2\u0123\u0127\7)\2\2\u0124\u0128\n\5\2\2\u0125\u0126\7^\2\2\u0126"+
+		"\u0128\t\6\2\2\u0127\u0124\3\2\2\2\u0127\u0125\3\2\2\2\u0128\u0129\3\2"+
+		"\2\2\u0129\u012a\7)\2\2\u012aZ\3\2\2\2\t\2\u0105\u0107\u010e\u0117\u011f"+
+		"\u0127\3\2\3\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -17,6 +17,30 @@ public interface tacListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitProgram(tacParser.ProgramContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code global}
+	 * labeled alternative in {@link tacParser#dataDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterGlobal(tacParser.GlobalContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code global}
+	 * labeled alternative in {@link tacParser#dataDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitGlobal(tacParser.GlobalContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code struct}
+	 * labeled alternative in {@link tacParser#dataDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterStruct(tacParser.StructContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code struct}
+	 * labeled alternative in {@link tacParser#dataDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitStruct(tacParser.StructContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link tacParser#declaration}.
 	 * @param ctx the parse tree
@@ -58,225 +82,271 @@ public interface tacListener extends ParseTreeListener {
 	 */
 	void exitFuncBlock(tacParser.FuncBlockContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#block}.
+	 * Enter a parse tree produced by the {@code param}
+	 * labeled alternative in {@link tacParser#variableDeclaration}.
 	 * @param ctx the parse tree
 	 */
-	void enterBlock(tacParser.BlockContext ctx);
+	void enterParam(tacParser.ParamContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#block}.
+	 * Exit a parse tree produced by the {@code param}
+	 * labeled alternative in {@link tacParser#variableDeclaration}.
 	 * @param ctx the parse tree
 	 */
-	void exitBlock(tacParser.BlockContext ctx);
+	void exitParam(tacParser.ParamContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#statement}.
+	 * Enter a parse tree produced by the {@code local}
+	 * labeled alternative in {@link tacParser#variableDeclaration}.
 	 * @param ctx the parse tree
 	 */
-	void enterStatement(tacParser.StatementContext ctx);
+	void enterLocal(tacParser.LocalContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#statement}.
+	 * Exit a parse tree produced by the {@code local}
+	 * labeled alternative in {@link tacParser#variableDeclaration}.
 	 * @param ctx the parse tree
 	 */
-	void exitStatement(tacParser.StatementContext ctx);
+	void exitLocal(tacParser.LocalContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#ifStatement}.
+	 * Enter a parse tree produced by the {@code labelInstruction}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterIfStatement(tacParser.IfStatementContext ctx);
+	void enterLabelInstruction(tacParser.LabelInstructionContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#ifStatement}.
+	 * Exit a parse tree produced by the {@code labelInstruction}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitIfStatement(tacParser.IfStatementContext ctx);
+	void exitLabelInstruction(tacParser.LabelInstructionContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#whileStatement}.
+	 * Enter a parse tree produced by the {@code startWhile}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterWhileStatement(tacParser.WhileStatementContext ctx);
+	void enterStartWhile(tacParser.StartWhileContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#whileStatement}.
+	 * Exit a parse tree produced by the {@code startWhile}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitWhileStatement(tacParser.WhileStatementContext ctx);
+	void exitStartWhile(tacParser.StartWhileContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#assignStatement}.
+	 * Enter a parse tree produced by the {@code ifz}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterAssignStatement(tacParser.AssignStatementContext ctx);
+	void enterIfz(tacParser.IfzContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#assignStatement}.
+	 * Exit a parse tree produced by the {@code ifz}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitAssignStatement(tacParser.AssignStatementContext ctx);
+	void exitIfz(tacParser.IfzContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#methodCall}.
+	 * Enter a parse tree produced by the {@code jump}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterMethodCall(tacParser.MethodCallContext ctx);
+	void enterJump(tacParser.JumpContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#methodCall}.
+	 * Exit a parse tree produced by the {@code jump}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitMethodCall(tacParser.MethodCallContext ctx);
+	void exitJump(tacParser.JumpContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#structCall}.
+	 * Enter a parse tree produced by the {@code pushParam}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterStructCall(tacParser.StructCallContext ctx);
+	void enterPushParam(tacParser.PushParamContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#structCall}.
+	 * Exit a parse tree produced by the {@code pushParam}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitStructCall(tacParser.StructCallContext ctx);
+	void exitPushParam(tacParser.PushParamContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#returnExp}.
+	 * Enter a parse tree produced by the {@code call}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterReturnExp(tacParser.ReturnExpContext ctx);
+	void enterCall(tacParser.CallContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#returnExp}.
+	 * Exit a parse tree produced by the {@code call}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitReturnExp(tacParser.ReturnExpContext ctx);
+	void exitCall(tacParser.CallContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#structLocation}.
+	 * Enter a parse tree produced by the {@code popParams}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterStructLocation(tacParser.StructLocationContext ctx);
+	void enterPopParams(tacParser.PopParamsContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#structLocation}.
+	 * Exit a parse tree produced by the {@code popParams}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitStructLocation(tacParser.StructLocationContext ctx);
+	void exitPopParams(tacParser.PopParamsContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#pushParam}.
+	 * Enter a parse tree produced by the {@code returnInstruction}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterPushParam(tacParser.PushParamContext ctx);
+	void enterReturnInstruction(tacParser.ReturnInstructionContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#pushParam}.
+	 * Exit a parse tree produced by the {@code returnInstruction}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitPushParam(tacParser.PushParamContext ctx);
+	void exitReturnInstruction(tacParser.ReturnInstructionContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#location}.
+	 * Enter a parse tree produced by the {@code store}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterLocation(tacParser.LocationContext ctx);
+	void enterStore(tacParser.StoreContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#location}.
+	 * Exit a parse tree produced by the {@code store}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitLocation(tacParser.LocationContext ctx);
+	void exitStore(tacParser.StoreContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#memoryLocation}.
+	 * Enter a parse tree produced by the {@code assign}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterMemoryLocation(tacParser.MemoryLocationContext ctx);
+	void enterAssign(tacParser.AssignContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#memoryLocation}.
+	 * Exit a parse tree produced by the {@code assign}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitMemoryLocation(tacParser.MemoryLocationContext ctx);
+	void exitAssign(tacParser.AssignContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#label}.
+	 * Enter a parse tree produced by the {@code empty}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void enterLabel(tacParser.LabelContext ctx);
+	void enterEmpty(tacParser.EmptyContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#label}.
+	 * Exit a parse tree produced by the {@code empty}
+	 * labeled alternative in {@link tacParser#instruction}.
 	 * @param ctx the parse tree
 	 */
-	void exitLabel(tacParser.LabelContext ctx);
+	void exitEmpty(tacParser.EmptyContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#expression}.
+	 * Enter a parse tree produced by the {@code copy}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpression(tacParser.ExpressionContext ctx);
+	void enterCopy(tacParser.CopyContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#expression}.
+	 * Exit a parse tree produced by the {@code copy}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpression(tacParser.ExpressionContext ctx);
+	void exitCopy(tacParser.CopyContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#and_op}.
+	 * Enter a parse tree produced by the {@code binary}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterAnd_op(tacParser.And_opContext ctx);
+	void enterBinary(tacParser.BinaryContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#and_op}.
+	 * Exit a parse tree produced by the {@code binary}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitAnd_op(tacParser.And_opContext ctx);
+	void exitBinary(tacParser.BinaryContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#or_op}.
+	 * Enter a parse tree produced by the {@code unary}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterOr_op(tacParser.Or_opContext ctx);
+	void enterUnary(tacParser.UnaryContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#or_op}.
+	 * Exit a parse tree produced by the {@code unary}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitOr_op(tacParser.Or_opContext ctx);
+	void exitUnary(tacParser.UnaryContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#eq_op}.
+	 * Enter a parse tree produced by the {@code address}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterEq_op(tacParser.Eq_opContext ctx);
+	void enterAddress(tacParser.AddressContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#eq_op}.
+	 * Exit a parse tree produced by the {@code address}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitEq_op(tacParser.Eq_opContext ctx);
+	void exitAddress(tacParser.AddressContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#rel_op}.
+	 * Enter a parse tree produced by the {@code load}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterRel_op(tacParser.Rel_opContext ctx);
+	void enterLoad(tacParser.LoadContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#rel_op}.
+	 * Exit a parse tree produced by the {@code load}
+	 * labeled alternative in {@link tacParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitRel_op(tacParser.Rel_opContext ctx);
+	void exitLoad(tacParser.LoadContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#modulus_op}.
+	 * Enter a parse tree produced by {@link tacParser#operand}.
 	 * @param ctx the parse tree
 	 */
-	void enterModulus_op(tacParser.Modulus_opContext ctx);
+	void enterOperand(tacParser.OperandContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#modulus_op}.
+	 * Exit a parse tree produced by {@link tacParser#operand}.
 	 * @param ctx the parse tree
 	 */
-	void exitModulus_op(tacParser.Modulus_opContext ctx);
+	void exitOperand(tacParser.OperandContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#div_op}.
+	 * Enter a parse tree produced by {@link tacParser#location}.
 	 * @param ctx the parse tree
 	 */
-	void enterDiv_op(tacParser.Div_opContext ctx);
+	void enterLocation(tacParser.LocationContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#div_op}.
+	 * Exit a parse tree produced by {@link tacParser#location}.
 	 * @param ctx the parse tree
 	 */
-	void exitDiv_op(tacParser.Div_opContext ctx);
+	void exitLocation(tacParser.LocationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link tacParser#label}.
+	 * @param ctx the parse tree
+	 */
+	void enterLabel(tacParser.LabelContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link tacParser#label}.
+	 * @param ctx the parse tree
+	 */
+	void exitLabel(tacParser.LabelContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#mul_op}.
+	 * Enter a parse tree produced by {@link tacParser#binary_op}.
 	 * @param ctx the parse tree
 	 */
-	void enterMul_op(tacParser.Mul_opContext ctx);
+	void enterBinary_op(tacParser.Binary_opContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#mul_op}.
+	 * Exit a parse tree produced by {@link tacParser#binary_op}.
 	 * @param ctx the parse tree
 	 */
-	void exitMul_op(tacParser.Mul_opContext ctx);
+	void exitBinary_op(tacParser.Binary_opContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link tacParser#arith_op_sum_subs}.
+	 * Enter a parse tree produced by {@link tacParser#unary_op}.
 	 * @param ctx the parse tree
 	 */
-	void enterArith_op_sum_subs(tacParser.Arith_op_sum_subsContext ctx);
+	void enterUnary_op(tacParser.Unary_opContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link tacParser#arith_op_sum_subs}.
+	 * Exit a parse tree produced by {@link tacParser#unary_op}.
 	 * @param ctx the parse tree
 	 */
-	void exitArith_op_sum_subs(tacParser.Arith_op_sum_subsContext ctx);
+	void exitUnary_op(tacParser.Unary_opContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link tacParser#literal}.
 	 * @param ctx the parse tree
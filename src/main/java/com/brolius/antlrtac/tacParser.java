@@ -21,37 +21,33 @@ public class tacParser extends Parser {
 		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
 		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
-		T__31=32, ID=33, NUM=34, COMMENTS=35, WHITESPACE=36, CHAR=37;
+		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, ID=38, NUM=39, 
+		COMMENTS=40, WHITESPACE=41, CHAR=42;
 	public static final int
-		RULE_program = 0, RULE_declaration = 1, RULE_mainDeclaration = 2, RULE_methodDeclaration = 3, 
-		RULE_funcBlock = 4, RULE_block = 5, RULE_statement = 6, RULE_ifStatement = 7, 
-		RULE_whileStatement = 8, RULE_assignStatement = 9, RULE_methodCall = 10, 
-		RULE_structCall = 11, RULE_returnExp = 12, RULE_structLocation = 13, RULE_pushParam = 14, 
-		RULE_location = 15, RULE_memoryLocation = 16, RULE_label = 17, RULE_expression = 18, 
-		RULE_and_op = 19, RULE_or_op = 20, RULE_eq_op = 21, RULE_rel_op = 22, 
-		RULE_modulus_op = 23, RULE_div_op = 24, RULE_mul_op = 25, RULE_arith_op_sum_subs = 26, 
-		RULE_literal = 27, RULE_int_literal = 28, RULE_char_literal = 29, RULE_bool_literal = 30;
+		RULE_program = 0, RULE_dataDeclaration = 1, RULE_declaration = 2, RULE_mainDeclaration = 3, 
+		RULE_methodDeclaration = 4, RULE_funcBlock = 5, RULE_variableDeclaration = 6, 
+		RULE_instruction = 7, RULE_expression = 8, RULE_operand = 9, RULE_location = 10, 
+		RULE_label = 11, RULE_binary_op = 12, RULE_unary_op = 13, RULE_literal = 14, 
+		RULE_int_literal = 15, RULE_char_literal = 16, RULE_bool_literal = 17;
 	public static final String[] ruleNames = {
-		"program", "declaration", "mainDeclaration", "methodDeclaration", "funcBlock", 
-		"block", "statement", "ifStatement", "whileStatement", "assignStatement", 
-		"methodCall", "structCall", "returnExp", "structLocation", "pushParam", 
-		"location", "memoryLocation", "label", "expression", "and_op", "or_op", 
-		"eq_op", "rel_op", "modulus_op", "div_op", "mul_op", "arith_op_sum_subs", 
-		"literal", "int_literal", "char_literal", "bool_literal"
+		"program", "dataDeclaration", "declaration", "mainDeclaration", "methodDeclaration", 
+		"funcBlock", "variableDeclaration", "instruction", "expression", "operand", 
+		"location", "label", "binary_op", "unary_op", "literal", "int_literal", 
+		"char_literal", "bool_literal"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
-		null, "'main'", "':'", "'BeginFunc'", "';'", "'EndFunc'", "'Ifz'", "'Goto'", 
-		"'StartWhile:'", "'='", "'LCall'", "'PopParams'", "'SCall'", "'End Scall;'", 
-		"'Return'", "'.'", "'PushParam'", "'_'", "'*(_'", "');'", "'&&'", "'||'", 
-		"'=='", "'!='", "'<'", "'<='", "'%'", "'/'", "'*'", "'+'", "'-'", "'true'", 
-		"'false'"
+		null, "'Global'", "';'", "'Struct'", "'main'", "':'", "'BeginFunc'", "'EndFunc'", 
+		"'Param'", "'Local'", "'StartWhile:'", "'Ifz'", "'Goto'", "'PushParam'", 
+		"'='", "'LCall'", "'PopParams'", "'Return'", "'*('", "')'", "'&'", "'_'", 
+		"'&&'", "'||'", "'=='", "'!='", "'<'", "'<='", "'>'", "'>='", "'%'", "'/'", 
+		"'*'", "'+'", "'-'", "'!'", "'true'", "'false'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, null, null, null, "ID", "NUM", "COMMENTS", 
-		"WHITESPACE", "CHAR"
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, "ID", "NUM", "COMMENTS", "WHITESPACE", "CHAR"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -103,6 +99,12 @@ public class tacParser extends Parser {
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
 	}
 	public static class ProgramContext extends ParserRuleContext {
+		public List<DataDeclarationContext> dataDeclaration() {
+			return getRuleContexts(DataDeclarationContext.class);
+		}
+		public DataDeclarationContext dataDeclaration(int i) {
+			return getRuleContext(DataDeclarationContext.class,i);
+		}
 		public List<DeclarationContext> declaration() {
 			return getRuleContexts(DeclarationContext.class);
 		}
@@ -130,17 +132,31 @@ public class tacParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(65);
+			setState(39);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__0 || _la==T__2) {
+				{
+				{
+				setState(36);
+				dataDeclaration();
+				}
+				}
+				setState(41);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(45);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__16) | (1L << T__17) | (1L << ID))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__20) | (1L << ID))) != 0)) {
 				{
 				{
-				setState(62);
+				setState(42);
 				declaration();
 				}
 				}
-				setState(67);
+				setState(47);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -157,6 +173,94 @@ public class tacParser extends Parser {
 		return _localctx;
 	}
 
+	public static class DataDeclarationContext extends ParserRuleContext {
+		public DataDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dataDeclaration; }
+	 
+		public DataDeclarationContext() { }
+		public void copyFrom(DataDeclarationContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class StructContext extends DataDeclarationContext {
+		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
+		public TerminalNode NUM() { return getToken(tacParser.NUM, 0); }
+		public StructContext(DataDeclarationContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterStruct(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitStruct(this);
+		}
+	}
+	public static class GlobalContext extends DataDeclarationContext {
+		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
+		public TerminalNode NUM() { return getToken(tacParser.NUM, 0); }
+		public GlobalContext(DataDeclarationContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterGlobal(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitGlobal(this);
+		}
+	}
+
+	public final DataDeclarationContext dataDeclaration() throws RecognitionException {
+		DataDeclarationContext _localctx = new DataDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_dataDeclaration);
+		try {
+			setState(56);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case T__0:
+				_localctx = new GlobalContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(48);
+				match(T__0);
+				setState(49);
+				match(ID);
+				setState(50);
+				match(NUM);
+				setState(51);
+				match(T__1);
+				}
+				break;
+			case T__2:
+				_localctx = new StructContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(52);
+				match(T__2);
+				setState(53);
+				match(ID);
+				setState(54);
+				match(NUM);
+				setState(55);
+				match(T__1);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class DeclarationContext extends ParserRuleContext {
 		public MainDeclarationContext mainDeclaration() {
 			return getRuleContext(MainDeclarationContext.class,0);
@@ -180,24 +284,23 @@ public class tacParser extends Parser {
 
 	public final DeclarationContext declaration() throws RecognitionException {
 		DeclarationContext _localctx = new DeclarationContext(_ctx, getState());
-		enterRule(_localctx, 2, RULE_declaration);
+		enterRule(_localctx, 4, RULE_declaration);
 		try {
-			setState(70);
+			setState(60);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__0:
+			case T__3:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(68);
+				setState(58);
 				mainDeclaration();
 				}
 				break;
-			case T__16:
-			case T__17:
+			case T__20:
 			case ID:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(69);
+				setState(59);
 				methodDeclaration();
 				}
 				break;
@@ -236,15 +339,15 @@ public class tacParser extends Parser {
 
 	public final MainDeclarationContext mainDeclaration() throws RecognitionException {
 		MainDeclarationContext _localctx = new MainDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 4, RULE_mainDeclaration);
+		enterRule(_localctx, 6, RULE_mainDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(72);
-			match(T__0);
-			setState(73);
-			match(T__1);
-			setState(74);
+			setState(62);
+			match(T__3);
+			setState(63);
+			match(T__4);
+			setState(64);
 			funcBlock();
 			}
 		}
@@ -282,15 +385,15 @@ public class tacParser extends Parser {
 
 	public final MethodDeclarationContext methodDeclaration() throws RecognitionException {
 		MethodDeclarationContext _localctx = new MethodDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_methodDeclaration);
+		enterRule(_localctx, 8, RULE_methodDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(76);
+			setState(66);
 			location();
-			setState(77);
-			match(T__1);
-			setState(78);
+			setState(67);
+			match(T__4);
+			setState(68);
 			funcBlock();
 			}
 		}
@@ -307,8 +410,17 @@ public class tacParser extends Parser {
 
 	public static class FuncBlockContext extends ParserRuleContext {
 		public TerminalNode NUM() { return getToken(tacParser.NUM, 0); }
-		public BlockContext block() {
-			return getRuleContext(BlockContext.class,0);
+		public List<VariableDeclarationContext> variableDeclaration() {
+			return getRuleContexts(VariableDeclarationContext.class);
+		}
+		public VariableDeclarationContext variableDeclaration(int i) {
+			return getRuleContext(VariableDeclarationContext.class,i);
+		}
+		public List<InstructionContext> instruction() {
+			return getRuleContexts(InstructionContext.class);
+		}
+		public InstructionContext instruction(int i) {
+			return getRuleContext(InstructionContext.class,i);
 		}
 		public FuncBlockContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -326,22 +438,49 @@ public class tacParser extends Parser {
 
 	public final FuncBlockContext funcBlock() throws RecognitionException {
 		FuncBlockContext _localctx = new FuncBlockContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_funcBlock);
+		enterRule(_localctx, 10, RULE_funcBlock);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(80);
-			match(T__2);
-			setState(81);
+			setState(70);
+			match(T__5);
+			setState(71);
 			match(NUM);
+			setState(72);
+			match(T__1);
+			setState(76);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__7 || _la==T__8) {
+				{
+				{
+				setState(73);
+				variableDeclaration();
+				}
+				}
+				setState(78);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
 			setState(82);
-			match(T__3);
-			setState(83);
-			block();
-			setState(84);
-			match(T__4);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__20) | (1L << ID))) != 0)) {
+				{
+				{
+				setState(79);
+				instruction();
+				}
+				}
+				setState(84);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
 			setState(85);
-			match(T__3);
+			match(T__6);
+			setState(86);
+			match(T__1);
 			}
 		}
 		catch (RecognitionException re) {
@@ -355,166 +494,78 @@ public class tacParser extends Parser {
 		return _localctx;
 	}
 
-	public static class BlockContext extends ParserRuleContext {
-		public List<StatementContext> statement() {
-			return getRuleContexts(StatementContext.class);
-		}
-		public StatementContext statement(int i) {
-			return getRuleContext(StatementContext.class,i);
-		}
-		public BlockContext(ParserRuleContext parent, int invokingState) {
+	public static class VariableDeclarationContext extends ParserRuleContext {
+		public VariableDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_block; }
+		@Override public int getRuleIndex() { return RULE_variableDeclaration; }
+	 
+		public VariableDeclarationContext() { }
+		public void copyFrom(VariableDeclarationContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class ParamContext extends VariableDeclarationContext {
+		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
+		public ParamContext(VariableDeclarationContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterBlock(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterParam(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitBlock(this);
-		}
-	}
-
-	public final BlockContext block() throws RecognitionException {
-		BlockContext _localctx = new BlockContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_block);
-		try {
-			int _alt;
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(90);
-			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					{
-					{
-					setState(87);
-					statement();
-					}
-					} 
-				}
-				setState(92);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitParam(this);
 		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
 	}
-
-	public static class StatementContext extends ParserRuleContext {
-		public IfStatementContext ifStatement() {
-			return getRuleContext(IfStatementContext.class,0);
-		}
-		public WhileStatementContext whileStatement() {
-			return getRuleContext(WhileStatementContext.class,0);
-		}
-		public ReturnExpContext returnExp() {
-			return getRuleContext(ReturnExpContext.class,0);
-		}
-		public MethodCallContext methodCall() {
-			return getRuleContext(MethodCallContext.class,0);
-		}
-		public StructCallContext structCall() {
-			return getRuleContext(StructCallContext.class,0);
-		}
-		public AssignStatementContext assignStatement() {
-			return getRuleContext(AssignStatementContext.class,0);
-		}
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
-		}
-		public StatementContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_statement; }
+	public static class LocalContext extends VariableDeclarationContext {
+		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
+		public TerminalNode NUM() { return getToken(tacParser.NUM, 0); }
+		public LocalContext(VariableDeclarationContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterStatement(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterLocal(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitStatement(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitLocal(this);
 		}
 	}
 
-	public final StatementContext statement() throws RecognitionException {
-		StatementContext _localctx = new StatementContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_statement);
-		int _la;
+	public final VariableDeclarationContext variableDeclaration() throws RecognitionException {
+		VariableDeclarationContext _localctx = new VariableDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_variableDeclaration);
 		try {
-			setState(103);
+			setState(95);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
-			case 1:
+			switch (_input.LA(1)) {
+			case T__7:
+				_localctx = new ParamContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(93);
-				ifStatement();
+				setState(88);
+				match(T__7);
+				setState(89);
+				match(ID);
+				setState(90);
+				match(T__1);
 				}
 				break;
-			case 2:
+			case T__8:
+				_localctx = new LocalContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
+				setState(91);
+				match(T__8);
+				setState(92);
+				match(ID);
+				setState(93);
+				match(NUM);
 				setState(94);
-				whileStatement();
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(95);
-				returnExp();
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(96);
-				methodCall();
-				}
-				break;
-			case 5:
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(97);
-				structCall();
-				}
-				break;
-			case 6:
-				enterOuterAlt(_localctx, 6);
-				{
-				setState(98);
-				assignStatement();
-				}
-				break;
-			case 7:
-				enterOuterAlt(_localctx, 7);
-				{
-				setState(100);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__30) | (1L << T__31) | (1L << ID) | (1L << NUM) | (1L << CHAR))) != 0)) {
-					{
-					setState(99);
-					expression(0);
-					}
-				}
-
-				setState(102);
-				match(T__3);
+				match(T__1);
 				}
 				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -528,839 +579,353 @@ public class tacParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IfStatementContext extends ParserRuleContext {
-		public List<LocationContext> location() {
-			return getRuleContexts(LocationContext.class);
+	public static class InstructionContext extends ParserRuleContext {
+		public InstructionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public LocationContext location(int i) {
-			return getRuleContext(LocationContext.class,i);
+		@Override public int getRuleIndex() { return RULE_instruction; }
+	 
+		public InstructionContext() { }
+		public void copyFrom(InstructionContext ctx) {
+			super.copyFrom(ctx);
 		}
-		public List<BlockContext> block() {
-			return getRuleContexts(BlockContext.class);
+	}
+	public static class PushParamContext extends InstructionContext {
+		public OperandContext operand() {
+			return getRuleContext(OperandContext.class,0);
 		}
-		public BlockContext block(int i) {
-			return getRuleContext(BlockContext.class,i);
+		public PushParamContext(InstructionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterPushParam(this);
 		}
-		public List<LabelContext> label() {
-			return getRuleContexts(LabelContext.class);
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitPushParam(this);
 		}
-		public LabelContext label(int i) {
-			return getRuleContext(LabelContext.class,i);
+	}
+	public static class CallContext extends InstructionContext {
+		public List<LocationContext> location() {
+			return getRuleContexts(LocationContext.class);
 		}
-		public IfStatementContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public LocationContext location(int i) {
+			return getRuleContext(LocationContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_ifStatement; }
+		public CallContext(InstructionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterIfStatement(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterCall(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitIfStatement(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitCall(this);
 		}
 	}
-
-	public final IfStatementContext ifStatement() throws RecognitionException {
-		IfStatementContext _localctx = new IfStatementContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_ifStatement);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(105);
-			match(T__5);
-			setState(106);
-			location();
-			setState(107);
-			match(T__6);
-			setState(108);
-			location();
-			setState(109);
-			match(T__3);
-			setState(110);
-			block();
-			setState(111);
-			match(T__6);
-			setState(112);
-			location();
-			setState(113);
-			match(T__3);
-			setState(114);
-			label();
-			setState(115);
-			block();
-			setState(116);
-			label();
-			}
+	public static class LabelInstructionContext extends InstructionContext {
+		public LabelContext label() {
+			return getRuleContext(LabelContext.class,0);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public LabelInstructionContext(InstructionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterLabelInstruction(this);
 		}
-		finally {
-			exitRule();
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitLabelInstruction(this);
 		}
-		return _localctx;
 	}
-
-	public static class WhileStatementContext extends ParserRuleContext {
-		public List<LabelContext> label() {
-			return getRuleContexts(LabelContext.class);
-		}
-		public LabelContext label(int i) {
-			return getRuleContext(LabelContext.class,i);
-		}
-		public List<LocationContext> location() {
-			return getRuleContexts(LocationContext.class);
-		}
-		public LocationContext location(int i) {
-			return getRuleContext(LocationContext.class,i);
+	public static class ReturnInstructionContext extends InstructionContext {
+		public OperandContext operand() {
+			return getRuleContext(OperandContext.class,0);
 		}
-		public BlockContext block() {
-			return getRuleContext(BlockContext.class,0);
-		}
-		public AssignStatementContext assignStatement() {
-			return getRuleContext(AssignStatementContext.class,0);
+		public ReturnInstructionContext(InstructionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterReturnInstruction(this);
 		}
-		public WhileStatementContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitReturnInstruction(this);
 		}
-		@Override public int getRuleIndex() { return RULE_whileStatement; }
+	}
+	public static class StartWhileContext extends InstructionContext {
+		public StartWhileContext(InstructionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterWhileStatement(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterStartWhile(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitWhileStatement(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitStartWhile(this);
 		}
 	}
-
-	public final WhileStatementContext whileStatement() throws RecognitionException {
-		WhileStatementContext _localctx = new WhileStatementContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_whileStatement);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(118);
-			match(T__7);
-			setState(119);
-			label();
-			{
-			setState(120);
-			assignStatement();
-			}
-			setState(121);
-			match(T__5);
-			setState(122);
-			location();
-			setState(123);
-			match(T__6);
-			setState(124);
-			location();
-			setState(125);
-			match(T__3);
-			setState(126);
-			block();
-			setState(127);
-			match(T__6);
-			setState(128);
-			location();
-			setState(132);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==T__1) {
-				{
-				{
-				setState(129);
-				match(T__1);
-				}
-				}
-				setState(134);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(135);
-			label();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class AssignStatementContext extends ParserRuleContext {
-		public LocationContext location() {
-			return getRuleContext(LocationContext.class,0);
-		}
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
-		}
-		public AssignStatementContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_assignStatement; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterAssignStatement(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitAssignStatement(this);
-		}
-	}
-
-	public final AssignStatementContext assignStatement() throws RecognitionException {
-		AssignStatementContext _localctx = new AssignStatementContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_assignStatement);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(137);
-			location();
-			setState(138);
-			match(T__8);
-			setState(139);
-			expression(0);
-			setState(140);
-			match(T__3);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class MethodCallContext extends ParserRuleContext {
-		public LocationContext location() {
-			return getRuleContext(LocationContext.class,0);
-		}
+	public static class PopParamsContext extends InstructionContext {
 		public TerminalNode NUM() { return getToken(tacParser.NUM, 0); }
-		public List<PushParamContext> pushParam() {
-			return getRuleContexts(PushParamContext.class);
-		}
-		public PushParamContext pushParam(int i) {
-			return getRuleContext(PushParamContext.class,i);
-		}
-		public MethodCallContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_methodCall; }
+		public PopParamsContext(InstructionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterMethodCall(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterPopParams(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitMethodCall(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitPopParams(this);
 		}
 	}
-
-	public final MethodCallContext methodCall() throws RecognitionException {
-		MethodCallContext _localctx = new MethodCallContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_methodCall);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(145);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==T__15) {
-				{
-				{
-				setState(142);
-				pushParam();
-				}
-				}
-				setState(147);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(148);
-			match(T__9);
-			setState(149);
-			location();
-			setState(150);
-			match(T__3);
-			setState(151);
-			match(T__10);
-			setState(152);
-			match(NUM);
-			setState(153);
-			match(T__3);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class StructCallContext extends ParserRuleContext {
-		public StructLocationContext structLocation() {
-			return getRuleContext(StructLocationContext.class,0);
+	public static class StoreContext extends InstructionContext {
+		public List<OperandContext> operand() {
+			return getRuleContexts(OperandContext.class);
 		}
-		public BlockContext block() {
-			return getRuleContext(BlockContext.class,0);
+		public OperandContext operand(int i) {
+			return getRuleContext(OperandContext.class,i);
 		}
-		public StructCallContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_structCall; }
+		public StoreContext(InstructionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterStructCall(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterStore(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitStructCall(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitStore(this);
 		}
 	}
-
-	public final StructCallContext structCall() throws RecognitionException {
-		StructCallContext _localctx = new StructCallContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_structCall);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(155);
-			match(T__11);
-			setState(156);
-			structLocation();
-			setState(157);
-			block();
-			setState(158);
-			match(T__12);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
+	public static class IfzContext extends InstructionContext {
+		public OperandContext operand() {
+			return getRuleContext(OperandContext.class,0);
 		}
-		return _localctx;
-	}
-
-	public static class ReturnExpContext extends ParserRuleContext {
 		public LocationContext location() {
 			return getRuleContext(LocationContext.class,0);
 		}
-		public ReturnExpContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_returnExp; }
+		public IfzContext(InstructionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterReturnExp(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterIfz(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitReturnExp(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitIfz(this);
 		}
 	}
-
-	public final ReturnExpContext returnExp() throws RecognitionException {
-		ReturnExpContext _localctx = new ReturnExpContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_returnExp);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(160);
-			match(T__13);
-			setState(161);
-			location();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class StructLocationContext extends ParserRuleContext {
-		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
-		public StructLocationContext structLocation() {
-			return getRuleContext(StructLocationContext.class,0);
-		}
-		public StructLocationContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+	public static class JumpContext extends InstructionContext {
+		public Token loop;
+		public LocationContext location() {
+			return getRuleContext(LocationContext.class,0);
 		}
-		@Override public int getRuleIndex() { return RULE_structLocation; }
+		public JumpContext(InstructionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterStructLocation(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterJump(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitStructLocation(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitJump(this);
 		}
 	}
-
-	public final StructLocationContext structLocation() throws RecognitionException {
-		StructLocationContext _localctx = new StructLocationContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_structLocation);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(163);
-			match(ID);
-			setState(166);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if (_la==T__14) {
-				{
-				setState(164);
-				match(T__14);
-				setState(165);
-				structLocation();
-				}
-			}
-
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class PushParamContext extends ParserRuleContext {
+	public static class AssignContext extends InstructionContext {
 		public LocationContext location() {
 			return getRuleContext(LocationContext.class,0);
 		}
-		public PushParamContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		@Override public int getRuleIndex() { return RULE_pushParam; }
+		public AssignContext(InstructionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterPushParam(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterAssign(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitPushParam(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitAssign(this);
 		}
 	}
-
-	public final PushParamContext pushParam() throws RecognitionException {
-		PushParamContext _localctx = new PushParamContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_pushParam);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(168);
-			match(T__15);
-			setState(169);
-			location();
-			setState(170);
-			match(T__3);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class LocationContext extends ParserRuleContext {
-		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
-		public MemoryLocationContext memoryLocation() {
-			return getRuleContext(MemoryLocationContext.class,0);
-		}
-		public LocationContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_location; }
+	public static class EmptyContext extends InstructionContext {
+		public EmptyContext(InstructionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterLocation(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterEmpty(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitLocation(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitEmpty(this);
 		}
 	}
 
-	public final LocationContext location() throws RecognitionException {
-		LocationContext _localctx = new LocationContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_location);
+	public final InstructionContext instruction() throws RecognitionException {
+		InstructionContext _localctx = new InstructionContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_instruction);
+		int _la;
 		try {
-			setState(176);
+			setState(145);
 			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case ID:
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
+			case 1:
+				_localctx = new LabelInstructionContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(172);
-				match(ID);
+				setState(97);
+				label();
 				}
 				break;
-			case T__16:
+			case 2:
+				_localctx = new StartWhileContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(173);
-				match(T__16);
-				setState(174);
-				match(ID);
-				}
-				break;
-			case T__17:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(175);
-				memoryLocation();
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class MemoryLocationContext extends ParserRuleContext {
-		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
-		public MemoryLocationContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_memoryLocation; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterMemoryLocation(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitMemoryLocation(this);
-		}
-	}
-
-	public final MemoryLocationContext memoryLocation() throws RecognitionException {
-		MemoryLocationContext _localctx = new MemoryLocationContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_memoryLocation);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(178);
-			match(T__17);
-			setState(179);
-			match(ID);
-			setState(180);
-			match(T__18);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class LabelContext extends ParserRuleContext {
-		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
-		public LabelContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_label; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterLabel(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitLabel(this);
-		}
-	}
-
-	public final LabelContext label() throws RecognitionException {
-		LabelContext _localctx = new LabelContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_label);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(182);
-			match(T__16);
-			setState(183);
-			match(ID);
-			setState(184);
-			match(T__1);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class ExpressionContext extends ParserRuleContext {
-		public MethodCallContext methodCall() {
-			return getRuleContext(MethodCallContext.class,0);
-		}
-		public LocationContext location() {
-			return getRuleContext(LocationContext.class,0);
-		}
-		public LiteralContext literal() {
-			return getRuleContext(LiteralContext.class,0);
-		}
-		public List<ExpressionContext> expression() {
-			return getRuleContexts(ExpressionContext.class);
-		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
-		}
-		public And_opContext and_op() {
-			return getRuleContext(And_opContext.class,0);
-		}
-		public Or_opContext or_op() {
-			return getRuleContext(Or_opContext.class,0);
-		}
-		public Eq_opContext eq_op() {
-			return getRuleContext(Eq_opContext.class,0);
-		}
-		public Rel_opContext rel_op() {
-			return getRuleContext(Rel_opContext.class,0);
-		}
-		public Modulus_opContext modulus_op() {
-			return getRuleContext(Modulus_opContext.class,0);
-		}
-		public Div_opContext div_op() {
-			return getRuleContext(Div_opContext.class,0);
-		}
-		public Mul_opContext mul_op() {
-			return getRuleContext(Mul_opContext.class,0);
-		}
-		public Arith_op_sum_subsContext arith_op_sum_subs() {
-			return getRuleContext(Arith_op_sum_subsContext.class,0);
-		}
-		public ExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitExpression(this);
-		}
-	}
-
-	public final ExpressionContext expression() throws RecognitionException {
-		return expression(0);
-	}
-
-	private ExpressionContext expression(int _p) throws RecognitionException {
-		ParserRuleContext _parentctx = _ctx;
-		int _parentState = getState();
-		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
-		ExpressionContext _prevctx = _localctx;
-		int _startState = 36;
-		enterRecursionRule(_localctx, 36, RULE_expression, _p);
-		try {
-			int _alt;
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(190);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__9:
-			case T__15:
+				setState(98);
+				match(T__9);
+				}
+				break;
+			case 3:
+				_localctx = new IfzContext(_localctx);
+				enterOuterAlt(_localctx, 3);
 				{
-				setState(187);
-				methodCall();
+				setState(99);
+				match(T__10);
+				setState(100);
+				operand();
+				setState(101);
+				match(T__11);
+				setState(102);
+				location();
+				setState(103);
+				match(T__1);
 				}
 				break;
-			case T__16:
-			case T__17:
-			case ID:
+			case 4:
+				_localctx = new JumpContext(_localctx);
+				enterOuterAlt(_localctx, 4);
 				{
-				setState(188);
+				setState(105);
+				match(T__11);
+				setState(106);
 				location();
+				setState(109);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case T__1:
+					{
+					setState(107);
+					match(T__1);
+					}
+					break;
+				case T__4:
+					{
+					setState(108);
+					((JumpContext)_localctx).loop = match(T__4);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
 				}
 				break;
-			case T__30:
-			case T__31:
-			case NUM:
-			case CHAR:
+			case 5:
+				_localctx = new PushParamContext(_localctx);
+				enterOuterAlt(_localctx, 5);
 				{
-				setState(189);
-				literal();
+				setState(111);
+				match(T__12);
+				setState(112);
+				operand();
+				setState(113);
+				match(T__1);
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-			_ctx.stop = _input.LT(-1);
-			setState(226);
-			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					if ( _parseListeners!=null ) triggerExitRuleEvent();
-					_prevctx = _localctx;
+			case 6:
+				_localctx = new CallContext(_localctx);
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(118);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==T__20 || _la==ID) {
 					{
-					setState(224);
-					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
-					case 1:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(192);
-						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(193);
-						and_op();
-						setState(194);
-						expression(9);
-						}
-						break;
-					case 2:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(196);
-						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(197);
-						or_op();
-						setState(198);
-						expression(8);
-						}
-						break;
-					case 3:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(200);
-						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(201);
-						eq_op();
-						setState(202);
-						expression(7);
-						}
-						break;
-					case 4:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(204);
-						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(205);
-						rel_op();
-						setState(206);
-						expression(6);
-						}
-						break;
-					case 5:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(208);
-						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(209);
-						modulus_op();
-						setState(210);
-						expression(5);
-						}
-						break;
-					case 6:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(212);
-						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(213);
-						div_op();
-						setState(214);
-						expression(4);
-						}
-						break;
-					case 7:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(216);
-						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(217);
-						mul_op();
-						setState(218);
-						expression(3);
-						}
-						break;
-					case 8:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(220);
-						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(221);
-						arith_op_sum_subs();
-						setState(222);
-						expression(2);
-						}
-						break;
+					setState(115);
+					location();
+					setState(116);
+					match(T__13);
 					}
-					} 
 				}
-				setState(228);
+
+				setState(120);
+				match(T__14);
+				setState(121);
+				location();
+				setState(122);
+				match(T__1);
+				}
+				break;
+			case 7:
+				_localctx = new PopParamsContext(_localctx);
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(124);
+				match(T__15);
+				setState(125);
+				match(NUM);
+				setState(126);
+				match(T__1);
+				}
+				break;
+			case 8:
+				_localctx = new ReturnInstructionContext(_localctx);
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(127);
+				match(T__16);
+				setState(129);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
-			}
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__20) | (1L << T__33) | (1L << T__35) | (1L << T__36) | (1L << ID) | (1L << NUM) | (1L << CHAR))) != 0)) {
+					{
+					setState(128);
+					operand();
+					}
+				}
+
+				setState(131);
+				match(T__1);
+				}
+				break;
+			case 9:
+				_localctx = new StoreContext(_localctx);
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(132);
+				match(T__17);
+				setState(133);
+				operand();
+				setState(134);
+				match(T__18);
+				setState(135);
+				match(T__13);
+				setState(136);
+				operand();
+				setState(137);
+				match(T__1);
+				}
+				break;
+			case 10:
+				_localctx = new AssignContext(_localctx);
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(139);
+				location();
+				setState(140);
+				match(T__13);
+				setState(141);
+				expression();
+				setState(142);
+				match(T__1);
+				}
+				break;
+			case 11:
+				_localctx = new EmptyContext(_localctx);
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(144);
+				match(T__1);
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -1369,115 +934,159 @@ public class tacParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			unrollRecursionContexts(_parentctx);
+			exitRule();
 		}
 		return _localctx;
 	}
 
-	public static class And_opContext extends ParserRuleContext {
-		public And_opContext(ParserRuleContext parent, int invokingState) {
+	public static class ExpressionContext extends ParserRuleContext {
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_and_op; }
+		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class AddressContext extends ExpressionContext {
+		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
+		public AddressContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterAnd_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterAddress(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitAnd_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitAddress(this);
 		}
 	}
-
-	public final And_opContext and_op() throws RecognitionException {
-		And_opContext _localctx = new And_opContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_and_op);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(229);
-			match(T__19);
-			}
+	public static class LoadContext extends ExpressionContext {
+		public OperandContext operand() {
+			return getRuleContext(OperandContext.class,0);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public LoadContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterLoad(this);
 		}
-		finally {
-			exitRule();
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitLoad(this);
 		}
-		return _localctx;
 	}
-
-	public static class Or_opContext extends ParserRuleContext {
-		public Or_opContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+	public static class BinaryContext extends ExpressionContext {
+		public List<OperandContext> operand() {
+			return getRuleContexts(OperandContext.class);
+		}
+		public OperandContext operand(int i) {
+			return getRuleContext(OperandContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_or_op; }
+		public Binary_opContext binary_op() {
+			return getRuleContext(Binary_opContext.class,0);
+		}
+		public BinaryContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterOr_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterBinary(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitOr_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitBinary(this);
 		}
 	}
-
-	public final Or_opContext or_op() throws RecognitionException {
-		Or_opContext _localctx = new Or_opContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_or_op);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(231);
-			match(T__20);
-			}
+	public static class CopyContext extends ExpressionContext {
+		public OperandContext operand() {
+			return getRuleContext(OperandContext.class,0);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public CopyContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterCopy(this);
 		}
-		finally {
-			exitRule();
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitCopy(this);
 		}
-		return _localctx;
 	}
-
-	public static class Eq_opContext extends ParserRuleContext {
-		public Eq_opContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+	public static class UnaryContext extends ExpressionContext {
+		public Unary_opContext unary_op() {
+			return getRuleContext(Unary_opContext.class,0);
 		}
-		@Override public int getRuleIndex() { return RULE_eq_op; }
+		public OperandContext operand() {
+			return getRuleContext(OperandContext.class,0);
+		}
+		public UnaryContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterEq_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterUnary(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitEq_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitUnary(this);
 		}
 	}
 
-	public final Eq_opContext eq_op() throws RecognitionException {
-		Eq_opContext _localctx = new Eq_opContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_eq_op);
-		int _la;
+	public final ExpressionContext expression() throws RecognitionException {
+		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_expression);
 		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(233);
-			_la = _input.LA(1);
-			if ( !(_la==T__21 || _la==T__22) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
+			setState(161);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
+			case 1:
+				_localctx = new CopyContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(147);
+				operand();
+				}
+				break;
+			case 2:
+				_localctx = new BinaryContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(148);
+				operand();
+				setState(149);
+				binary_op();
+				setState(150);
+				operand();
+				}
+				break;
+			case 3:
+				_localctx = new UnaryContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(152);
+				unary_op();
+				setState(153);
+				operand();
+				}
+				break;
+			case 4:
+				_localctx = new AddressContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(155);
+				match(T__19);
+				setState(156);
+				match(ID);
+				}
+				break;
+			case 5:
+				_localctx = new LoadContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(157);
+				match(T__17);
+				setState(158);
+				operand();
+				setState(159);
+				match(T__18);
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -1491,38 +1100,55 @@ public class tacParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Rel_opContext extends ParserRuleContext {
-		public Rel_opContext(ParserRuleContext parent, int invokingState) {
+	public static class OperandContext extends ParserRuleContext {
+		public LocationContext location() {
+			return getRuleContext(LocationContext.class,0);
+		}
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public OperandContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_rel_op; }
+		@Override public int getRuleIndex() { return RULE_operand; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterRel_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterOperand(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitRel_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitOperand(this);
 		}
 	}
 
-	public final Rel_opContext rel_op() throws RecognitionException {
-		Rel_opContext _localctx = new Rel_opContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_rel_op);
-		int _la;
+	public final OperandContext operand() throws RecognitionException {
+		OperandContext _localctx = new OperandContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_operand);
 		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(235);
-			_la = _input.LA(1);
-			if ( !(_la==T__23 || _la==T__24) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
+			setState(165);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case T__20:
+			case ID:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(163);
+				location();
+				}
+				break;
+			case T__33:
+			case T__35:
+			case T__36:
+			case NUM:
+			case CHAR:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(164);
+				literal();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1536,29 +1162,47 @@ public class tacParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Modulus_opContext extends ParserRuleContext {
-		public Modulus_opContext(ParserRuleContext parent, int invokingState) {
+	public static class LocationContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
+		public LocationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_modulus_op; }
+		@Override public int getRuleIndex() { return RULE_location; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterModulus_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterLocation(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitModulus_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitLocation(this);
 		}
 	}
 
-	public final Modulus_opContext modulus_op() throws RecognitionException {
-		Modulus_opContext _localctx = new Modulus_opContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_modulus_op);
+	public final LocationContext location() throws RecognitionException {
+		LocationContext _localctx = new LocationContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_location);
 		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(237);
-			match(T__25);
+			setState(170);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ID:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(167);
+				match(ID);
+				}
+				break;
+			case T__20:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(168);
+				match(T__20);
+				setState(169);
+				match(ID);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1572,29 +1216,34 @@ public class tacParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Div_opContext extends ParserRuleContext {
-		public Div_opContext(ParserRuleContext parent, int invokingState) {
+	public static class LabelContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(tacParser.ID, 0); }
+		public LabelContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_div_op; }
+		@Override public int getRuleIndex() { return RULE_label; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterDiv_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterLabel(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitDiv_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitLabel(this);
 		}
 	}
 
-	public final Div_opContext div_op() throws RecognitionException {
-		Div_opContext _localctx = new Div_opContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_div_op);
+	public final LabelContext label() throws RecognitionException {
+		LabelContext _localctx = new LabelContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_label);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(239);
-			match(T__26);
+			setState(172);
+			match(T__20);
+			setState(173);
+			match(ID);
+			setState(174);
+			match(T__4);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1608,29 +1257,38 @@ public class tacParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Mul_opContext extends ParserRuleContext {
-		public Mul_opContext(ParserRuleContext parent, int invokingState) {
+	public static class Binary_opContext extends ParserRuleContext {
+		public Binary_opContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_mul_op; }
+		@Override public int getRuleIndex() { return RULE_binary_op; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterMul_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterBinary_op(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitMul_op(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitBinary_op(this);
 		}
 	}
 
-	public final Mul_opContext mul_op() throws RecognitionException {
-		Mul_opContext _localctx = new Mul_opContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_mul_op);
+	public final Binary_opContext binary_op() throws RecognitionException {
+		Binary_opContext _localctx = new Binary_opContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_binary_op);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(241);
-			match(T__27);
+			setState(176);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << T__31) | (1L << T__32) | (1L << T__33))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -1644,31 +1302,31 @@ public class tacParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Arith_op_sum_subsContext extends ParserRuleContext {
-		public Arith_op_sum_subsContext(ParserRuleContext parent, int invokingState) {
+	public static class Unary_opContext extends ParserRuleContext {
+		public Unary_opContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_arith_op_sum_subs; }
+		@Override public int getRuleIndex() { return RULE_unary_op; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).enterArith_op_sum_subs(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).enterUnary_op(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof tacListener ) ((tacListener)listener).exitArith_op_sum_subs(this);
+			if ( listener instanceof tacListener ) ((tacListener)listener).exitUnary_op(this);
 		}
 	}
 
-	public final Arith_op_sum_subsContext arith_op_sum_subs() throws RecognitionException {
-		Arith_op_sum_subsContext _localctx = new Arith_op_sum_subsContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_arith_op_sum_subs);
+	public final Unary_opContext unary_op() throws RecognitionException {
+		Unary_opContext _localctx = new Unary_opContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_unary_op);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(243);
+			setState(178);
 			_la = _input.LA(1);
-			if ( !(_la==T__28 || _la==T__29) ) {
+			if ( !(_la==T__33 || _la==T__34) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -1715,30 +1373,31 @@ public class tacParser extends Parser {
 
 	public final LiteralContext literal() throws RecognitionException {
 		LiteralContext _localctx = new LiteralContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_literal);
+		enterRule(_localctx, 28, RULE_literal);
 		try {
-			setState(248);
+			setState(183);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
+			case T__33:
 			case NUM:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(245);
+				setState(180);
 				int_literal();
 				}
 				break;
 			case CHAR:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(246);
+				setState(181);
 				char_literal();
 				}
 				break;
-			case T__30:
-			case T__31:
+			case T__35:
+			case T__36:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(247);
+				setState(182);
 				bool_literal();
 				}
 				break;
@@ -1775,11 +1434,22 @@ public class tacParser extends Parser {
 
 	public final Int_literalContext int_literal() throws RecognitionException {
 		Int_literalContext _localctx = new Int_literalContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_int_literal);
+		enterRule(_localctx, 30, RULE_int_literal);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(250);
+			setState(186);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__33) {
+				{
+				setState(185);
+				match(T__33);
+				}
+			}
+
+			setState(188);
 			match(NUM);
 			}
 		}
@@ -1812,11 +1482,11 @@ public class tacParser extends Parser {
 
 	public final Char_literalContext char_literal() throws RecognitionException {
 		Char_literalContext _localctx = new Char_literalContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_char_literal);
+		enterRule(_localctx, 32, RULE_char_literal);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(252);
+			setState(190);
 			match(CHAR);
 			}
 		}
@@ -1848,14 +1518,14 @@ public class tacParser extends Parser {
 
 	public final Bool_literalContext bool_literal() throws RecognitionException {
 		Bool_literalContext _localctx = new Bool_literalContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_bool_literal);
+		enterRule(_localctx, 34, RULE_bool_literal);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(254);
+			setState(192);
 			_la = _input.LA(1);
-			if ( !(_la==T__30 || _la==T__31) ) {
+			if ( !(_la==T__35 || _la==T__36) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -1876,116 +1546,67 @@ public class tacParser extends Parser {
 		return _localctx;
 	}
 
-	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
-		switch (ruleIndex) {
-		case 18:
-			return expression_sempred((ExpressionContext)_localctx, predIndex);
-		}
-		return true;
-	}
-	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
-		switch (predIndex) {
-		case 0:
-			return precpred(_ctx, 8);
-		case 1:
-			return precpred(_ctx, 7);
-		case 2:
-			return precpred(_ctx, 6);
-		case 3:
-			return precpred(_ctx, 5);
-		case 4:
-			return precpred(_ctx, 4);
-		case 5:
-			return precpred(_ctx, 3);
-		case 6:
-			return precpred(_ctx, 2);
-		case 7:
-			return precpred(_ctx, 1);
-		}
-		return true;
-	}
-
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\'\u0103\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3,\u00c5\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
-		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
-		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \3\2"+
-		"\7\2B\n\2\f\2\16\2E\13\2\3\3\3\3\5\3I\n\3\3\4\3\4\3\4\3\4\3\5\3\5\3\5"+
-		"\3\5\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\7\7\7[\n\7\f\7\16\7^\13\7\3\b\3\b\3"+
-		"\b\3\b\3\b\3\b\3\b\5\bg\n\b\3\b\5\bj\n\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3"+
-		"\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n"+
-		"\7\n\u0085\n\n\f\n\16\n\u0088\13\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3"+
-		"\f\7\f\u0092\n\f\f\f\16\f\u0095\13\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3"+
-		"\r\3\r\3\r\3\r\3\16\3\16\3\16\3\17\3\17\3\17\5\17\u00a9\n\17\3\20\3\20"+
-		"\3\20\3\20\3\21\3\21\3\21\3\21\5\21\u00b3\n\21\3\22\3\22\3\22\3\22\3\23"+
-		"\3\23\3\23\3\23\3\24\3\24\3\24\3\24\5\24\u00c1\n\24\3\24\3\24\3\24\3\24"+
-		"\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24"+
-		"\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24"+
-		"\7\24\u00e3\n\24\f\24\16\24\u00e6\13\24\3\25\3\25\3\26\3\26\3\27\3\27"+
-		"\3\30\3\30\3\31\3\31\3\32\3\32\3\33\3\33\3\34\3\34\3\35\3\35\3\35\5\35"+
-		"\u00fb\n\35\3\36\3\36\3\37\3\37\3 \3 \3 \2\3&!\2\4\6\b\n\f\16\20\22\24"+
-		"\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>\2\6\3\2\30\31\3\2\32\33\3\2\37"+
-		" \3\2!\"\2\u00fe\2C\3\2\2\2\4H\3\2\2\2\6J\3\2\2\2\bN\3\2\2\2\nR\3\2\2"+
-		"\2\f\\\3\2\2\2\16i\3\2\2\2\20k\3\2\2\2\22x\3\2\2\2\24\u008b\3\2\2\2\26"+
-		"\u0093\3\2\2\2\30\u009d\3\2\2\2\32\u00a2\3\2\2\2\34\u00a5\3\2\2\2\36\u00aa"+
-		"\3\2\2\2 \u00b2\3\2\2\2\"\u00b4\3\2\2\2$\u00b8\3\2\2\2&\u00c0\3\2\2\2"+
-		"(\u00e7\3\2\2\2*\u00e9\3\2\2\2,\u00eb\3\2\2\2.\u00ed\3\2\2\2\60\u00ef"+
-		"\3\2\2\2\62\u00f1\3\2\2\2\64\u00f3\3\2\2\2\66\u00f5\3\2\2\28\u00fa\3\2"+
-		"\2\2:\u00fc\3\2\2\2<\u00fe\3\2\2\2>\u0100\3\2\2\2@B\5\4\3\2A@\3\2\2\2"+
-		"BE\3\2\2\2CA\3\2\2\2CD\3\2\2\2D\3\3\2\2\2EC\3\2\2\2FI\5\6\4\2GI\5\b\5"+
-		"\2HF\3\2\2\2HG\3\2\2\2I\5\3\2\2\2JK\7\3\2\2KL\7\4\2\2LM\5\n\6\2M\7\3\2"+
-		"\2\2NO\5 \21\2OP\7\4\2\2PQ\5\n\6\2Q\t\3\2\2\2RS\7\5\2\2ST\7$\2\2TU\7\6"+
-		"\2\2UV\5\f\7\2VW\7\7\2\2WX\7\6\2\2X\13\3\2\2\2Y[\5\16\b\2ZY\3\2\2\2[^"+
-		"\3\2\2\2\\Z\3\2\2\2\\]\3\2\2\2]\r\3\2\2\2^\\\3\2\2\2_j\5\20\t\2`j\5\22"+
-		"\n\2aj\5\32\16\2bj\5\26\f\2cj\5\30\r\2dj\5\24\13\2eg\5&\24\2fe\3\2\2\2"+
-		"fg\3\2\2\2gh\3\2\2\2hj\7\6\2\2i_\3\2\2\2i`\3\2\2\2ia\3\2\2\2ib\3\2\2\2"+
-		"ic\3\2\2\2id\3\2\2\2if\3\2\2\2j\17\3\2\2\2kl\7\b\2\2lm\5 \21\2mn\7\t\2"+
-		"\2no\5 \21\2op\7\6\2\2pq\5\f\7\2qr\7\t\2\2rs\5 \21\2st\7\6\2\2tu\5$\23"+
-		"\2uv\5\f\7\2vw\5$\23\2w\21\3\2\2\2xy\7\n\2\2yz\5$\23\2z{\5\24\13\2{|\7"+
-		"\b\2\2|}\5 \21\2}~\7\t\2\2~\177\5 \21\2\177\u0080\7\6\2\2\u0080\u0081"+
-		"\5\f\7\2\u0081\u0082\7\t\2\2\u0082\u0086\5 \21\2\u0083\u0085\7\4\2\2\u0084"+
-		"\u0083\3\2\2\2\u0085\u0088\3\2\2\2\u0086\u0084\3\2\2\2\u0086\u0087\3\2"+
-		"\2\2\u0087\u0089\3\2\2\2\u0088\u0086\3\2\2\2\u0089\u008a\5$\23\2\u008a"+
-		"\23\3\2\2\2\u008b\u008c\5 \21\2\u008c\u008d\7\13\2\2\u008d\u008e\5&\24"+
-		"\2\u008e\u008f\7\6\2\2\u008f\25\3\2\2\2\u0090\u0092\5\36\20\2\u0091\u0090"+
-		"\3\2\2\2\u0092\u0095\3\2\2\2\u0093\u0091\3\2\2\2\u0093\u0094\3\2\2\2\u0094"+
-		"\u0096\3\2\2\2\u0095\u0093\3\2\2\2\u0096\u0097\7\f\2\2\u0097\u0098\5 "+
-		"\21\2\u0098\u0099\7\6\2\2\u0099\u009a\7\r\2\2\u009a\u009b\7$\2\2\u009b"+
-		"\u009c\7\6\2\2\u009c\27\3\2\2\2\u009d\u009e\7\16\2\2\u009e\u009f\5\34"+
-		"\17\2\u009f\u00a0\5\f\7\2\u00a0\u00a1\7\17\2\2\u00a1\31\3\2\2\2\u00a2"+
-		"\u00a3\7\20\2\2\u00a3\u00a4\5 \21\2\u00a4\33\3\2\2\2\u00a5\u00a8\7#\2"+
-		"\2\u00a6\u00a7\7\21\2\2\u00a7\u00a9\5\34\17\2\u00a8\u00a6\3\2\2\2\u00a8"+
-		"\u00a9\3\2\2\2\u00a9\35\3\2\2\2\u00aa\u00ab\7\22\2\2\u00ab\u00ac\5 \21"+
-		"\2\u00ac\u00ad\7\6\2\2\u00ad\37\3\2\2\2\u00ae\u00b3\7#\2\2\u00af\u00b0"+
-		"\7\23\2\2\u00b0\u00b3\7#\2\2\u00b1\u00b3\5\"\22\2\u00b2\u00ae\3\2\2\2"+
-		"\u00b2\u00af\3\2\2\2\u00b2\u00b1\3\2\2\2\u00b3!\3\2\2\2\u00b4\u00b5\7"+
-		"\24\2\2\u00b5\u00b6\7#\2\2\u00b6\u00b7\7\25\2\2\u00b7#\3\2\2\2\u00b8\u00b9"+
-		"\7\23\2\2\u00b9\u00ba\7#\2\2\u00ba\u00bb\7\4\2\2\u00bb%\3\2\2\2\u00bc"+
-		"\u00bd\b\24\1\2\u00bd\u00c1\5\26\f\2\u00be\u00c1\5 \21\2\u00bf\u00c1\5"+
-		"8\35\2\u00c0\u00bc\3\2\2\2\u00c0\u00be\3\2\2\2\u00c0\u00bf\3\2\2\2\u00c1"+
-		"\u00e4\3\2\2\2\u00c2\u00c3\f\n\2\2\u00c3\u00c4\5(\25\2\u00c4\u00c5\5&"+
-		"\24\13\u00c5\u00e3\3\2\2\2\u00c6\u00c7\f\t\2\2\u00c7\u00c8\5*\26\2\u00c8"+
-		"\u00c9\5&\24\n\u00c9\u00e3\3\2\2\2\u00ca\u00cb\f\b\2\2\u00cb\u00cc\5,"+
-		"\27\2\u00cc\u00cd\5&\24\t\u00cd\u00e3\3\2\2\2\u00ce\u00cf\f\7\2\2\u00cf"+
-		"\u00d0\5.\30\2\u00d0\u00d1\5&\24\b\u00d1\u00e3\3\2\2\2\u00d2\u00d3\f\6"+
-		"\2\2\u00d3\u00d4\5\60\31\2\u00d4\u00d5\5&\24\7\u00d5\u00e3\3\2\2\2\u00d6"+
-		"\u00d7\f\5\2\2\u00d7\u00d8\5\62\32\2\u00d8\u00d9\5&\24\6\u00d9\u00e3\3"+
-		"\2\2\2\u00da\u00db\f\4\2\2\u00db\u00dc\5\64\33\2\u00dc\u00dd\5&\24\5\u00dd"+
-		"\u00e3\3\2\2\2\u00de\u00df\f\3\2\2\u00df\u00e0\5\66\34\2\u00e0\u00e1\5"+
-		"&\24\4\u00e1\u00e3\3\2\2\2\u00e2\u00c2\3\2\2\2\u00e2\u00c6\3\2\2\2\u00e2"+
-		"\u00ca\3\2\2\2\u00e2\u00ce\3\2\2\2\u00e2\u00d2\3\2\2\2\u00e2\u00d6\3\2"+
-		"\2\2\u00e2\u00da\3\2\2\2\u00e2\u00de\3\2\2\2\u00e3\u00e6\3\2\2\2\u00e4"+
-		"\u00e2\3\2\2\2\u00e4\u00e5\3\2\2\2\u00e5\'\3\2\2\2\u00e6\u00e4\3\2\2\2"+
-		"\u00e7\u00e8\7\26\2\2\u00e8)\3\2\2\2\u00e9\u00ea\7\27\2\2\u00ea+\3\2\2"+
-		"\2\u00eb\u00ec\t\2\2\2\u00ec-\3\2\2\2\u00ed\u00ee\t\3\2\2\u00ee/\3\2\2"+
-		"\2\u00ef\u00f0\7\34\2\2\u00f0\61\3\2\2\2\u00f1\u00f2\7\35\2\2\u00f2\63"+
-		"\3\2\2\2\u00f3\u00f4\7\36\2\2\u00f4\65\3\2\2\2\u00f5\u00f6\t\4\2\2\u00f6"+
-		"\67\3\2\2\2\u00f7\u00fb\5:\36\2\u00f8\u00fb\5<\37\2\u00f9\u00fb\5> \2"+
-		"\u00fa\u00f7\3\2\2\2\u00fa\u00f8\3\2\2\2\u00fa\u00f9\3\2\2\2\u00fb9\3"+
-		"\2\2\2\u00fc\u00fd\7$\2\2\u00fd;\3\2\2\2\u00fe\u00ff\7\'\2\2\u00ff=\3"+
-		"\2\2\2\u0100\u0101\t\5\2\2\u0101?\3\2\2\2\17CH\\fi\u0086\u0093\u00a8\u00b2"+
-		"\u00c0\u00e2\u00e4\u00fa";
+		"\4\23\t\23\3\2\7\2(\n\2\f\2\16\2+\13\2\3\2\7\2.\n\2\f\2\16\2\61\13\2\3"+
+		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3;\n\3\3\4\3\4\5\4?\n\4\3\5\3\5\3\5\3"+
+		"\5\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\7\7M\n\7\f\7\16\7P\13\7\3\7\7\7S\n"+
+		"\7\f\7\16\7V\13\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\5\bb\n\b\3\t"+
+		"\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\5\tp\n\t\3\t\3\t\3\t\3\t"+
+		"\3\t\3\t\3\t\5\ty\n\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\5\t\u0084\n"+
+		"\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\5\t\u0094\n"+
+		"\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\5\n\u00a4\n"+
+		"\n\3\13\3\13\5\13\u00a8\n\13\3\f\3\f\3\f\5\f\u00ad\n\f\3\r\3\r\3\r\3\r"+
+		"\3\16\3\16\3\17\3\17\3\20\3\20\3\20\5\20\u00ba\n\20\3\21\5\21\u00bd\n"+
+		"\21\3\21\3\21\3\22\3\22\3\23\3\23\3\23\2\2\24\2\4\6\b\n\f\16\20\22\24"+
+		"\26\30\32\34\36 \"$\2\5\3\2\30$\3\2$%\3\2&\'\2\u00cf\2)\3\2\2\2\4:\3\2"+
+		"\2\2\6>\3\2\2\2\b@\3\2\2\2\nD\3\2\2\2\fH\3\2\2\2\16a\3\2\2\2\20\u0093"+
+		"\3\2\2\2\22\u00a3\3\2\2\2\24\u00a7\3\2\2\2\26\u00ac\3\2\2\2\30\u00ae\3"+
+		"\2\2\2\32\u00b2\3\2\2\2\34\u00b4\3\2\2\2\36\u00b9\3\2\2\2 \u00bc\3\2\2"+
+		"\2\"\u00c0\3\2\2\2$\u00c2\3\2\2\2&(\5\4\3\2\'&\3\2\2\2(+\3\2\2\2)\'\3"+
+		"\2\2\2)*\3\2\2\2*/\3\2\2\2+)\3\2\2\2,.\5\6\4\2-,\3\2\2\2.\61\3\2\2\2/"+
+		"-\3\2\2\2/\60\3\2\2\2\60\3\3\2\2\2\61/\3\2\2\2\62\63\7\3\2\2\63\64\7("+
+		"\2\2\64\65\7)\2\2\65;\7\4\2\2\66\67\7\5\2\2\678\7(\2\289\7)\2\29;\7\4"+
+		"\2\2:\62\3\2\2\2:\66\3\2\2\2;\5\3\2\2\2<?\5\b\5\2=?\5\n\6\2><\3\2\2\2"+
+		">=\3\2\2\2?\7\3\2\2\2@A\7\6\2\2AB\7\7\2\2BC\5\f\7\2C\t\3\2\2\2DE\5\26"+
+		"\f\2EF\7\7\2\2FG\5\f\7\2G\13\3\2\2\2HI\7\b\2\2IJ\7)\2\2JN\7\4\2\2KM\5"+
+		"\16\b\2LK\3\2\2\2MP\3\2\2\2NL\3\2\2\2NO\3\2\2\2OT\3\2\2\2PN\3\2\2\2QS"+
+		"\5\20\t\2RQ\3\2\2\2SV\3\2\2\2TR\3\2\2\2TU\3\2\2\2UW\3\2\2\2VT\3\2\2\2"+
+		"WX\7\t\2\2XY\7\4\2\2Y\r\3\2\2\2Z[\7\n\2\2[\\\7(\2\2\\b\7\4\2\2]^\7\13"+
+		"\2\2^_\7(\2\2_`\7)\2\2`b\7\4\2\2aZ\3\2\2\2a]\3\2\2\2b\17\3\2\2\2c\u0094"+
+		"\5\30\r\2d\u0094\7\f\2\2ef\7\r\2\2fg\5\24\13\2gh\7\16\2\2hi\5\26\f\2i"+
+		"j\7\4\2\2j\u0094\3\2\2\2kl\7\16\2\2lo\5\26\f\2mp\7\4\2\2np\7\7\2\2om\3"+
+		"\2\2\2on\3\2\2\2p\u0094\3\2\2\2qr\7\17\2\2rs\5\24\13\2st\7\4\2\2t\u0094"+
+		"\3\2\2\2uv\5\26\f\2vw\7\20\2\2wy\3\2\2\2xu\3\2\2\2xy\3\2\2\2yz\3\2\2\2"+
+		"z{\7\21\2\2{|\5\26\f\2|}\7\4\2\2}\u0094\3\2\2\2~\177\7\22\2\2\177\u0080"+
+		"\7)\2\2\u0080\u0094\7\4\2\2\u0081\u0083\7\23\2\2\u0082\u0084\5\24\13\2"+
+		"\u0083\u0082\3\2\2\2\u0083\u0084\3\2\2\2\u0084\u0085\3\2\2\2\u0085\u0094"+
+		"\7\4\2\2\u0086\u0087\7\24\2\2\u0087\u0088\5\24\13\2\u0088\u0089\7\25\2"+
+		"\2\u0089\u008a\7\20\2\2\u008a\u008b\5\24\13\2\u008b\u008c\7\4\2\2\u008c"+
+		"\u0094\3\2\2\2\u008d\u008e\5\26\f\2\u008e\u008f\7\20\2\2\u008f\u0090\5"+
+		"\22\n\2\u0090\u0091\7\4\2\2\u0091\u0094\3\2\2\2\u0092\u0094\7\4\2\2\u0093"+
+		"c\3\2\2\2\u0093d\3\2\2\2\u0093e\3\2\2\2\u0093k\3\2\2\2\u0093q\3\2\2\2"+
+		"\u0093x\3\2\2\2\u0093~\3\2\2\2\u0093\u0081\3\2\2\2\u0093\u0086\3\2\2\2"+
+		"\u0093\u008d\3\2\2\2\u0093\u0092\3\2\2\2\u0094\21\3\2\2\2\u0095\u00a4"+
+		"\5\24\13\2\u0096\u0097\5\24\13\2\u0097\u0098\5\32\16\2\u0098\u0099\5\24"+
+		"\13\2\u0099\u00a4\3\2\2\2\u009a\u009b\5\34\17\2\u009b\u009c\5\24\13\2"+
+		"\u009c\u00a4\3\2\2\2\u009d\u009e\7\26\2\2\u009e\u00a4\7(\2\2\u009f\u00a0"+
+		"\7\24\2\2\u00a0\u00a1\5\24\13\2\u00a1\u00a2\7\25\2\2\u00a2\u00a4\3\2\2"+
+		"\2\u00a3\u0095\3\2\2\2\u00a3\u0096\3\2\2\2\u00a3\u009a\3\2\2\2\u00a3\u009d"+
+		"\3\2\2\2\u00a3\u009f\3\2\2\2\u00a4\23\3\2\2\2\u00a5\u00a8\5\26\f\2\u00a6"+
+		"\u00a8\5\36\20\2\u00a7\u00a5\3\2\2\2\u00a7\u00a6\3\2\2\2\u00a8\25\3\2"+
+		"\2\2\u00a9\u00ad\7(\2\2\u00aa\u00ab\7\27\2\2\u00ab\u00ad\7(\2\2\u00ac"+
+		"\u00a9\3\2\2\2\u00ac\u00aa\3\2\2\2\u00ad\27\3\2\2\2\u00ae\u00af\7\27\2"+
+		"\2\u00af\u00b0\7(\2\2\u00b0\u00b1\7\7\2\2\u00b1\31\3\2\2\2\u00b2\u00b3"+
+		"\t\2\2\2\u00b3\33\3\2\2\2\u00b4\u00b5\t\3\2\2\u00b5\35\3\2\2\2\u00b6\u00ba"+
+		"\5 \21\2\u00b7\u00ba\5\"\22\2\u00b8\u00ba\5$\23\2\u00b9\u00b6\3\2\2\2"+
+		"\u00b9\u00b7\3\2\2\2\u00b9\u00b8\3\2\2\2\u00ba\37\3\2\2\2\u00bb\u00bd"+
+		"\7$\2\2\u00bc\u00bb\3\2\2\2\u00bc\u00bd\3\2\2\2\u00bd\u00be\3\2\2\2\u00be"+
+		"\u00bf\7)\2\2\u00bf!\3\2\2\2\u00c0\u00c1\7,\2\2\u00c1#\3\2\2\2\u00c2\u00c3"+
+		"\t\4\2\2\u00c3%\3\2\2\2\22)/:>NTaox\u0083\u0093\u00a3\u00a7\u00ac\u00b9"+
+		"\u00bc";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
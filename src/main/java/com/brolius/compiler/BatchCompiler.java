@@ -0,0 +1,234 @@
+package com.brolius.compiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Command line compiler, runs the whole pipeline without Vaadin.
+ * Every .decaf file found in the given files and directories is compiled on a work stealing pool
+ * and its TAC and MIPS are written next to it (or under the output directory) as .tac and .asm files.
+ *
+ * With -fail-fast a file stops at its first syntax error, -max-errors limits the errors kept per file.
+ *
+ * Usage: BatchCompiler [-o outputDir] [-j threads] [-max-errors n] [-fail-fast] file|directory...
+ */
+public class BatchCompiler {
+    private static final String EXTENSION = ".decaf";
+
+    private final Path outputDir;
+    private final int threads;
+    private final DecafCompiler compiler;
+
+    public BatchCompiler(Path outputDir, int threads) {
+        this(outputDir, threads, new DecafCompiler());
+    }
+
+    public BatchCompiler(Path outputDir, int threads, DecafCompiler compiler) {
+        this.outputDir = outputDir;
+        this.threads = threads;
+        this.compiler = compiler;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path outputDir = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        DecafCompiler compiler = new DecafCompiler();
+        List<Path> inputs = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-o") && i + 1 < args.length) {
+                outputDir = Paths.get(args[++i]);
+            } else if (args[i].equals("-j") && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("-max-errors") && i + 1 < args.length) {
+                compiler.errorLimit(Integer.parseInt(args[++i]));
+            } else if (args[i].equals("-fail-fast")) {
+                compiler.failFast(true);
+            } else {
+                inputs.add(Paths.get(args[i]));
+            }
+        }
+
+        if (inputs.isEmpty()) {
+            System.err.println("Usage: BatchCompiler [-o outputDir] [-j threads] [-max-errors n] [-fail-fast] file|directory...");
+            System.exit(2);
+        }
+
+        Summary summary = new BatchCompiler(outputDir, threads, compiler).compileAll(inputs);
+        summary.print();
+        Trace.flush(1000);
+        System.exit(summary.failed + summary.withErrors == 0 ? 0 : 1);
+    }
+
+    /**
+     * Compiles every Decaf file found in the inputs
+     * @param inputs files and directories
+     * @return totals of the run
+     * @throws IOException if a directory can't be read
+     */
+    public Summary compileAll(List<Path> inputs) throws IOException {
+        List<Source> sources = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> walk = Files.walk(input)) {
+                    for (Path file : walk.filter(p -> p.toString().endsWith(EXTENSION)).sorted().collect(Collectors.toList())) {
+                        sources.add(new Source(input, file));
+                    }
+                }
+            } else {
+                sources.add(new Source(input.toAbsolutePath().getParent(), input));
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        Summary summary = new Summary(threads);
+        long start = System.nanoTime();
+        try {
+            List<ForkJoinTask<FileResult>> tasks = new ArrayList<>();
+            for (Source source : sources) {
+                tasks.add(pool.submit(() -> compileFile(source)));
+            }
+            for (ForkJoinTask<FileResult> task : tasks) {
+                summary.add(task.join());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        summary.wallNanos = System.nanoTime() - start;
+        return summary;
+    }
+
+    private FileResult compileFile(Source source) {
+        FileResult result = new FileResult(source.file);
+        try {
+            String program = new String(Files.readAllBytes(source.file), StandardCharsets.UTF_8);
+            result.lines = countLines(program);
+
+            Compilation compilation = compiler.compile(program);
+            result.phases = compilation.getMetrics().getPhases();
+            result.notes = compilation.getMetrics().getNotes();
+            result.errors = compilation.getSyntaxErrors().size() + compilation.getSemanticErrors().size();
+
+            Path target = targetFor(source);
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            String baseName = target.toString().substring(0, target.toString().length() - EXTENSION.length());
+            Files.write(Paths.get(baseName + ".tac"), compilation.getTac().getBytes(StandardCharsets.UTF_8));
+            Files.write(Paths.get(baseName + ".asm"), compilation.getMips().getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            result.failure = e;
+        }
+        return result;
+    }
+
+    private Path targetFor(Source source) {
+        if (outputDir == null) {
+            return source.file;
+        }
+        return outputDir.resolve(source.root.toAbsolutePath().relativize(source.file.toAbsolutePath()));
+    }
+
+    private static int countLines(String program) {
+        int lines = program.isEmpty() ? 0 : 1;
+        for (int i = 0; i < program.length(); i++) {
+            if (program.charAt(i) == '\n') lines++;
+        }
+        return lines;
+    }
+
+    /** A file to compile and the input root it was found under */
+    private static class Source {
+        final Path root;
+        final Path file;
+
+        Source(Path root, Path file) {
+            this.root = root;
+            this.file = file;
+        }
+    }
+
+    /** Outcome of compiling one file */
+    private static class FileResult {
+        final Path file;
+        int lines;
+        int errors;
+        List<PhaseMetrics> phases = Collections.emptyList();
+        Map<String, String> notes = Collections.emptyMap();
+        Exception failure;
+
+        FileResult(Path file) {
+            this.file = file;
+        }
+    }
+
+    /** Totals of a batch run */
+    public static class Summary {
+        private final int threads;
+        private final Map<String, long[]> phaseTotals = new LinkedHashMap<>();   // wall, cpu, allocated
+        private final Map<String, Integer> noteCounts = new TreeMap<>();          // e.g. "Parsing: LL" -> files
+        private int files;
+        private int withErrors;
+        private int failed;
+        private long lines;
+        private long wallNanos;
+
+        Summary(int threads) {
+            this.threads = threads;
+        }
+
+        void add(FileResult result) {
+            files++;
+            lines += result.lines;
+            if (result.failure != null) {
+                failed++;
+                System.err.println("FAILED " + result.file + ": " + result.failure);
+            } else if (result.errors > 0) {
+                withErrors++;
+                System.err.println(result.file + ": " + result.errors + " error(s)");
+            }
+            for (PhaseMetrics phase : result.phases) {
+                long[] totals = phaseTotals.computeIfAbsent(phase.getPhase(), p -> new long[3]);
+                totals[0] += phase.getWallNanos();
+                totals[1] += Math.max(0, phase.getCpuNanos());
+                totals[2] += Math.max(0, phase.getAllocatedBytes());
+            }
+            for (Map.Entry<String, String> note : result.notes.entrySet()) {
+                noteCounts.merge(note.getKey() + ": " + note.getValue(), 1, Integer::sum);
+            }
+        }
+
+        void print() {
+            double seconds = wallNanos / 1e9;
+            System.out.println(String.format("Compiled %d file(s), %d line(s) in %.1f ms on %d thread(s): %d with errors, %d failed",
+                    files, lines, wallNanos / 1e6, threads, withErrors, failed));
+            System.out.println(String.format("Throughput: %.1f files/s, %.1f lines/s",
+                    files / seconds, lines / seconds));
+            System.out.println("Phase totals (summed over all threads):");
+            System.out.println(String.format("  %-20s %12s %12s %14s", "phase", "wall ms", "cpu ms", "allocated MB"));
+            for (Map.Entry<String, long[]> phase : phaseTotals.entrySet()) {
+                long[] totals = phase.getValue();
+                System.out.println(String.format("  %-20s %12.1f %12.1f %14.1f", phase.getKey(),
+                        totals[0] / 1e6, totals[1] / 1e6, totals[2] / (1024.0 * 1024.0)));
+            }
+            if (!noteCounts.isEmpty()) {
+                System.out.println("Notes:");
+            }
+            for (Map.Entry<String, Integer> note : noteCounts.entrySet()) {
+                System.out.println(String.format("  %-32s %d file(s)", note.getKey(), note.getValue()));
+            }
+        }
+
+        public int getFiles() { return files; }
+        public int getWithErrors() { return withErrors; }
+        public int getFailed() { return failed; }
+        public long getLines() { return lines; }
+        public long getWallNanos() { return wallNanos; }
+        public Map<String, long[]> getPhaseTotals() { return phaseTotals; }
+    }
+}
@@ -0,0 +1,106 @@
+package com.brolius.compiler;
+
+import com.brolius.antlr.SyntaxError;
+import com.brolius.antlr.decafParser;
+import org.antlr.v4.gui.TreeViewer;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import javax.print.PrintException;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Workspace of a single compilation. Every artifact (TAC, MIPS, tree image) belongs to
+ * this object instead of a shared file in the working directory, so concurrent
+ * compilations never see each other's output.
+ * Apart from the parse tree it is immutable, which lets the {@link CompilationCache}
+ * hand the same instance to several sessions.
+ */
+public class Compilation {
+    private final String source;
+    private final ParseTree parseTree;            // null once detached, it is rebuilt on demand
+    private final List<SyntaxError> syntaxErrors;
+    private final List<String> semanticErrors;
+    private final String tac;
+    private final String mips;
+    private final CompileMetrics metrics;         // time and allocation of each phase
+
+    public Compilation(String source, ParseTree parseTree, List<SyntaxError> syntaxErrors,
+                       List<String> semanticErrors, String tac, String mips, CompileMetrics metrics) {
+        this.source = source;
+        this.parseTree = parseTree;
+        this.syntaxErrors = Collections.unmodifiableList(syntaxErrors);
+        this.semanticErrors = Collections.unmodifiableList(semanticErrors);
+        this.tac = tac;
+        this.mips = mips;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return a copy that does not hold on to the parse tree, used for long lived copies like the cache
+     */
+    public Compilation detached() {
+        return new Compilation(source, null, syntaxErrors, semanticErrors, tac, mips, metrics);
+    }
+
+    /**
+     * @return a copy to hand out for a cache hit, its metrics only say that it came from the cache instead of
+     * repeating the timings of the compilation that filled it
+     */
+    public Compilation cacheHit() {
+        CompileMetrics hit = new CompileMetrics();
+        hit.note("Cache", "hit");
+        return new Compilation(source, parseTree, syntaxErrors, semanticErrors, tac, mips, hit);
+    }
+
+    /**
+     * Renders the parse tree to an image in a temporary file owned by this compilation.
+     * The caller is responsible for deleting it once it has been served.
+     * @return the image file
+     * @throws IOException
+     * @throws PrintException
+     */
+    public File renderTree() throws IOException, PrintException {
+        TreeViewer viewer = new TreeViewer(getRuleNames(), getParseTree());
+        viewer.setBorderColor(Color.WHITE);
+        viewer.setBoxColor(Color.WHITE);
+
+        File image = File.createTempFile("decaf-tree-", ".jpg");
+        image.deleteOnExit();
+        viewer.save(image.getAbsolutePath());
+        return image;
+    }
+
+    /**
+     * @return the parse tree, parsed again from the source if this compilation was detached
+     */
+    public ParseTree getParseTree() {
+        return parseTree != null ? parseTree : DecafCompiler.parse(source);
+    }
+
+    /**
+     * @return rough size in bytes of the retained artifacts
+     */
+    public long estimateSize() {
+        long chars = source.length() + tac.length() + mips.length();
+        for (String error : semanticErrors) {
+            chars += error.length();
+        }
+        for (SyntaxError error : syntaxErrors) {
+            chars += error.getMessage().length();
+        }
+        return 2 * chars;
+    }
+
+    public String getSource() { return source; }
+    public List<String> getRuleNames() { return Arrays.asList(decafParser.ruleNames); }
+    public List<SyntaxError> getSyntaxErrors() { return syntaxErrors; }
+    public List<String> getSemanticErrors() { return semanticErrors; }
+    public String getTac() { return tac; }
+    public String getMips() { return mips; }
+    public CompileMetrics getMetrics() { return metrics; }
+}
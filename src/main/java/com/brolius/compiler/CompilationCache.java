@@ -0,0 +1,112 @@
+package com.brolius.compiler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Content addressed cache of compilations shared by all sessions.
+ * Entries are keyed by a SHA-256 of the compiler options and the source, and evicted in
+ * least recently used order once either the entry count or the estimated size is exceeded.
+ */
+public class CompilationCache {
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Compilation> entries;   // access ordered, eldest first
+    private long bytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public CompilationCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Looks up a compilation
+     * @param key from {@link #key(String, String)}
+     * @return the cached compilation or null
+     */
+    public synchronized Compilation get(String key) {
+        Compilation compilation = entries.get(key);
+        if (compilation != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return compilation;
+    }
+
+    /**
+     * Stores a compilation, without its parse tree
+     * @param key from {@link #key(String, String)}
+     * @param compilation
+     * @return the stored copy
+     */
+    public synchronized Compilation put(String key, Compilation compilation) {
+        Compilation detached = compilation.detached();
+        long size = detached.estimateSize();
+        if (size > maxBytes) {
+            return detached;
+        }
+
+        Compilation previous = entries.put(key, detached);
+        if (previous != null) {
+            bytes -= previous.estimateSize();
+        }
+        bytes += size;
+
+        Iterator<Map.Entry<String, Compilation>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            bytes -= eldest.next().getValue().estimateSize();
+            eldest.remove();
+            evictions++;
+        }
+        return detached;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Computes the cache key of a program
+     * @param source the program
+     * @param optionsFingerprint the options it is compiled with
+     * @return hex SHA-256 of both
+     */
+    public static String key(String source, String optionsFingerprint) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(optionsFingerprint.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            byte[] hash = digest.digest(source.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+    public synchronized int getSize() { return entries.size(); }
+    public synchronized long getBytes() { return bytes; }
+
+    public synchronized String toString() {
+        return "entries=" + entries.size() + ", bytes=" + bytes + ", hits=" + hits + ", misses=" + misses
+                + ", evictions=" + evictions;
+    }
+}
@@ -0,0 +1,96 @@
+package com.brolius.compiler;
+
+import com.brolius.semanticControl.IncrementalCache;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Bounded worker pool that runs compilations away from the request threads.
+ * One pool is shared by every session: it has one thread per core and a bounded queue,
+ * when the queue is full new compilations are rejected instead of piling up.
+ */
+public class CompileExecutor {
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int CACHE_ENTRIES = 256;
+    private static final long CACHE_BYTES = 32L * 1024 * 1024;
+    private static final CompileExecutor SHARED = new CompileExecutor(Runtime.getRuntime().availableProcessors(),
+            QUEUE_CAPACITY, new CompilationCache(CACHE_ENTRIES, CACHE_BYTES));
+
+    private final ThreadPoolExecutor pool;
+    private final DecafCompiler compiler;
+    private final CompilationCache cache;
+
+    public CompileExecutor(int threads, int queueCapacity, CompilationCache cache) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "decaf-compiler-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.compiler = new DecafCompiler();
+        this.cache = cache;
+    }
+
+    /**
+     * @return the pool shared by all UI sessions
+     */
+    public static CompileExecutor shared() {
+        return SHARED;
+    }
+
+    /**
+     * Queues a compilation. Programs that are already in the cache complete at once without queueing,
+     * with metrics that only note the cache hit.
+     * @param source the program
+     * @param progress receives the name of each phase as it starts, called from the worker thread
+     * @return a future completed with the compilation
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public CompletableFuture<Compilation> submit(String source, Consumer<String> progress) {
+        String key = CompilationCache.key(source, compiler.getOptionsFingerprint());
+        Compilation cached = cache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.cacheHit());
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            Compilation compilation = compiler.compile(source, progress);
+            cache.put(key, compilation);
+            return compilation;
+        }, pool);
+    }
+
+    /**
+     * Queues the compilation of a new version of a program of a workspace, only the methods that changed
+     * since the previous one of the workspace are checked and translated again
+     * @param source the program
+     * @param progress receives the name of each phase as it starts, called from the worker thread
+     * @param workspace results of the previous compilation of the workspace
+     * @return a future completed with the compilation
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public CompletableFuture<Compilation> submit(String source, Consumer<String> progress, IncrementalCache workspace) {
+        String key = CompilationCache.key(source, compiler.getOptionsFingerprint());
+        Compilation cached = cache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.cacheHit());
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            Compilation compilation = compiler.compile(source, progress, workspace);
+            cache.put(key, compilation);
+            return compilation;
+        }, pool);
+    }
+
+    public CompilationCache getCache() {
+        return cache;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
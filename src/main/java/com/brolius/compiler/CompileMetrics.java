@@ -0,0 +1,112 @@
+package com.brolius.compiler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+
+/**
+ * Per phase wall time, CPU time and allocated bytes of a compilation.
+ * Phases are measured on the thread that runs them, one after the other: {@link #start(String)}
+ * closes the running phase, if any, and opens the next one.
+ */
+public class CompileMetrics {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported();
+    private static final boolean ALLOCATION = THREADS instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemorySupported();
+
+    private final List<PhaseMetrics> phases = new ArrayList<>();
+    private final Map<String, String> notes = new LinkedHashMap<>();   // facts about how phases ran
+
+    private String currentPhase;
+    private long wallStart;
+    private long cpuStart;
+    private long allocationStart;
+
+    /**
+     * Starts measuring a phase, ending the current one
+     * @param phase
+     */
+    public void start(String phase) {
+        end();
+        currentPhase = phase;
+        wallStart = System.nanoTime();
+        cpuStart = cpuTime();
+        allocationStart = allocatedBytes();
+    }
+
+    /**
+     * Ends the current phase, if any
+     */
+    public void end() {
+        if (currentPhase == null) {
+            return;
+        }
+        long wall = System.nanoTime() - wallStart;
+        long cpu = CPU_TIME ? cpuTime() - cpuStart : -1;
+        long allocated = ALLOCATION ? allocatedBytes() - allocationStart : -1;
+        phases.add(new PhaseMetrics(currentPhase, wall, cpu, allocated));
+        currentPhase = null;
+    }
+
+    /**
+     * Records a fact about the compilation, for example which prediction mode the parser ended up using
+     * @param key
+     * @param value
+     */
+    public void note(String key, String value) {
+        notes.put(key, value);
+    }
+
+    public List<PhaseMetrics> getPhases() { return Collections.unmodifiableList(phases); }
+    public Map<String, String> getNotes() { return Collections.unmodifiableMap(notes); }
+    public String getCurrentPhase() { return currentPhase; }                // null between phases
+
+    public long getTotalWallNanos() {
+        long total = 0;
+        for (PhaseMetrics phase : phases) total += phase.getWallNanos();
+        return total;
+    }
+
+    public long getTotalCpuNanos() {
+        long total = 0;
+        for (PhaseMetrics phase : phases) {
+            if (phase.getCpuNanos() < 0) return -1;
+            total += phase.getCpuNanos();
+        }
+        return total;
+    }
+
+    public long getTotalAllocatedBytes() {
+        long total = 0;
+        for (PhaseMetrics phase : phases) {
+            if (phase.getAllocatedBytes() < 0) return -1;
+            total += phase.getAllocatedBytes();
+        }
+        return total;
+    }
+
+    /**
+     * @return one line breakdown, e.g. "total 3.10 ms | Parsing 1.20 ms, cpu 1.10 ms, 210.4 KB | ..."
+     */
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("total %.2f ms", getTotalWallNanos() / 1e6));
+        for (PhaseMetrics phase : phases) {
+            sb.append(" | ").append(phase);
+        }
+        for (Map.Entry<String, String> note : notes.entrySet()) {
+            sb.append(" | ").append(note.getKey()).append(": ").append(note.getValue());
+        }
+        return sb.toString();
+    }
+
+    private static long cpuTime() {
+        return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATION
+                ? ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId())
+                : -1;
+    }
+}
@@ -0,0 +1,426 @@
+package com.brolius.compiler;
+
+import com.brolius.antlr.CollectingErrorListener;
+import com.brolius.antlr.decafLexer;
+import com.brolius.antlr.decafParser;
+import com.brolius.antlrtac.tacLexer;
+import com.brolius.antlrtac.tacParser;
+import com.brolius.semanticControl.IncrementalCache;
+import com.brolius.semanticControl.MemoryTacSink;
+import com.brolius.semanticControl.MipsEmitter;
+import com.brolius.semanticControl.SemanticAnalyzer;
+import com.brolius.semanticControl.SemanticListener;
+import com.brolius.semanticControl.TacIrWalker;
+import com.brolius.semanticControl.TacSemanticListener;
+import com.brolius.semanticControl.TacSink;
+import com.brolius.tac.ConstantFolding;
+import com.brolius.tac.Declarations;
+import com.brolius.tac.TacFunction;
+import com.brolius.tac.TacPrinter;
+import com.brolius.tac.TacProgram;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The compilation pipeline: lexer -> parser -> semantic control / TAC -> optimization -> MIPS.
+ * The MIPS is generated from the TAC instructions of the front end, see {@link TacIrWalker}, after their
+ * constants are folded unless that is turned off; TAC text is only parsed when a hand written TAC program
+ * is compiled with {@link #compileTac(String)}.
+ * It keeps no state between calls, every compile works on its own {@link Compilation}
+ * so it is safe to call from several threads at once, once its options are set.
+ *
+ * Errors are kept up to a limit, syntax and semantic errors each. Past the syntax error limit the parser
+ * stops, and in fail fast mode it stops at the first syntax error, for requests that only validate.
+ * A program with errors gets no TAC or MIPS unless the backend is asked to run on errors too.
+ */
+public class DecafCompiler {
+    public static final String LEXING = "Lexing";
+    public static final String PARSING = "Parsing";
+    public static final String SEMANTIC_ANALYSIS = "Semantic analysis";
+    public static final String OPTIMIZATION = "Optimization";
+    public static final String MIPS_GENERATION = "MIPS generation";
+    public static final int DEFAULT_ERROR_LIMIT = 100;
+
+    private int errorLimit = DEFAULT_ERROR_LIMIT;
+    private boolean failFast = false;
+    private boolean backendOnErrors = false;
+    private boolean optimize = true;
+
+    /**
+     * @param errorLimit syntax errors, and semantic errors, kept before the rest are dropped
+     */
+    public DecafCompiler errorLimit(int errorLimit) {
+        this.errorLimit = errorLimit;
+        return this;
+    }
+
+    /**
+     * @param failFast stop at the first syntax error, without semantic analysis or code generation
+     */
+    public DecafCompiler failFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    /**
+     * @param backendOnErrors generate TAC and MIPS for programs with errors too
+     */
+    public DecafCompiler backendOnErrors(boolean backendOnErrors) {
+        this.backendOnErrors = backendOnErrors;
+        return this;
+    }
+
+    /**
+     * @param optimize fold the constants of the TAC before generating MIPS, see {@link ConstantFolding}
+     */
+    public DecafCompiler optimize(boolean optimize) {
+        this.optimize = optimize;
+        return this;
+    }
+
+    /**
+     * Compiles a Decaf program
+     * @param source the program
+     * @return the compilation with all of its artifacts
+     */
+    public Compilation compile(String source) {
+        return compile(source, phase -> { });
+    }
+
+    /**
+     * Compiles a Decaf program
+     * @param source the program
+     * @param progress receives the name of each phase as it starts
+     * @return the compilation with all of its artifacts
+     */
+    public Compilation compile(String source, Consumer<String> progress) {
+        return compile(source, progress, null, new CompileMetrics());
+    }
+
+    /**
+     * Compiles a new version of a program, only checking and translating the methods that changed
+     * since the previous compilation with the same cache
+     * @param source the program
+     * @param progress receives the name of each phase as it starts
+     * @param cache results of the previous compilation of the program, updated with the ones of this one
+     * @return the compilation with all of its artifacts, the same as {@link #compile(String, Consumer)}'s
+     */
+    public Compilation compile(String source, Consumer<String> progress, IncrementalCache cache) {
+        synchronized (cache) {
+            try {
+                return compile(source, progress, cache, new CompileMetrics());
+            } catch (RuntimeException e) {
+                cache.clear();
+                throw e;
+            }
+        }
+    }
+
+    private Compilation compile(String source, Consumer<String> progress, IncrementalCache cache,
+                                CompileMetrics metrics) {
+        CollectingErrorListener syntaxErrorListener = new CollectingErrorListener(errorLimit, failFast);
+        CommonTokenStream tokens;
+        decafParser parser;
+        ParseTree parseTree;
+        try {
+            startPhase(metrics, progress, LEXING);
+            tokens = lex(source, syntaxErrorListener);
+
+            startPhase(metrics, progress, PARSING);
+            parser = newParser(tokens, syntaxErrorListener);
+            parseTree = parseProgram(parser, mode -> metrics.note(PARSING, mode));
+        } catch (ParseCancellationException e) {
+            // too many syntax errors, or the first one in fail fast mode
+            metrics.note(metrics.getCurrentPhase(), "stopped");
+            metrics.end();
+            return new Compilation(source, null, syntaxErrorListener.getErrors(), Collections.emptyList(), "", "",
+                    metrics);
+        }
+
+        // semantic control and TAC generation
+        startPhase(metrics, progress, SEMANTIC_ANALYSIS);
+        if (cache != null) {
+            cache.begin();
+        }
+        MemoryTacSink tacSink = new MemoryTacSink();
+        SemanticListener semanticListener = analyze(parser, parseTree, tacSink, cache);
+        List<String> semanticErrors = semanticListener.getSemanticErrorsList();
+        String tac = tacSink.getText();
+
+        String mips = null;
+        if (!backendOnErrors && (!syntaxErrorListener.getErrors().isEmpty() || !semanticErrors.isEmpty())) {
+            // the TAC of a broken program is of no use
+            tac = "";
+            mips = "";
+            metrics.note(MIPS_GENERATION, "skipped");
+        }
+        if (mips == null) {
+            TacProgram program = semanticListener.getTacProgram();
+            if (optimize) {
+                startPhase(metrics, progress, OPTIMIZATION);
+                List<String> notFolded = new ArrayList<>();
+                program = cache != null ? optimize(cache, notFolded) : optimize(program, notFolded);
+                if (!notFolded.isEmpty()) {
+                    metrics.note(OPTIMIZATION, "failed in " + String.join(", ", notFolded));
+                }
+            }
+            // the TAC the MIPS is made of, with the declarations that make it compile on its own
+            tac = TacPrinter.print(program, semanticListener.getDeclarations());
+            // MIPS generation straight from the TAC instructions
+            startPhase(metrics, progress, MIPS_GENERATION);
+            if (cache != null) {
+                mips = generateMips(cache, semanticListener);
+                metrics.note(SEMANTIC_ANALYSIS, "reused " + cache.getReused() + "/" + cache.getMethods().size() + " methods");
+            } else {
+                mips = generateMips(program, semanticListener);
+            }
+        }
+        if (cache != null) {
+            cache.commit();
+        }
+        metrics.end();
+
+        return new Compilation(source, parseTree, syntaxErrorListener.getErrors(), semanticErrors, tac,
+                mips, metrics);
+    }
+
+    /**
+     * Lexing phase: tokenizes the whole program
+     * @param source the program
+     * @param errorListener receives lexer errors
+     * @return the filled token stream
+     */
+    public CommonTokenStream lex(String source, ANTLRErrorListener errorListener) {
+        decafLexer lexer = new decafLexer(CharStreams.fromString(source));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        tokens.fill();
+        return tokens;
+    }
+
+    /**
+     * Creates the parser for the parsing phase
+     * @param tokens
+     * @param errorListener receives parser errors
+     * @return a parser ready for {@link #parseProgram(decafParser, Consumer)}
+     */
+    public decafParser newParser(TokenStream tokens, ANTLRErrorListener errorListener) {
+        decafParser parser = new decafParser(tokens);
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        return parser;
+    }
+
+    /**
+     * Parsing phase, SLL first and full LL only if that fails
+     * @param parser
+     * @param predictionMode receives the prediction mode that built the tree
+     * @return the parse tree
+     */
+    public ParseTree parseProgram(decafParser parser, Consumer<String> predictionMode) {
+        return TwoStageParser.parse(parser, parser::program, predictionMode);
+    }
+
+    /**
+     * Semantic analysis phase, which also generates the TAC. The bodies of the methods of a program
+     * are checked in parallel once its declarations are registered, see {@link SemanticAnalyzer}
+     * @param parser the parser that built the tree
+     * @param parseTree
+     * @param tacSink receives the TAC
+     * @return the listener with the errors and symbol tables
+     */
+    public SemanticListener analyze(decafParser parser, ParseTree parseTree, TacSink tacSink) {
+        return analyze(parser, parseTree, tacSink, null);
+    }
+
+    /**
+     * Semantic analysis phase reusing the results of the methods that didn't change
+     * @param parser the parser that built the tree
+     * @param parseTree
+     * @param tacSink receives the TAC
+     * @param cache results of the previous compilation, null to check every method
+     * @return the listener with the errors and symbol tables
+     */
+    public SemanticListener analyze(decafParser parser, ParseTree parseTree, TacSink tacSink, IncrementalCache cache) {
+        if (parseTree instanceof decafParser.ProgramContext) {
+            return SemanticAnalyzer.analyze(parser, (decafParser.ProgramContext) parseTree, tacSink, cache, errorLimit);
+        }
+        SemanticListener semanticListener = new SemanticListener(parser, tacSink, errorLimit);
+        new ParseTreeWalker().walk(semanticListener, parseTree);
+        return semanticListener;
+    }
+
+    /**
+     * Creates a parser for TAC text, see {@link #compileTac(String)}
+     * @param tac
+     * @return a parser ready for {@link #parseTac(tacParser, Consumer)}
+     */
+    public tacParser newTacParser(String tac) {
+        return new tacParser(new CommonTokenStream(new tacLexer(CharStreams.fromString(tac))));
+    }
+
+    /**
+     * Parses TAC text, SLL first and full LL only if that fails
+     * @param tp
+     * @param predictionMode receives the prediction mode that built the tree
+     * @return the TAC parse tree
+     */
+    public ParseTree parseTac(tacParser tp, Consumer<String> predictionMode) {
+        return TwoStageParser.parse(tp, tp::program, predictionMode);
+    }
+
+    /**
+     * Optimization phase: folds the constants of every function, see {@link ConstantFolding}. A function
+     * the folding fails on, e.g. one whose jumps the front end got wrong, is kept as it is.
+     * @param program
+     * @return the optimized program
+     */
+    public TacProgram optimize(TacProgram program) {
+        return optimize(program, new ArrayList<>());
+    }
+
+    /**
+     * @param program
+     * @param notFolded receives the name of every function the folding failed on
+     * @return the optimized program
+     */
+    private TacProgram optimize(TacProgram program, List<String> notFolded) {
+        TacProgram optimized = new TacProgram();
+        for (TacFunction function : program.getFunctions()) {
+            optimized.add(optimize(function, notFolded));
+        }
+        return optimized;
+    }
+
+    /**
+     * Optimization phase one method at a time, reusing the optimized TAC of a method that didn't change
+     * @param cache the methods of this compilation, in order
+     * @param notFolded receives the name of every function the folding failed on in this compilation
+     * @return the optimized program, the same as {@link #optimize(TacProgram)}'s
+     */
+    private TacProgram optimize(IncrementalCache cache, List<String> notFolded) {
+        TacProgram optimized = new TacProgram();
+        for (IncrementalCache.MethodResult method : cache.getMethods()) {
+            if (method.getOptimized() == null) {
+                method.setOptimized(optimize(method.getFunctions(), notFolded));
+            }
+            optimized.addAll(method.getOptimized());
+        }
+        return optimized;
+    }
+
+    private static TacFunction optimize(TacFunction function, List<String> notFolded) {
+        try {
+            return ConstantFolding.fold(function);
+        } catch (RuntimeException e) {
+            // a bug in the folding must not cost the whole compilation, the function just stays unfolded
+            Trace.log(Trace.Category.TAC, Trace.Level.ERROR, "constants of ", function.getName(), " not folded: ", e);
+            notFolded.add(function.getName());
+            return function;
+        }
+    }
+
+    /**
+     * MIPS generation phase, from the TAC instructions of the program
+     * @param program the TAC of the program, as the front end made it or optimized
+     * @param semanticListener the listener that ran the semantic analysis, for its symbol tables
+     * @return the assembled MIPS program
+     */
+    public String generateMips(TacProgram program, SemanticListener semanticListener) {
+        MipsEmitter mipsEmitter = new MipsEmitter();
+        TacSemanticListener tacSL = new TacSemanticListener(semanticListener.getDeclarations(), mipsEmitter);
+        tacSL.enterProgram(null);
+        for (TacFunction function : program.getFunctions()) {
+            TacIrWalker.of(function).walk(tacSL);
+        }
+        tacSL.exitProgram(null);
+        return mipsEmitter.assemble();
+    }
+
+    /**
+     * MIPS generation phase one method at a time, reusing the MIPS of a method whose TAC didn't change.
+     * The TAC of a method is the optimized one if this compiler optimizes, see {@link #optimize(boolean)}
+     * @param cache the methods of this compilation, in order
+     * @param semanticListener the listener that ran the semantic analysis, for its symbol tables
+     * @return the assembled MIPS program, the same as {@link #generateMips(TacProgram, SemanticListener)}'s
+     */
+    public String generateMips(IncrementalCache cache, SemanticListener semanticListener) {
+        MipsEmitter mipsEmitter = new MipsEmitter();
+        TacSemanticListener tacSL = new TacSemanticListener(semanticListener.getDeclarations(), mipsEmitter);
+        tacSL.enterProgram(null);
+        for (IncrementalCache.MethodResult method : cache.getMethods()) {
+            TacProgram program = optimize && method.getOptimized() != null ? method.getOptimized() : method.getFunctions();
+            IncrementalCache.Mips generated = method.getMips();
+            if (generated == null || generated.getProgram() != program) {
+                MipsEmitter methodEmitter = new MipsEmitter();
+                tacSL.setEmitter(methodEmitter);
+                for (TacFunction function : program.getFunctions()) {
+                    TacIrWalker.of(function).walk(tacSL);
+                }
+                generated = new IncrementalCache.Mips(methodEmitter, program);
+                method.setMips(generated);
+            } else {
+                for (TacFunction function : program.getFunctions()) {
+                    tacSL.declareData(function);
+                }
+            }
+            mipsEmitter.append(generated.getCode());
+        }
+        tacSL.setEmitter(mipsEmitter);
+        tacSL.exitProgram(null);
+        return mipsEmitter.assemble();
+    }
+
+    /**
+     * Compiles a TAC program in the decaf.tac format, e.g. the TAC of a {@link Compilation}, which
+     * compiles to the same MIPS. With no Decaf program behind it the variables are the ones the text
+     * declares, see {@link TacPrinter#print(TacProgram, Declarations)}.
+     * @param tac
+     * @return the assembled MIPS program
+     * @throws IllegalArgumentException if a function uses a variable the text doesn't declare
+     */
+    public String compileTac(String tac) {
+        tacParser tp = newTacParser(tac);
+        ParseTree tacTree = parseTac(tp, mode -> { });
+        MipsEmitter mipsEmitter = new MipsEmitter();
+        new ParseTreeWalker().walk(new TacSemanticListener(mipsEmitter), tacTree);
+        return mipsEmitter.assemble();
+    }
+
+    /**
+     * Parses a Decaf program, ignoring syntax errors
+     * @param source the program
+     * @return the parse tree
+     */
+    public static ParseTree parse(String source) {
+        decafLexer lexer = new decafLexer(CharStreams.fromString(source));
+        lexer.removeErrorListeners();
+        decafParser parser = new decafParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        return TwoStageParser.parse(parser, parser::program, mode -> { });
+    }
+
+    /**
+     * @return a string that identifies the options this compiler runs with, part of the cache key
+     */
+    public String getOptionsFingerprint() {
+        return "errors=" + errorLimit + (failFast ? ",fail-fast" : "") + (backendOnErrors ? ",backend-on-errors" : "")
+                + (optimize ? "" : ",no-optimize");
+    }
+
+    private void startPhase(CompileMetrics metrics, Consumer<String> progress, String phase) {
+        progress.accept(phase);
+        metrics.start(phase);
+    }
+}
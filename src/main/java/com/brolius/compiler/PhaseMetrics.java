@@ -0,0 +1,35 @@
+package com.brolius.compiler;
+
+/**
+ * Measurements of one compilation phase. Values that the JVM can't measure are -1.
+ */
+public class PhaseMetrics {
+    private final String phase;
+    private final long wallNanos;
+    private final long cpuNanos;
+    private final long allocatedBytes;
+
+    public PhaseMetrics(String phase, long wallNanos, long cpuNanos, long allocatedBytes) {
+        this.phase = phase;
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getPhase() { return phase; }
+    public long getWallNanos() { return wallNanos; }
+    public long getCpuNanos() { return cpuNanos; }
+    public long getAllocatedBytes() { return allocatedBytes; }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(phase).append(' ').append(String.format("%.2f ms", wallNanos / 1e6));
+        if (cpuNanos >= 0) {
+            sb.append(String.format(", cpu %.2f ms", cpuNanos / 1e6));
+        }
+        if (allocatedBytes >= 0) {
+            sb.append(String.format(", %.1f KB", allocatedBytes / 1024.0));
+        }
+        return sb.toString();
+    }
+}
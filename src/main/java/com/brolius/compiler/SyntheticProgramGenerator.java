@@ -0,0 +1,358 @@
+package com.brolius.compiler;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Generates valid Decaf programs of any size, for load and scaling tests.
+ * The shape is controlled by a few knobs (methods, globals, structs, statements per method,
+ * expression depth, if/while nesting and call density) and a seed, the same settings always
+ * give the same program.
+ *
+ * Generated programs are valid Decaf: every variable is declared before it is used, types always
+ * match, methods only call methods declared before them and calls are statements, never operands.
+ * Globals, struct fields, nested expressions and if/while blocks are only generated when their knob
+ * is above zero, so a program can be limited to straight line code over locals.
+ *
+ * With -check n the programs of n seeds, from the one given on, are compiled instead of written out,
+ * and any that doesn't compile cleanly is reported, see {@link #check(int)}.
+ *
+ * Usage: SyntheticProgramGenerator [-methods n] [-globals n] [-structs n] [-statements n]
+ *        [-depth n] [-nesting n] [-calls percent] [-seed n] [-lines n] [-check n] [-o file]
+ */
+public class SyntheticProgramGenerator {
+    private static final String INDENT = "    ";
+    private static final String[] ARITHMETIC = {"+", "-", "*", "/", "%"};
+    private static final String[] RELATIONAL = {"<", ">", "<=", ">=", "==", "!="};
+    private static final int LOCALS = 3;
+    private static final int ARRAY_SIZE = 10;
+    private static final int FIELDS = 3;
+
+    private int methods = 10;
+    private int globals = 4;
+    private int structs = 2;
+    private int statements = 8;
+    private int expressionDepth = 3;
+    private int nesting = 2;
+    private int callDensity = 10;
+    private long seed = 1;
+
+    private Random random;
+    private StringBuilder out;
+
+    public SyntheticProgramGenerator methods(int methods) {
+        this.methods = methods;
+        return this;
+    }
+
+    public SyntheticProgramGenerator globals(int globals) {
+        this.globals = globals;
+        return this;
+    }
+
+    public SyntheticProgramGenerator structs(int structs) {
+        this.structs = structs;
+        return this;
+    }
+
+    /**
+     * @param statements top level statements in each method body
+     */
+    public SyntheticProgramGenerator statements(int statements) {
+        this.statements = statements;
+        return this;
+    }
+
+    /**
+     * @param expressionDepth maximum depth of the binary operator trees in expressions
+     */
+    public SyntheticProgramGenerator expressionDepth(int expressionDepth) {
+        this.expressionDepth = expressionDepth;
+        return this;
+    }
+
+    /**
+     * @param nesting maximum nesting of if and while blocks
+     */
+    public SyntheticProgramGenerator nesting(int nesting) {
+        this.nesting = nesting;
+        return this;
+    }
+
+    /**
+     * @param callDensity percent of statements that are calls to other methods
+     */
+    public SyntheticProgramGenerator callDensity(int callDensity) {
+        this.callDensity = callDensity;
+        return this;
+    }
+
+    public SyntheticProgramGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the number of methods so the program is about the given number of lines long,
+     * keeping the other knobs
+     * @param targetLines
+     */
+    public SyntheticProgramGenerator lines(int targetLines) {
+        methods = 1;
+        int one = lineCount(generate());
+        methods = 2;
+        int perMethod = Math.max(1, lineCount(generate()) - one);
+        methods = Math.max(1, (targetLines - one) / perMethod + 1);
+        return this;
+    }
+
+    /**
+     * @return the program for the current settings
+     */
+    public String generate() {
+        random = new Random(seed);
+        out = new StringBuilder();
+
+        line(0, "class Synthetic {");
+        for (int s = 0; s < structs; s++) {
+            line(1, "struct " + name('j', s, structs) + " {");
+            for (int f = 0; f < FIELDS; f++) {
+                line(2, "int " + name('f', f, FIELDS + 1) + ";");
+            }
+            line(2, "boolean " + name('f', FIELDS, FIELDS + 1) + ";");
+            line(1, "}");
+        }
+        for (int g = 0; g < globals; g++) {
+            String name = name('g', g, globals);
+            line(1, g % 2 == 0 ? "int " + name + ";" : "int " + name + "[" + ARRAY_SIZE + "];");
+        }
+        for (int m = 0; m < methods; m++) {
+            method(m);
+        }
+        line(1, "void main() {");
+        line(2, "int k;");
+        for (int m = 0; m < methods; m++) {
+            line(2, "k = " + m + ";");
+            line(2, call(m, "k"));
+        }
+        line(1, "}");
+        line(0, "}");
+        return out.toString();
+    }
+
+    private void method(int m) {
+        line(1, "int " + name('m', m, methods) + "(int y, boolean z) {");
+        for (int l = 0; l < LOCALS; l++) {
+            line(2, "int " + local(l) + ";");
+        }
+        line(2, "boolean q;");
+        line(2, "int p[" + ARRAY_SIZE + "];");
+        for (int l = 0; l < LOCALS; l++) {
+            line(2, local(l) + " = y + " + l + ";");
+        }
+        line(2, "q = z;");
+        for (int s = 0; s < statements; s++) {
+            statement(m, 2, 0);
+        }
+        line(2, "return " + local(random.nextInt(LOCALS)) + ";");
+        line(1, "}");
+    }
+
+    private void statement(int m, int indent, int depth) {
+        int choice = random.nextInt(100);
+        if (choice < callDensity && m > 0) {
+            line(indent, call(random.nextInt(m), intExpression(expressionDepth)));
+        } else if (choice < 55 || depth >= nesting) {
+            line(indent, intLocation() + " = " + intExpression(expressionDepth) + ";");
+        } else if (choice < 65) {
+            line(indent, "q = " + boolExpression(expressionDepth) + ";");
+        } else if (choice < 85) {
+            line(indent, "if (" + boolExpression(expressionDepth) + ") {");
+            block(m, indent + 1, depth + 1);
+            if (random.nextBoolean()) {
+                line(indent, "} else {");
+                block(m, indent + 1, depth + 1);
+            }
+            line(indent, "}");
+        } else {
+            String counter = local(random.nextInt(LOCALS));
+            line(indent, "while (" + counter + " > 0) {");
+            block(m, indent + 1, depth + 1);
+            line(indent + 1, counter + " = " + counter + " - 1;");
+            line(indent, "}");
+        }
+    }
+
+    private void block(int m, int indent, int depth) {
+        int count = 1 + random.nextInt(3);
+        for (int s = 0; s < count; s++) {
+            statement(m, indent, depth);
+        }
+    }
+
+    private String call(int m, String argument) {
+        return name('m', m, methods) + "(" + argument + ", " + (m % 2 == 0 ? "true" : "false") + ");";
+    }
+
+    private String intLocation() {
+        int choice = random.nextInt(10);
+        if (choice < 5 || globals == 0 && structs == 0) {
+            return local(random.nextInt(LOCALS));
+        } else if (choice < 7) {
+            return "p[" + random.nextInt(ARRAY_SIZE) + "]";
+        } else if (choice < 9 && globals > 0 || structs == 0) {
+            int g = random.nextInt(globals);
+            String name = name('g', g, globals);
+            return g % 2 == 0 ? name : name + "[" + random.nextInt(ARRAY_SIZE) + "]";
+        }
+        return name('j', random.nextInt(structs), structs) + "." + name('f', random.nextInt(FIELDS), FIELDS + 1);
+    }
+
+    private String intExpression(int depth) {
+        if (depth <= 0 || random.nextInt(4) == 0) {
+            return random.nextBoolean() ? intLocation() : String.valueOf(random.nextInt(100));
+        }
+        String operator = ARITHMETIC[random.nextInt(ARITHMETIC.length)];
+        // never divide by a literal zero
+        String right = operator.equals("/") || operator.equals("%")
+                ? String.valueOf(1 + random.nextInt(99)) : operand(depth - 1);
+        return operand(depth - 1) + " " + operator + " " + right;
+    }
+
+    /**
+     * An int expression, parenthesized when it isn't a single location or literal
+     */
+    private String operand(int depth) {
+        String expression = intExpression(depth);
+        return expression.indexOf(' ') < 0 ? expression : "(" + expression + ")";
+    }
+
+    private String boolExpression(int depth) {
+        int choice = random.nextInt(4);
+        if (depth <= 1 || choice == 0) {
+            return operand(depth - 1) + " " + RELATIONAL[random.nextInt(RELATIONAL.length)] + " " + operand(depth - 1);
+        } else if (choice == 1) {
+            return random.nextBoolean() ? "q" : "z";
+        }
+        String operator = choice == 2 ? " && " : " || ";
+        return "(" + boolExpression(depth - 1) + ")" + operator + "(" + boolExpression(depth - 1) + ")";
+    }
+
+    private void line(int indent, String text) {
+        for (int i = 0; i < indent; i++) {
+            out.append(INDENT);
+        }
+        out.append(text).append('\n');
+    }
+
+    private static String local(int index) {
+        return name('x', index, LOCALS);
+    }
+
+    /**
+     * Names the index-th of count identifiers of a kind: the kind's lowercase letter followed by a
+     * fixed number of uppercase letters, so no name is a keyword or another kind's.
+     */
+    private static String name(char kind, int index, int count) {
+        int width = 1;
+        for (int n = 26; n < count; n *= 26) {
+            width++;
+        }
+        char[] letters = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            letters[i] = (char) ('A' + index % 26);
+            index /= 26;
+        }
+        return kind + new String(letters);
+    }
+
+    /**
+     * Compiles the programs of a number of seeds, starting at the current one, with the other knobs as
+     * they are
+     * @param seeds
+     * @return a line for each seed whose program throws or has errors, with the first one
+     */
+    public List<String> check(int seeds) {
+        long first = seed;
+        List<String> problems = new ArrayList<>();
+        DecafCompiler compiler = new DecafCompiler();
+        try {
+            for (long s = first; s < first + seeds; s++) {
+                seed = s;
+                try {
+                    Compilation compilation = compiler.compile(generate());
+                    List<Object> errors = new ArrayList<>(compilation.getSyntaxErrors());
+                    errors.addAll(compilation.getSemanticErrors());
+                    if (!errors.isEmpty()) {
+                        problems.add("seed " + s + ": " + errors.size() + " error(s), " + errors.get(0));
+                    }
+                } catch (RuntimeException | StackOverflowError e) {
+                    problems.add("seed " + s + ": " + e);
+                }
+            }
+        } finally {
+            seed = first;
+        }
+        return problems;
+    }
+
+    private static int lineCount(String program) {
+        int count = 0;
+        for (int i = 0; i < program.length(); i++) {
+            if (program.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws IOException {
+        SyntheticProgramGenerator generator = new SyntheticProgramGenerator();
+        String output = null;
+        int targetLines = 0;
+        int check = 0;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "-methods": generator.methods(Integer.parseInt(value)); break;
+                case "-globals": generator.globals(Integer.parseInt(value)); break;
+                case "-structs": generator.structs(Integer.parseInt(value)); break;
+                case "-statements": generator.statements(Integer.parseInt(value)); break;
+                case "-depth": generator.expressionDepth(Integer.parseInt(value)); break;
+                case "-nesting": generator.nesting(Integer.parseInt(value)); break;
+                case "-calls": generator.callDensity(Integer.parseInt(value)); break;
+                case "-seed": generator.seed(Long.parseLong(value)); break;
+                case "-lines": targetLines = Integer.parseInt(value); break;
+                case "-check": check = Integer.parseInt(value); break;
+                case "-o": output = value; break;
+                default:
+                    System.err.println("Unknown option " + args[i]);
+                    System.exit(2);
+            }
+        }
+        if (targetLines > 0) {
+            generator.lines(targetLines);
+        }
+        if (check > 0) {
+            List<String> problems = generator.check(check);
+            for (String problem : problems) {
+                System.err.println(problem);
+            }
+            System.out.println("Compiled " + check + " program(s): " + problems.size() + " problem(s)");
+            System.exit(problems.isEmpty() ? 0 : 1);
+        }
+
+        String program = generator.generate();
+        if (output == null) {
+            PrintStream stdout = new PrintStream(System.out, true, "UTF-8");
+            stdout.print(program);
+        } else {
+            Files.write(Paths.get(output), program.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.brolius.compiler;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Debug trace of the compiler phases, by category and level.
+ * Every category is off by default. A disabled trace call is a check of a single int, so it costs no
+ * allocation or formatting as long as its arguments don't: pass the objects to print and let the trace
+ * concatenate them, and guard messages that need work to build with {@link #isEnabled(Category, Level)}.
+ *
+ * Enabled messages are formatted on the calling thread and queued in a bounded buffer, a daemon thread
+ * writes them out. Compilations never wait for the output: when the buffer is full messages are dropped
+ * and counted, the count is written once there is room again.
+ *
+ * The trace is configured with the <code>decaf.trace</code> system property, a comma separated list of
+ * <code>category=level</code> (e.g. <code>semantic=debug,mips=info</code>, <code>all=debug</code>), or with
+ * {@link #enable(Category, Level)}.
+ */
+public final class Trace {
+    public enum Category { SEMANTIC, TAC, MIPS, PARSER }
+    public enum Level { ERROR, INFO, DEBUG }
+
+    public static final String PROPERTY = "decaf.trace";
+    private static final int CAPACITY = 8192;
+    private static final int LEVELS = Level.values().length;
+
+    private static volatile int enabledMask = 0;       // bit category * LEVELS + level
+    private static final BlockingQueue<String> buffer = new ArrayBlockingQueue<>(CAPACITY);
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final AtomicLong pending = new AtomicLong();     // queued and not yet written
+    private static volatile PrintStream out = System.out;
+    private static Thread writer;
+
+    static {
+        String spec = System.getProperty(PROPERTY);
+        if (spec != null) {
+            configure(spec);
+        }
+    }
+
+    private Trace() {
+    }
+
+    /**
+     * @param category
+     * @param level
+     * @return true if messages of that level and category are written
+     */
+    public static boolean isEnabled(Category category, Level level) {
+        return (enabledMask & bit(category, level)) != 0;
+    }
+
+    public static void log(Category category, Level level, String message) {
+        if ((enabledMask & bit(category, level)) != 0) {
+            enqueue(category, message);
+        }
+    }
+
+    /**
+     * Writes the message followed by the value, only building the text if the trace is enabled
+     */
+    public static void log(Category category, Level level, String message, Object value) {
+        if ((enabledMask & bit(category, level)) != 0) {
+            enqueue(category, message + value);
+        }
+    }
+
+    public static void log(Category category, Level level, String message, Object value,
+                           String message2, Object value2) {
+        if ((enabledMask & bit(category, level)) != 0) {
+            enqueue(category, message + value + message2 + value2);
+        }
+    }
+
+    public static void debug(Category category, String message) {
+        log(category, Level.DEBUG, message);
+    }
+
+    public static void debug(Category category, String message, Object value) {
+        log(category, Level.DEBUG, message, value);
+    }
+
+    /**
+     * Enables a category up to a level, messages of lower levels (more important) are written too
+     * @param category
+     * @param level
+     */
+    public static synchronized void enable(Category category, Level level) {
+        int mask = enabledMask;
+        for (Level l : Level.values()) {
+            mask &= ~bit(category, l);
+            if (l.ordinal() <= level.ordinal()) {
+                mask |= bit(category, l);
+            }
+        }
+        startWriter();
+        enabledMask = mask;
+    }
+
+    public static synchronized void disable(Category category) {
+        int mask = enabledMask;
+        for (Level l : Level.values()) {
+            mask &= ~bit(category, l);
+        }
+        enabledMask = mask;
+    }
+
+    /**
+     * @param spec comma separated <code>category=level</code>, "all" as category enables every one,
+     *             "off" as level disables it
+     */
+    public static synchronized void configure(String spec) {
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts[0].isEmpty()) {
+                continue;
+            }
+            String levelName = parts.length > 1 ? parts[1].trim().toUpperCase() : Level.DEBUG.name();
+            List<Category> categories = new ArrayList<>();
+            if (parts[0].trim().equalsIgnoreCase("all")) {
+                for (Category category : Category.values()) {
+                    categories.add(category);
+                }
+            } else {
+                try {
+                    categories.add(Category.valueOf(parts[0].trim().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    continue;       // unknown category
+                }
+            }
+            for (Category category : categories) {
+                if (levelName.equals("OFF")) {
+                    disable(category);
+                } else {
+                    try {
+                        enable(category, Level.valueOf(levelName));
+                    } catch (IllegalArgumentException e) {
+                        // unknown level, leave the category as it is
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets where messages are written, stdout by default
+     * @param stream
+     */
+    public static void setOutput(PrintStream stream) {
+        out = stream;
+    }
+
+    /**
+     * Waits until the queued messages are written, at most the given time
+     * @param timeoutMillis
+     */
+    public static void flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (pending.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        out.flush();
+    }
+
+    private static int bit(Category category, Level level) {
+        return 1 << (category.ordinal() * LEVELS + level.ordinal());
+    }
+
+    private static void enqueue(Category category, String message) {
+        pending.incrementAndGet();
+        if (!buffer.offer("[" + category.name().toLowerCase() + "] " + message)) {
+            pending.decrementAndGet();
+            dropped.incrementAndGet();
+        }
+    }
+
+    private static void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(Trace::write, "decaf-trace");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private static void write() {
+        List<String> batch = new ArrayList<>(256);
+        while (true) {
+            try {
+                String first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, 255);
+                PrintStream stream = out;
+                long lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    stream.println("[trace] " + lost + " message(s) dropped, buffer full");
+                }
+                for (String message : batch) {
+                    stream.println(message);
+                }
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.brolius.compiler;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs a start rule with SLL prediction and a bail out error strategy first, and only when that
+ * fails parses again from the first token with full LL prediction, the parser's error listeners
+ * and normal error recovery. Valid input, the common case, never pays for full LL, and invalid
+ * input gets exactly the diagnostics a plain LL parse would give.
+ */
+public final class TwoStageParser {
+    public static final String SLL = "SLL";
+    public static final String LL = "LL";
+
+    private TwoStageParser() { }
+
+    /**
+     * @param parser a fresh parser over its token stream
+     * @param startRule the rule to run, e.g. parser::program
+     * @param predictionMode receives {@link #SLL} or {@link #LL}, the stage that produced the tree
+     * @return the parse tree
+     */
+    public static <T extends ParserRuleContext> T parse(Parser parser, Supplier<T> startRule,
+                                                        Consumer<String> predictionMode) {
+        List<ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+        ANTLRErrorStrategy errorHandler = parser.getErrorHandler();
+
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            T tree = startRule.get();
+            predictionMode.accept(SLL);
+            return tree;
+        } catch (ParseCancellationException e) {
+            // syntax error or SLL conflict, start over
+        } finally {
+            parser.setErrorHandler(errorHandler);
+            for (ANTLRErrorListener listener : listeners) {
+                parser.addErrorListener(listener);
+            }
+        }
+
+        parser.reset();
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        T tree = startRule.get();
+        predictionMode.accept(LL);
+        return tree;
+    }
+}
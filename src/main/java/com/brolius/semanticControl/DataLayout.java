@@ -0,0 +1,76 @@
+package com.brolius.semanticControl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sizes of Decaf values in memory and offsets of struct fields, in bytes. Ints, chars and booleans take
+ * a word, an array its length times the size of its elements and a struct the sizes of its fields one
+ * after the other, in declaration order. A struct with a field of its own type, which can't be built,
+ * counts that field as a word.
+ *
+ * Sizes of structs are computed once per layout, so a layout belongs to one symbol table and one thread.
+ */
+public class DataLayout {
+    public static final int WORD = 4;
+
+    private final SymbolTable symbolTable;
+    private final Map<String, Integer> structSizes = new HashMap<>();
+    private final Set<String> sizing = new HashSet<>();     // structs whose size is being computed
+
+    public DataLayout(SymbolTable symbolTable) {
+        this.symbolTable = symbolTable;
+    }
+
+    /**
+     * @param var
+     * @return the bytes of the variable
+     */
+    public int sizeOf(VarElement var) {
+        DecafType type = var.getDecafType();
+        return type.isArray() ? var.getNUM() * sizeOf(type.getElementType()) : sizeOf(type);
+    }
+
+    /**
+     * @param type a primitive or struct type; arrays are sized by their variables
+     * @return the bytes of a value of the type
+     */
+    public int sizeOf(DecafType type) {
+        if (!type.isStruct()) {
+            return WORD;
+        }
+        Integer size = structSizes.get(type.getName());
+        if (size == null) {
+            if (!sizing.add(type.getName())) {
+                return WORD;
+            }
+            size = 0;
+            for (VarElement field : symbolTable.getFields(type.getName())) {
+                size += sizeOf(field);
+            }
+            sizing.remove(type.getName());
+            structSizes.put(type.getName(), size);
+        }
+        return size;
+    }
+
+    /**
+     * @param struct name of the struct
+     * @param field name of the field
+     * @return bytes from the start of the struct to the field, 0 if the struct has no such field
+     */
+    public int offsetOf(String struct, String field) {
+        int offset = 0;
+        List<VarElement> fields = symbolTable.getFields(struct);
+        for (VarElement var : fields) {
+            if (var.getID().equals(field)) {
+                return offset;
+            }
+            offset += sizeOf(var);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.brolius.semanticControl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Types of Decaf values. There is a single instance per type: the primitives and the error and unknown
+ * types are constants, structs are interned by name and every type has one array type, so types are
+ * compared with == and never by name.
+ */
+public final class DecafType {
+    public enum Kind { INT, CHAR, BOOLEAN, VOID, STRUCT, ARRAY, ERROR, UNKNOWN }
+
+    public static final DecafType INT = new DecafType(Kind.INT, "int", null);
+    public static final DecafType CHAR = new DecafType(Kind.CHAR, "char", null);
+    public static final DecafType BOOLEAN = new DecafType(Kind.BOOLEAN, "boolean", null);
+    public static final DecafType VOID = new DecafType(Kind.VOID, "void", null);
+    /** Type of an illegal operation */
+    public static final DecafType ERROR = new DecafType(Kind.ERROR, "illegal", null);
+    /** Type of an undefined variable or method */
+    public static final DecafType UNKNOWN = new DecafType(Kind.UNKNOWN, "", null);
+
+    private static final ConcurrentMap<String, DecafType> structs = new ConcurrentHashMap<>();
+
+    private final Kind kind;
+    private final String name;
+    private final DecafType elementType;
+    private volatile DecafType arrayType;
+
+    private DecafType(Kind kind, String name, DecafType elementType) {
+        this.kind = kind;
+        this.name = name;
+        this.elementType = elementType;
+    }
+
+    /**
+     * @param name name of a struct
+     * @return the type of the struct
+     */
+    public static DecafType struct(String name) {
+        return structs.computeIfAbsent(name, n -> new DecafType(Kind.STRUCT, n, null));
+    }
+
+    /**
+     * @param name a type as written in the source: "int", "char", "boolean", "void" or a struct name;
+     *             "illegal" and "" give {@link #ERROR} and {@link #UNKNOWN}
+     * @return the type
+     */
+    public static DecafType of(String name) {
+        switch (name) {
+            case "int": return INT;
+            case "char": return CHAR;
+            case "boolean": return BOOLEAN;
+            case "void": return VOID;
+            case "illegal": return ERROR;
+            case "": return UNKNOWN;
+            default: return struct(name);
+        }
+    }
+
+    /**
+     * @return the type of arrays of this type
+     */
+    public DecafType arrayOf() {
+        DecafType array = arrayType;
+        if (array == null) {
+            synchronized (this) {
+                array = arrayType;
+                if (array == null) {
+                    array = new DecafType(Kind.ARRAY, name + "[]", this);
+                    arrayType = array;
+                }
+            }
+        }
+        return array;
+    }
+
+    public Kind getKind() { return kind; }
+    public String getName() { return name; }
+    /** @return the type of the elements of an array type, null for other types */
+    public DecafType getElementType() { return elementType; }
+    public boolean isArray() { return kind == Kind.ARRAY; }
+    public boolean isStruct() { return kind == Kind.STRUCT; }
+    public boolean isPrimitive() { return kind.ordinal() <= Kind.VOID.ordinal(); }
+    /** @return false for the error and unknown types */
+    public boolean isKnown() { return kind != Kind.ERROR && kind != Kind.UNKNOWN; }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,95 @@
+package com.brolius.semanticControl;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Error messages up to a limit. Messages past the limit are dropped instead of kept, so a badly broken
+ * program can't fill memory with errors; {@link #summarize()} tells the user some were left out.
+ *
+ * Every way of growing the list, add, addAll or a list iterator, goes through {@link #add(int, String)},
+ * which checks the limit.
+ */
+public class DiagnosticList extends AbstractList<String> {
+    private final List<String> messages = new ArrayList<>();
+    private final int limit;
+    private boolean truncated;      // messages were dropped
+    private boolean summarized;
+
+    public DiagnosticList(int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public String get(int index) {
+        return messages.get(index);
+    }
+
+    @Override
+    public int size() {
+        return messages.size();
+    }
+
+    @Override
+    public boolean add(String message) {
+        int before = messages.size();
+        add(before, message);
+        return messages.size() > before;
+    }
+
+    @Override
+    public void add(int index, String message) {
+        if (isFull()) {
+            truncated = true;
+            return;
+        }
+        messages.add(index, message);
+        modCount++;
+    }
+
+    @Override
+    public String set(int index, String message) {
+        return messages.set(index, message);
+    }
+
+    @Override
+    public String remove(int index) {
+        modCount++;
+        return messages.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        messages.clear();
+    }
+
+    /**
+     * Records that messages were dropped somewhere else, e.g. by a list merged into this one
+     */
+    public void markTruncated() {
+        truncated = true;
+    }
+
+    /**
+     * Adds a last message saying that the list is incomplete, once and only if messages were dropped
+     */
+    public void summarize() {
+        if (truncated && !summarized) {
+            summarized = true;
+            messages.add("Too many errors, only the first <strong>" + limit + "</strong> are shown");
+            modCount++;
+        }
+    }
+
+    /**
+     * @return true if the limit has been reached
+     */
+    public boolean isFull() {
+        return messages.size() >= limit;
+    }
+
+    public boolean isTruncated() { return truncated; }
+    public int getLimit() { return limit; }
+}
@@ -0,0 +1,17 @@
+package com.brolius.semanticControl;
+
+/**
+ * Drops every TAC line, for compilations that only need semantic diagnostics.
+ */
+public class DiscardTacSink implements TacSink {
+    public static final DiscardTacSink INSTANCE = new DiscardTacSink();
+
+    @Override
+    public void writeLine(String line) { }
+
+    @Override
+    public void flush() { }
+
+    @Override
+    public void close() { }
+}
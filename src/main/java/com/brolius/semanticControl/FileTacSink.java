@@ -0,0 +1,44 @@
+package com.brolius.semanticControl;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams the generated TAC to a file through a single writer that stays open
+ * for the whole compilation.
+ */
+public class FileTacSink implements TacSink {
+    private final Writer out;
+
+    public FileTacSink(File file) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeLine(String line) {
+        try {
+            out.write(line);
+            out.write('\n');
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
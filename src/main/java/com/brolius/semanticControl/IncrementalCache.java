@@ -0,0 +1,178 @@
+package com.brolius.semanticControl;
+
+import com.brolius.tac.TacProgram;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Results of the methods of the previous compilation of a workspace, so a recompile only checks and
+ * translates the methods that changed.
+ *
+ * A method is identified by a key made of its tokens, the number of its first branch label and how every
+ * name it uses resolves where it is declared: the variables, struct fields and signatures it can see.
+ * Two methods with the same key get the same errors, TAC and variables, so a method whose body changed or
+ * that uses a signature, global or field that changed is checked again, and every other one is taken from
+ * the previous compilation. The optimized TAC of a method only depends on its TAC, and its MIPS on the TAC
+ * it was generated from and the variables and signatures it sees, so they are reused along with the rest.
+ *
+ * A cache belongs to one workspace and is used by one compilation at a time.
+ */
+public class IncrementalCache {
+    private Map<String, MethodResult> previous = Collections.emptyMap();
+    private final Map<String, MethodResult> current = new ConcurrentHashMap<>();
+    private final List<MethodResult> methods = new ArrayList<>();     // methods of the current compilation
+    private int reused;
+
+    /**
+     * Starts a compilation, results of the last one are still available through {@link #lookup(String)}
+     */
+    public void begin() {
+        current.clear();
+        methods.clear();
+        reused = 0;
+    }
+
+    /**
+     * Ends a compilation, its results are the ones the next compilation looks up
+     */
+    public void commit() {
+        previous = new HashMap<>(current);
+        current.clear();
+    }
+
+    /**
+     * Forgets every result, e.g. after a compilation failed halfway
+     */
+    public void clear() {
+        previous = Collections.emptyMap();
+        current.clear();
+        methods.clear();
+    }
+
+    /**
+     * @param key
+     * @return the result of the method with that key in the previous compilation, null if there is none
+     */
+    public MethodResult lookup(String key) {
+        return previous.get(key);
+    }
+
+    /**
+     * Records the result of the next method of the current compilation, in source order
+     * @param result
+     * @param fromPrevious true if it was taken from the previous compilation
+     */
+    void record(MethodResult result, boolean fromPrevious) {
+        current.put(result.key, result);
+        methods.add(result);
+        if (fromPrevious) {
+            reused++;
+        }
+    }
+
+    /**
+     * @return the methods of the current compilation in source order
+     */
+    public List<MethodResult> getMethods() {
+        return Collections.unmodifiableList(methods);
+    }
+
+    /**
+     * @return how many methods of the current compilation were taken from the previous one
+     */
+    public int getReused() {
+        return reused;
+    }
+
+    /**
+     * @param description everything the result of a method depends on
+     * @return the key of the method, a hex SHA-256 of the description
+     */
+    static String key(CharSequence description) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(description.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** What checking and translating one method produced */
+    public static final class MethodResult {
+        private final String key;
+        private final List<String> errors;
+        private final String tac;
+        private final TacProgram functions;
+        private final List<VarElement> variables;
+        private volatile TacProgram optimized;
+        private volatile Mips mips;
+
+        MethodResult(String key, List<String> errors, String tac, TacProgram functions, List<VarElement> variables) {
+            this.key = key;
+            this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+            this.tac = tac;
+            this.functions = functions;
+            this.variables = Collections.unmodifiableList(new ArrayList<>(variables));
+        }
+
+        public String getKey() { return key; }
+        public List<String> getErrors() { return errors; }
+        /** @return TAC of the method, lines ended by a line separator */
+        public String getTac() { return tac; }
+        /** @return TAC of the method as instructions, no function if the method had no label */
+        public TacProgram getFunctions() { return functions; }
+        /** @return the parameters and local variables of the method, in declaration order */
+        public List<VarElement> getVariables() { return variables; }
+
+        /**
+         * @return TAC of the method with its constants folded, null if it wasn't optimized yet
+         */
+        public TacProgram getOptimized() {
+            return optimized;
+        }
+
+        public void setOptimized(TacProgram optimized) {
+            this.optimized = optimized;
+        }
+
+        /**
+         * @return the MIPS generated for the method, null if there is none yet
+         */
+        public Mips getMips() {
+            return mips;
+        }
+
+        public void setMips(Mips mips) {
+            this.mips = mips;
+        }
+    }
+
+    /** MIPS of one method */
+    public static final class Mips {
+        private final MipsEmitter code;
+        private final TacProgram program;
+
+        /**
+         * @param code
+         * @param program the TAC the code was generated from
+         */
+        public Mips(MipsEmitter code, TacProgram program) {
+            this.code = code;
+            this.program = program;
+        }
+
+        /** @return the sections of the method, the caller must not emit into it */
+        public MipsEmitter getCode() { return code; }
+        /** @return the TAC the code was generated from, the front end's or the optimized one */
+        public TacProgram getProgram() { return program; }
+    }
+}
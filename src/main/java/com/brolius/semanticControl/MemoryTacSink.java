@@ -0,0 +1,67 @@
+package com.brolius.semanticControl;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keeps the generated TAC in memory. The text can be read back with {@link #getText()}
+ * or dumped to a file with {@link #writeTo(File)} only when it is actually needed.
+ */
+public class MemoryTacSink implements TacSink {
+    private final StringBuilder buffer;
+
+    public MemoryTacSink() {
+        this.buffer = new StringBuilder();
+    }
+
+    @Override
+    public void writeLine(String line) {
+        buffer.append(line).append('\n');
+    }
+
+    @Override
+    public void flush() { }
+
+    @Override
+    public void close() { }
+
+    public String getText() { return buffer.toString(); }
+
+    /**
+     * Writes the lines of this sink to another one
+     * @param sink
+     */
+    public void copyTo(TacSink sink) {
+        writeText(buffer, sink);
+    }
+
+    /**
+     * Writes text made of whole lines, like the one of {@link #getText()}, to a sink
+     * @param text
+     * @param sink
+     */
+    public static void writeText(CharSequence text, TacSink sink) {
+        if (sink instanceof MemoryTacSink) {
+            ((MemoryTacSink) sink).buffer.append(text);
+            return;
+        }
+        int start = 0;
+        for (int end = 0; end < text.length(); end++) {
+            if (text.charAt(end) == '\n') {
+                sink.writeLine(text.subSequence(start, end).toString());
+                start = end + 1;
+            }
+        }
+    }
+
+    /**
+     * Writes the whole buffer to a file in a single pass, replacing its content
+     * @param file
+     * @throws IOException
+     */
+    public void writeTo(File file) throws IOException {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            out.append(buffer);
+        }
+    }
+}
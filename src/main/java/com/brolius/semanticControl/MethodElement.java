@@ -1,35 +1,44 @@
 package com.brolius.semanticControl;
 
-import com.brolius.antlr.decafParser;
-import org.omg.CORBA.Object;
-
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 
 public class MethodElement {
     private String type;        // type
+    private DecafType returnType;
     private String firm;        // method name
     private String context;     // 'ambito' context of the method
-    List<decafParser.ParameterContext> args = new LinkedList<>(); // list of args for the method
+    private List<ParameterElement> args; // parameters of the method, in order
 
-    public MethodElement(String type, String firm, List<decafParser.ParameterContext> args) {
+    public MethodElement(String type, String firm, List<ParameterElement> args) {
         this.type = type;
         this.firm = firm;
-        this.args = args;
+        this.returnType = type.equals("struct") ? DecafType.struct(firm) : DecafType.of(type);
+        this.args = Collections.unmodifiableList(args);
     }
 
     public void setContext(String context) {
         this.context = context;
     }
 
-    public boolean equals(MethodElement me) {
-        if ((me.firm.equals(this.firm))) {
-            return true;
-        } else return false;
+    /**
+     * Methods and structs are identified by their name alone
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MethodElement && ((MethodElement) o).firm.equals(this.firm);
+    }
+
+    @Override
+    public int hashCode() {
+        return firm.hashCode();
     }
 
     public String getType() { return this.type; }
+    /** @return the return type of a method, the type of the struct itself for a struct */
+    public DecafType getDecafType() { return this.returnType; }
+    public boolean isStruct() { return this.returnType.isStruct(); }
     public String getFirm() { return this.firm; }
     public String getContext() { return this.context; }
-    public List<decafParser.ParameterContext> getArgs() { return this.args; }
+    public List<ParameterElement> getArgs() { return this.args; }
 }
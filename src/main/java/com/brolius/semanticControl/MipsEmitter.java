@@ -0,0 +1,75 @@
+package com.brolius.semanticControl;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * In memory MIPS assembly emitter. Instructions are appended to the section that is
+ * currently selected and the sections are joined once, in the order expected by the
+ * assembler: .text (header and main), procedures and finally .data
+ */
+public class MipsEmitter {
+    public enum Section { TEXT, PROCEDURES, DATA }
+
+    private final StringBuilder text;
+    private final StringBuilder procedures;
+    private final StringBuilder data;
+    private StringBuilder current;
+
+    public MipsEmitter() {
+        this.text = new StringBuilder();
+        this.procedures = new StringBuilder();
+        this.data = new StringBuilder();
+        this.current = text;
+    }
+
+    /**
+     * Selects the section where the next lines are appended
+     * @param section
+     */
+    public void select(Section section) {
+        switch (section) {
+            case TEXT: current = text; break;
+            case PROCEDURES: current = procedures; break;
+            case DATA: current = data; break;
+        }
+    }
+
+    /**
+     * Appends a line (a line separator is added after it) to the current section
+     * @param line
+     */
+    public void emit(String line) {
+        current.append(line).append('\n');
+    }
+
+    /**
+     * Appends every section of another emitter to the same section of this one
+     * @param other
+     */
+    public void append(MipsEmitter other) {
+        text.append(other.text);
+        procedures.append(other.procedures);
+        data.append(other.data);
+    }
+
+    /**
+     * @return the assembled program, sections in order
+     */
+    public String assemble() {
+        StringBuilder sb = new StringBuilder(text.length() + procedures.length() + data.length());
+        sb.append(text).append(procedures).append(data);
+        return sb.toString();
+    }
+
+    /**
+     * Writes the assembled program to a file in a single pass, replacing its content
+     * @param file
+     * @throws IOException
+     */
+    public void writeTo(File file) throws IOException {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            out.append(text).append(procedures).append(data);
+        }
+    }
+}
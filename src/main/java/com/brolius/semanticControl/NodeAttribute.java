@@ -0,0 +1,43 @@
+package com.brolius.semanticControl;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A value attached to parse tree nodes, like the type of an expression.
+ * Nodes are keyed by identity, not by equals or text, so two nodes with the same text are different
+ * keys and a lookup is a single hash probe no matter how many nodes are annotated.
+ * @param <V> type of the values
+ */
+public class NodeAttribute<V> {
+    private final Map<ParseTree, V> values = new IdentityHashMap<>();
+
+    /**
+     * @param node
+     * @return the value of the node, null if it has none
+     */
+    public V get(ParseTree node) {
+        return values.get(node);
+    }
+
+    public void put(ParseTree node, V value) {
+        values.put(node, value);
+    }
+
+    public boolean has(ParseTree node) {
+        return values.containsKey(node);
+    }
+
+    public V remove(ParseTree node) {
+        return values.remove(node);
+    }
+
+    /**
+     * Forgets the values of every node, e.g. when leaving a method
+     */
+    public void clear() {
+        values.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package com.brolius.semanticControl;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * A boolean mark on parse tree nodes, like "already translated".
+ * Nodes are keyed by identity, so marking and testing a node are single hash probes.
+ */
+public class NodeFlag {
+    private final Set<ParseTree> marked = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * @param node
+     * @return true if the node wasn't marked before
+     */
+    public boolean mark(ParseTree node) {
+        return marked.add(node);
+    }
+
+    /**
+     * Marks every node of a list
+     * @param nodes
+     */
+    public void markAll(Iterable<? extends ParseTree> nodes) {
+        for (ParseTree node : nodes) {
+            marked.add(node);
+        }
+    }
+
+    public boolean isMarked(ParseTree node) {
+        return marked.contains(node);
+    }
+
+    /**
+     * Unmarks every node, e.g. when leaving a method
+     */
+    public void clear() {
+        marked.clear();
+    }
+}
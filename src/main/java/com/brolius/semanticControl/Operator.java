@@ -0,0 +1,131 @@
+package com.brolius.semanticControl;
+
+import com.brolius.antlr.decafParser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Operators of Decaf expressions and assignments, with their typing rules.
+ * The result types of the binary operators on primitive operands are precomputed in a table indexed by
+ * operator and operand kinds, so typing an operation is an array lookup.
+ */
+public enum Operator {
+    ADD("+"), SUB("-"), MUL("*"), DIV("/"), MOD("%"),
+    LT("<"), GT(">"), LE("<="), GE(">="),
+    EQ("=="), NE("!="),
+    AND("&&"), OR("||"),
+    ASSIGN("="),
+    NEG("-"), NOT("!");
+
+    private static final int PRIMITIVES = DecafType.Kind.VOID.ordinal() + 1;
+    private static final DecafType[][][] binaryTypes = new DecafType[values().length][PRIMITIVES][PRIMITIVES];
+    private static final Operator[] binaryByTokenType = new Operator[decafParser.VOCABULARY.getMaxTokenType() + 1];
+    private static final Map<String, Operator> binaryBySymbol = new HashMap<>();
+
+    static {
+        DecafType[] primitives = {DecafType.INT, DecafType.CHAR, DecafType.BOOLEAN, DecafType.VOID};
+        for (Operator operator : values()) {
+            if (operator == NEG || operator == NOT) {
+                continue;
+            }
+            binaryBySymbol.put(operator.symbol, operator);
+            for (DecafType left : primitives) {
+                for (DecafType right : primitives) {
+                    binaryTypes[operator.ordinal()][left.getKind().ordinal()][right.getKind().ordinal()] =
+                            rule(operator, left, right);
+                }
+            }
+        }
+        for (int tokenType = 1; tokenType < binaryByTokenType.length; tokenType++) {
+            String literal = decafParser.VOCABULARY.getLiteralName(tokenType);
+            if (literal != null) {
+                binaryByTokenType[tokenType] = binaryBySymbol.get(literal.substring(1, literal.length() - 1));
+            }
+        }
+    }
+
+    private final String symbol;
+
+    Operator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * @param tokenType type of an operator token of the decaf parser
+     * @return the binary operator, null if the token isn't one
+     */
+    public static Operator binary(int tokenType) {
+        return tokenType > 0 && tokenType < binaryByTokenType.length ? binaryByTokenType[tokenType] : null;
+    }
+
+    /**
+     * @param symbol
+     * @return the binary operator written that way, null if there is none
+     */
+    public static Operator binary(String symbol) {
+        return binaryBySymbol.get(symbol);
+    }
+
+    /**
+     * @param left
+     * @param right
+     * @return the type of applying this binary operator to operands of these types, {@link DecafType#ERROR}
+     * if it doesn't apply to them
+     */
+    public DecafType resultType(DecafType left, DecafType right) {
+        if (left.isPrimitive() && right.isPrimitive()) {
+            return binaryTypes[ordinal()][left.getKind().ordinal()][right.getKind().ordinal()];
+        }
+        // structs and arrays can only be assigned and compared to the same type
+        return rule(this, left, right);
+    }
+
+    /**
+     * @param operand
+     * @return the type of applying this unary operator to an operand of that type, {@link DecafType#ERROR}
+     * if it doesn't apply to it
+     */
+    public DecafType resultType(DecafType operand) {
+        if (this == NEG) {
+            return operand == DecafType.INT ? DecafType.INT : DecafType.ERROR;
+        } else if (this == NOT) {
+            return operand == DecafType.BOOLEAN ? DecafType.BOOLEAN : DecafType.ERROR;
+        }
+        return DecafType.ERROR;
+    }
+
+    public String getSymbol() { return symbol; }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+
+    private static DecafType rule(Operator operator, DecafType left, DecafType right) {
+        if (left == DecafType.INT && right == DecafType.INT) {
+            switch (operator) {
+                case ADD: case SUB: case MUL: case DIV: case MOD:
+                    return DecafType.INT;
+                case LT: case GT: case LE: case GE: case EQ: case NE:
+                    return DecafType.BOOLEAN;
+                case ASSIGN:
+                    return DecafType.VOID;
+                default:
+                    return DecafType.ERROR;
+            }
+        } else if (left == DecafType.BOOLEAN && right == DecafType.BOOLEAN) {
+            return operator == AND || operator == OR ? DecafType.BOOLEAN : DecafType.ERROR;
+        } else if (left == right) {
+            switch (operator) {
+                case ASSIGN:
+                    return DecafType.VOID;
+                case EQ: case NE:
+                    return DecafType.BOOLEAN;
+                default:
+                    return DecafType.ERROR;
+            }
+        }
+        return DecafType.ERROR;
+    }
+}
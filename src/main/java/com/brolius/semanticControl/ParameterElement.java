@@ -0,0 +1,38 @@
+package com.brolius.semanticControl;
+
+import com.brolius.antlr.decafParser;
+
+public class ParameterElement {
+    private String type;
+    private String ID;
+    private boolean isArray;
+    private DecafType decafType;
+
+    public ParameterElement(String type, String ID, boolean isArray) {
+        this.type = type;
+        this.ID = ID;
+        this.isArray = isArray;
+        this.decafType = isArray ? DecafType.of(type).arrayOf() : DecafType.of(type);
+    }
+
+    /**
+     * Copies what a method signature needs out of a parameter of the parse tree, so the tree isn't kept alive
+     * @param ctx
+     * @return the parameter
+     */
+    public static ParameterElement of(decafParser.ParameterContext ctx) {
+        String type = ctx.parameterType() != null ? ctx.parameterType().getText() : "";
+        String ID = ctx.ID() != null ? ctx.ID().getText() : "";
+        return new ParameterElement(type, ID, ctx.getChildCount() > 2);
+    }
+
+    public String getType() { return type; }
+    public String getID() { return ID; }
+    public boolean isArray() { return isArray; }
+    public DecafType getDecafType() { return decafType; }
+
+    @Override
+    public String toString() {
+        return type + " " + ID + (isArray ? "[]" : "");
+    }
+}
@@ -0,0 +1,249 @@
+package com.brolius.semanticControl;
+
+import com.brolius.antlr.decafParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Semantic analysis and TAC generation of a whole program in two passes.
+ * The first one runs in source order over the declarations of the program: it declares globals and
+ * structs and checks and registers method signatures, without entering method bodies. The second one
+ * checks the bodies of the methods in parallel with fork/join, each with a listener of its own that sees
+ * what was declared before its method, exactly as a single walk over the program would.
+ *
+ * The results are merged in source order: errors of each declaration followed by those of its body,
+ * the TAC of the methods one after the other, as text and as instructions, and their variables in the
+ * symbol table of the program.
+ * Branch labels are numbered from where the previous methods left them, so the output is the same as
+ * the one of a {@link SemanticListener} walking the whole tree.
+ *
+ * With an {@link IncrementalCache} the bodies of methods that haven't changed since the previous
+ * compilation aren't checked again, their results are taken from the cache. Once the declarations alone
+ * have more errors than the limit, the bodies aren't checked at all.
+ */
+public class SemanticAnalyzer {
+    private static final int PARALLEL_THRESHOLD = 2;    // methods, below this the bodies are checked in place
+
+    private SemanticAnalyzer() {
+    }
+
+    /**
+     * @param parser the parser that built the tree
+     * @param program
+     * @param tacSink receives the TAC
+     * @return the listener with the errors and symbol tables of the program
+     */
+    public static SemanticListener analyze(decafParser parser, decafParser.ProgramContext program, TacSink tacSink) {
+        return analyze(parser, program, tacSink, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param parser the parser that built the tree
+     * @param program
+     * @param tacSink receives the TAC
+     * @param cache results of the previous compilation, receives the ones of this one; null to check every method
+     * @param errorLimit errors kept, the ones past it are dropped
+     * @return the listener with the errors and symbol tables of the program
+     */
+    public static SemanticListener analyze(decafParser parser, decafParser.ProgramContext program, TacSink tacSink,
+                                           IncrementalCache cache, int errorLimit) {
+        return analyze(parser, program, tacSink, cache, errorLimit, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param parallelThreshold bodies to check below which they are checked in place, one after the other
+     */
+    static SemanticListener analyze(decafParser parser, decafParser.ProgramContext program, TacSink tacSink,
+                                    IncrementalCache cache, int errorLimit, int parallelThreshold) {
+        SemanticListener declarations = new SemanticListener(parser, tacSink, errorLimit);
+        ParseTreeWalker walker = new ParseTreeWalker();
+        DiagnosticList errors = declarations.getErrorsSoFar();
+
+        // first pass: declarations, in order
+        List<MethodBody> bodies = new ArrayList<>();
+        List<List<String>> declarationErrors = new ArrayList<>();
+        int declarationErrorCount = 0;
+        int labelBase = 0;
+        for (decafParser.DeclarationContext declaration : program.declaration()) {
+            decafParser.MethodDeclarationContext method = declaration.methodDeclaration();
+            if (method != null) {
+                SemanticListener.MethodDeclaration declared = declarations.declareMethod(method);
+                MethodBody body = new MethodBody(declarations, method, declared, labelBase);
+                if (cache != null) {
+                    body.key = methodKey(declarations, parser, method, declared, labelBase, errorLimit);
+                    body.previous = cache.lookup(body.key);
+                }
+                bodies.add(body);
+                labelBase += 2 * countBranches(method);
+            } else {
+                walker.walk(declarations, declaration);
+                bodies.add(null);
+            }
+            declarationErrors.add(new ArrayList<>(errors));
+            declarationErrorCount += errors.size();
+            errors.clear();
+        }
+
+        // second pass: method bodies, unless the errors of the declarations are already too many
+        boolean checkBodies = declarationErrorCount < errorLimit;
+        List<MethodBody> methods = new ArrayList<>();
+        for (MethodBody body : bodies) {
+            if (body != null && body.previous == null && checkBodies) {
+                methods.add(body);
+            }
+        }
+        if (methods.size() < parallelThreshold) {
+            for (MethodBody body : methods) {
+                body.compute();
+            }
+        } else {
+            ForkJoinTask.invokeAll(methods);
+        }
+
+        // merge in source order
+        List<SymbolTable> methodTables = new ArrayList<>();
+        for (int i = 0; i < bodies.size(); i++) {
+            errors.addAll(declarationErrors.get(i));
+            MethodBody body = bodies.get(i);
+            if (body != null && !checkBodies) {
+                errors.markTruncated();
+            } else if (body != null && body.previous != null) {
+                errors.addAll(body.previous.getErrors());
+                if (body.previous.getErrors().size() >= errorLimit) {
+                    errors.markTruncated();     // the body had as many errors as it could keep
+                }
+                MemoryTacSink.writeText(body.previous.getTac(), tacSink);
+                declarations.getTacProgram().addAll(body.previous.getFunctions());
+                SymbolTable methodTable = declarations.getSymbolTable().forMethod(body.declared.variableHorizon);
+                for (VarElement var : body.previous.getVariables()) {
+                    methodTable.declare(var);
+                }
+                methodTables.add(methodTable);
+                cache.record(body.previous, true);
+            } else if (body != null) {
+                errors.addAll(body.listener.getErrorsSoFar());
+                if (body.listener.getErrorsSoFar().isTruncated()) {
+                    errors.markTruncated();
+                }
+                body.tac.copyTo(tacSink);
+                declarations.getTacProgram().addAll(body.listener.getTacProgram());
+                methodTables.add(body.listener.getSymbolTable());
+                if (cache != null) {
+                    cache.record(new IncrementalCache.MethodResult(body.key, body.listener.getErrorsSoFar(),
+                            body.tac.getText(), body.listener.getTacProgram(),
+                            body.listener.getSymbolTable().getVariables()), false);
+                }
+            }
+        }
+        declarations.getSymbolTable().absorb(methodTables);
+        declarations.exitProgram(program);
+        return declarations;
+    }
+
+    /**
+     * Describes everything the errors, TAC and variables of a method depend on: its tokens, the number of
+     * its first label, how it was declared, what each name it uses refers to where it is declared, and the
+     * sizes and offsets the {@link DataLayout} gives them
+     * @return the key of the method for the {@link IncrementalCache}
+     */
+    private static String methodKey(SemanticListener declarations, decafParser parser,
+                                    decafParser.MethodDeclarationContext method,
+                                    SemanticListener.MethodDeclaration declared, int labelBase, int errorLimit) {
+        StringBuilder description = new StringBuilder();
+        description.append(errorLimit).append(' ').append(labelBase).append(' ').append(declared.label).append(' ')
+                .append(declared.context == null ? null : declared.context.getType()).append('\n');
+
+        Set<String> names = new LinkedHashSet<>();
+        TokenStream tokens = parser.getTokenStream();
+        for (int i = method.getStart().getTokenIndex(); method.getStop() != null && i <= method.getStop().getTokenIndex(); i++) {
+            Token token = tokens.get(i);
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                description.append(token.getText()).append('\u0001');
+                if (token.getType() == decafParser.ID) {
+                    names.add(token.getText());
+                }
+            }
+        }
+
+        SymbolTable variables = declarations.getSymbolTable().forMethod(declared.variableHorizon);
+        SignatureRegistry signatures = declarations.getSignatures().visibleTo(declared.signatureHorizon);
+        DataLayout layout = new DataLayout(variables);
+        MethodElement global = new MethodElement("void", SymbolTable.GLOBAL, Collections.emptyList());
+        for (String name : names) {
+            description.append('\n').append(name).append(':');
+            describe(description, variables.resolve(name, global), layout);
+            for (VarElement field : variables.getFieldsNamed(name)) {
+                describe(description, field, layout);
+                description.append(" at ").append(layout.offsetOf(field.getContext().getFirm(), name));
+            }
+            MethodElement signature = signatures.lookup(name);
+            if (signature != null) {
+                description.append(" sig ").append(signature.getType()).append(' ').append(signature.getArgs());
+                if (signature.isStruct()) {
+                    description.append(' ').append(layout.sizeOf(DecafType.struct(name)));
+                }
+            }
+        }
+        return IncrementalCache.key(description);
+    }
+
+    private static void describe(StringBuilder description, VarElement var, DataLayout layout) {
+        if (var != null) {
+            description.append(" var ").append(var.getContext().getFirm()).append(' ').append(var.getVarType())
+                    .append(' ').append(var.isArray() ? var.getNUM() : -1).append(' ').append(var.isStruct())
+                    .append(' ').append(var.getPositionInStruct()).append(' ').append(layout.sizeOf(var));
+        }
+    }
+
+    /**
+     * @param tree
+     * @return number of ifs and whiles in the tree, each one takes two branch labels
+     */
+    private static int countBranches(ParseTree tree) {
+        int branches = 0;
+        Deque<ParseTree> pending = new ArrayDeque<>();
+        pending.push(tree);
+        while (!pending.isEmpty()) {
+            ParseTree node = pending.pop();
+            if (node instanceof decafParser.IfStatementContext || node instanceof decafParser.WhileStatementContext) {
+                branches++;
+            }
+            if (node instanceof ParserRuleContext) {
+                for (int i = 0; i < node.getChildCount(); i++) {
+                    pending.push(node.getChild(i));
+                }
+            }
+        }
+        return branches;
+    }
+
+    /** Check of the body of one method */
+    @SuppressWarnings("serial")                     // tasks are never serialized
+    private static class MethodBody extends RecursiveAction {
+        final decafParser.MethodDeclarationContext method;
+        final SemanticListener.MethodDeclaration declared;
+        final MemoryTacSink tac = new MemoryTacSink();
+        final SemanticListener listener;
+        String key;                                 // key in the incremental cache
+        IncrementalCache.MethodResult previous;     // result of the previous compilation, if the method didn't change
+
+        MethodBody(SemanticListener declarations, decafParser.MethodDeclarationContext method,
+                   SemanticListener.MethodDeclaration declared, int labelBase) {
+            this.method = method;
+            this.declared = declared;
+            this.listener = new SemanticListener(declarations, declared, labelBase, tac);
+        }
+
+        @Override
+        protected void compute() {
+            new ParseTreeWalker().walk(listener, method);
+        }
+    }
+}
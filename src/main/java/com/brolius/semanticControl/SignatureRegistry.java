@@ -0,0 +1,83 @@
+package com.brolius.semanticControl;
+
+import java.util.*;
+
+/**
+ * Signatures of the methods and structs of a program, indexed by name.
+ * Methods and structs share one namespace, as they do in Decaf.
+ *
+ * The body of a method is checked with {@link #visibleTo(int)}, a read only view of the signatures
+ * declared before it, so bodies can be checked once every signature is registered and in any order.
+ */
+public class SignatureRegistry {
+    private final Map<String, MethodElement> signatures;
+    private final Map<MethodElement, Integer> ordinals;     // signature -> declaration order
+    private final int horizon;                              // signatures visible through this registry
+
+    public SignatureRegistry() {
+        this(new LinkedHashMap<>(), new IdentityHashMap<>(), Integer.MAX_VALUE);
+    }
+
+    private SignatureRegistry(Map<String, MethodElement> signatures, Map<MethodElement, Integer> ordinals,
+                              int horizon) {
+        this.signatures = signatures;
+        this.ordinals = ordinals;
+        this.horizon = horizon;
+    }
+
+    /**
+     * @param horizon number of signatures the view shows, see {@link #size()}
+     * @return a view of the signatures declared first, it can't declare new ones
+     */
+    public SignatureRegistry visibleTo(int horizon) {
+        return new SignatureRegistry(signatures, ordinals, horizon);
+    }
+
+    /**
+     * @param signature
+     * @return false if a method or struct with the same name was already declared, the signature isn't added then
+     */
+    public boolean declare(MethodElement signature) {
+        if (horizon != Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException("signatures can't be declared through a view");
+        }
+        if (signatures.putIfAbsent(signature.getFirm(), signature) != null) {
+            return false;
+        }
+        ordinals.put(signature, ordinals.size());
+        return true;
+    }
+
+    /**
+     * @param firm name of the method or struct
+     * @return its signature, null if it hasn't been declared
+     */
+    public MethodElement lookup(String firm) {
+        MethodElement signature = signatures.get(firm);
+        return signature == null || horizon == Integer.MAX_VALUE || ordinals.get(signature) < horizon
+                ? signature : null;
+    }
+
+    /**
+     * @param firm name of the method or struct
+     * @return its return type (the struct type for structs), {@link DecafType#UNKNOWN} if it hasn't been declared
+     */
+    public DecafType typeOf(String firm) {
+        MethodElement signature = lookup(firm);
+        return signature == null ? DecafType.UNKNOWN : signature.getDecafType();
+    }
+
+    /**
+     * @return the number of signatures declared so far
+     */
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * @return every signature in declaration order
+     */
+    public Collection<MethodElement> getSignatures() {
+        return Collections.unmodifiableCollection(signatures.values());
+    }
+}
@@ -0,0 +1,136 @@
+package com.brolius.semanticControl;
+
+import com.brolius.tac.Declarations;
+import com.brolius.tac.Instruction;
+import com.brolius.tac.Opcode;
+import com.brolius.tac.Operand;
+import com.brolius.tac.TacFunction;
+
+import java.util.*;
+
+/**
+ * Where the MIPS of a function keeps each of its operands. The frame pointer $fp points at the saved $fp,
+ * with the saved $ra above it and above that the parameters, the last one pushed first. Local variables
+ * and temporaries are below it, each in its own slot, so a recursive call can't overwrite them. Global
+ * variables and structs used as their own instance live in the data section, under a data label.
+ *
+ * The slots are given out in the order the instructions first use them.
+ */
+final class StackFrame {
+    private static final int SAVED = 2 * DataLayout.WORD;      // $ra and $fp, between $fp and the parameters
+
+    private final String name;
+    private final Declarations declarations;
+    private final List<String> parameters;
+    private final Map<Operand, Integer> slots = new HashMap<>();        // temporaries and locals, by operand
+    private final Map<String, Integer> localAddresses = new HashMap<>(); // aggregates, by variable
+    private final Map<String, Integer> data = new LinkedHashMap<>();    // data labels used, with their bytes
+    private int size;
+
+    /**
+     * @param function
+     * @param declarations the variables of the program
+     * @throws IllegalArgumentException if the function uses a variable that isn't declared
+     */
+    StackFrame(TacFunction function, Declarations declarations) {
+        this.name = function.getName();
+        this.declarations = declarations;
+        this.parameters = declarations.getParameters(name);
+
+        for (Instruction instruction : function.getInstructions()) {
+            for (Operand use : instruction.getUses()) {
+                place(use);
+            }
+            if (instruction.getDefinition() != null) {
+                place(instruction.getDefinition());
+            }
+            if (instruction.getOpcode() == Opcode.ADDRESS) {
+                placeAggregate(instruction.getLabel());
+            }
+        }
+    }
+
+    private void place(Operand operand) {
+        if (operand.isConstant() || slots.containsKey(operand) || parameters.contains(operand.getText())) {
+            return;
+        }
+        if (operand.isTemporary() || declarations.getLocalSize(name, operand.getText()) != null) {
+            size += DataLayout.WORD;
+            slots.put(operand, -size);
+        } else {
+            placeData(operand.getText());
+        }
+    }
+
+    private void placeAggregate(String variable) {
+        if (localAddresses.containsKey(variable)) {
+            return;
+        }
+        Integer local = declarations.getLocalSize(name, variable);
+        if (local != null) {
+            size += Math.max(local, DataLayout.WORD);
+            localAddresses.put(variable, -size);
+        } else {
+            placeData(variable);
+        }
+    }
+
+    private void placeData(String variable) {
+        Integer global = declarations.getGlobalSize(variable);
+        Integer struct = global == null ? declarations.getStructSize(variable) : null;
+        if (global == null && struct == null) {
+            throw new IllegalArgumentException(variable + " isn't declared in " + name);
+        }
+        data.putIfAbsent(label(variable), global != null ? global : struct);
+    }
+
+    /** @return label of the function in the MIPS */
+    String getName() { return name; }
+    /** @return label of the epilogue, where returns jump to */
+    String getEndLabel() { return name + "_end"; }
+    boolean isMain() { return name.equals("main"); }
+    /** @return bytes of the locals and temporaries */
+    int getSize() { return size; }
+
+    /**
+     * @return the data labels the function uses that aren't its own, with their bytes
+     */
+    Map<String, Integer> getData() {
+        return Collections.unmodifiableMap(data);
+    }
+
+    /**
+     * @param operand a temporary or a variable
+     * @return where the value of the operand is, an offset from $fp like -8($fp) or a data label
+     */
+    String home(Operand operand) {
+        Integer slot = slots.get(operand);
+        if (slot != null) {
+            return slot + "($fp)";
+        }
+        int parameter = parameters.indexOf(operand.getText());
+        if (parameter >= 0) {
+            return SAVED + DataLayout.WORD * (parameters.size() - 1 - parameter) + "($fp)";
+        }
+        return label(operand.getText());
+    }
+
+    /**
+     * @param variable a struct or array
+     * @return its offset from $fp if it is a local variable, null if it has a data label
+     */
+    Integer localAddress(String variable) {
+        return localAddresses.get(variable);
+    }
+
+    /**
+     * @param variable
+     * @return the data label of a variable that isn't in the frame
+     */
+    String label(String variable) {
+        if (declarations.getGlobalSize(variable) == null && declarations.getStructSize(variable) != null) {
+            return variable + "_" + variable;       // the struct as its own instance, see its declaration
+        }
+        return variable + "_" + SymbolTable.GLOBAL;
+    }
+}
@@ -0,0 +1,77 @@
+package com.brolius.semanticControl;
+
+import com.brolius.tac.Declarations;
+
+import java.util.*;
+
+/**
+ * The declarations of the TAC of a Decaf program, from its symbol tables. A name that doesn't resolve, in
+ * the TAC of a program with errors, is taken for a global variable a word long.
+ */
+final class SymbolDeclarations implements Declarations {
+    private final SymbolTable symbolTable;
+    private final SignatureRegistry signatures;
+    private final DataLayout layout;
+    private final MethodElement global = new MethodElement("void", SymbolTable.GLOBAL, Collections.emptyList());
+    private final Map<String, MethodElement> contexts = new HashMap<>();     // by function label
+
+    SymbolDeclarations(SymbolTable symbolTable, SignatureRegistry signatures) {
+        this.symbolTable = symbolTable;
+        this.signatures = signatures;
+        this.layout = new DataLayout(symbolTable);
+    }
+
+    @Override
+    public List<String> getParameters(String function) {
+        List<String> parameters = new ArrayList<>();
+        for (ParameterElement parameter : context(function).getArgs()) {
+            parameters.add(parameter.getID());
+        }
+        return parameters;
+    }
+
+    @Override
+    public Integer getLocalSize(String function, String variable) {
+        VarElement local = symbolTable.lookupLocal(variable, context(function));
+        return local != null ? layout.sizeOf(local) : null;
+    }
+
+    @Override
+    public Integer getGlobalSize(String variable) {
+        VarElement var = symbolTable.lookupLocal(variable, global);
+        if (var != null) {
+            return layout.sizeOf(var);
+        }
+        return isStruct(variable) ? null : DataLayout.WORD;
+    }
+
+    @Override
+    public Integer getStructSize(String struct) {
+        return isStruct(struct) ? layout.sizeOf(DecafType.struct(struct)) : null;
+    }
+
+    @Override
+    public Map<String, Integer> getGlobals() {
+        Map<String, Integer> globals = new LinkedHashMap<>();
+        for (VarElement var : symbolTable.getVariables()) {
+            if (var.getContext().getFirm().equals(SymbolTable.GLOBAL)) {
+                globals.put(var.getID(), layout.sizeOf(var));
+            }
+        }
+        return globals;
+    }
+
+    private MethodElement context(String function) {
+        return contexts.computeIfAbsent(function, label -> {
+            String firm = label.startsWith("_") ? label.substring(1) : label;
+            MethodElement signature = signatures.lookup(firm);
+            return signature != null ? signature
+                    : new MethodElement("void", firm, Collections.<ParameterElement>emptyList());
+        });
+    }
+
+    private boolean isStruct(String ID) {
+        MethodElement signature = signatures.lookup(ID);
+        return signature != null && signature.isStruct();
+    }
+}
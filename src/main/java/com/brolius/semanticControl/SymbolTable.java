@@ -0,0 +1,235 @@
+package com.brolius.semanticControl;
+
+import java.util.*;
+
+/**
+ * Variables of a program, indexed by scope and identifier.
+ * There is a scope per context (global, each struct and each method) and every scope but the
+ * global one is chained to it, so a lookup is two hash probes at most no matter how large the
+ * program is. Variables declared in nested blocks live in the scope of their method, the MIPS
+ * generator gives every variable of a method its own slot in the frame so a block can't shadow them.
+ *
+ * The body of a method can be checked with a table of its own, see {@link #forMethod(int)}. It sees
+ * the variables declared before the method in the table of the program and keeps the ones of the
+ * method apart, so the bodies of several methods can be checked at the same time.
+ */
+public class SymbolTable {
+    public static final String GLOBAL = "global";
+
+    private final Scope global = new Scope(null);
+    private final Map<String, Scope> scopes = new HashMap<>();                  // context firm -> scope
+    private final Map<String, List<VarElement>> structFields = new HashMap<>(); // field ID -> fields of every struct
+    private final List<VarElement> variables = new ArrayList<>();              // declaration order
+    private final Map<VarElement, Integer> ordinals = new IdentityHashMap<>();  // variable -> index in variables
+
+    private final SymbolTable program;      // for the table of a method, the table of the whole program
+    private final int horizon;              // variables of the program visible from the method
+
+    public SymbolTable() {
+        this(null, 0);
+    }
+
+    private SymbolTable(SymbolTable program, int horizon) {
+        this.program = program;
+        this.horizon = horizon;
+        scopes.put(GLOBAL, global);
+    }
+
+    /**
+     * @param horizon number of variables of this table visible from the method, see {@link #size()}
+     * @return an empty table for the variables of a method, that resolves everything else in this one
+     */
+    public SymbolTable forMethod(int horizon) {
+        return new SymbolTable(this, horizon);
+    }
+
+    /**
+     * Adds a variable to the scope of its context
+     * @param var
+     * @return false if the context already has a variable with the same ID, the variable isn't added then
+     */
+    public boolean declare(VarElement var) {
+        Scope scope = scopeOf(var.getContext());
+        if (scope.vars.containsKey(var.getID())) {
+            return false;
+        }
+        scope.vars.put(var.getID(), var);
+        ordinals.put(var, variables.size());
+        variables.add(var);
+        if (var.getContext().isStruct()) {
+            structFields.computeIfAbsent(var.getID(), id -> new ArrayList<>(1)).add(var);
+        }
+        return true;
+    }
+
+    /**
+     * Finds the variable an identifier refers to in a context: the context's own variable if there
+     * is one, the global one otherwise
+     * @param ID
+     * @param context
+     * @return the variable, null if there is none
+     */
+    public VarElement resolve(String ID, MethodElement context) {
+        if (program != null) {
+            Scope scope = scopes.get(context.getFirm());
+            VarElement var = scope == null ? null : scope.vars.get(ID);
+            return var != null ? var : program.resolve(ID, context, horizon);
+        }
+        return resolve(ID, context, Integer.MAX_VALUE);
+    }
+
+    private VarElement resolve(String ID, MethodElement context, int horizon) {
+        for (Scope scope = scopes.getOrDefault(context.getFirm(), global); scope != null; scope = scope.parent) {
+            VarElement var = scope.vars.get(ID);
+            if (var != null) {
+                return isVisible(var, horizon) ? var : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param ID
+     * @param context
+     * @return the variable declared in the context itself, null if there is none
+     */
+    public VarElement lookupLocal(String ID, MethodElement context) {
+        Scope scope = scopes.get(context.getFirm());
+        return scope == null ? null : scope.vars.get(ID);
+    }
+
+    /**
+     * @param struct name of the struct
+     * @param ID name of the field
+     * @return the field, null if the struct has no such field
+     */
+    public VarElement getField(String struct, String ID) {
+        if (program != null) {
+            VarElement field = program.getField(struct, ID);
+            return field != null && program.isVisible(field, horizon) ? field : null;
+        }
+        Scope scope = scopes.get(struct);
+        return scope == null ? null : scope.vars.get(ID);
+    }
+
+    /**
+     * @param struct name of the struct
+     * @return the fields of the struct in declaration order, empty if there is no such struct
+     */
+    public List<VarElement> getFields(String struct) {
+        if (program != null) {
+            List<VarElement> fields = new ArrayList<>();
+            for (VarElement field : program.getFields(struct)) {
+                if (program.isVisible(field, horizon)) {
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+        Scope scope = scopes.get(struct);
+        List<VarElement> fields = new ArrayList<>();
+        if (scope != null) {
+            for (VarElement var : scope.vars.values()) {
+                if (!var.getVarType().equals("struct")) {       // the struct itself, declared in its scope
+                    fields.add(var);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * @param ID
+     * @return the fields with that name in every struct, in declaration order
+     */
+    public List<VarElement> getFieldsNamed(String ID) {
+        if (program != null) {
+            // fields are in declaration order, the visible ones come first
+            List<VarElement> fields = program.getFieldsNamed(ID);
+            int visible = 0;
+            while (visible < fields.size() && program.isVisible(fields.get(visible), horizon)) {
+                visible++;
+            }
+            return visible == fields.size() ? fields : fields.subList(0, visible);
+        }
+        List<VarElement> fields = structFields.get(ID);
+        return fields == null ? Collections.emptyList() : fields;
+    }
+
+    /**
+     * @param context
+     * @return the variables visible in a context, its own first and then the global ones, in declaration order
+     */
+    public List<VarElement> getVisible(MethodElement context) {
+        List<VarElement> visible = new ArrayList<>();
+        for (Scope scope = scopes.getOrDefault(context.getFirm(), global); scope != null; scope = scope.parent) {
+            visible.addAll(scope.vars.values());
+        }
+        return visible;
+    }
+
+    /**
+     * @return every variable of the program in declaration order
+     */
+    public List<VarElement> getVariables() {
+        return Collections.unmodifiableList(variables);
+    }
+
+    /**
+     * @return the number of variables declared so far
+     */
+    public int size() {
+        return variables.size();
+    }
+
+    /**
+     * Adds the variables of methods checked with tables of their own, each one where the method is
+     * in the program so the declaration order is kept
+     * @param methodTables tables made with {@link #forMethod(int)}, in the order of their methods
+     */
+    public void absorb(List<SymbolTable> methodTables) {
+        List<VarElement> declared = new ArrayList<>(variables);
+        variables.clear();
+        ordinals.clear();
+        int next = 0;
+        for (SymbolTable methodTable : methodTables) {
+            for (; next < methodTable.horizon && next < declared.size(); next++) {
+                append(declared.get(next));
+            }
+            for (VarElement var : methodTable.variables) {
+                scopeOf(var.getContext()).vars.putIfAbsent(var.getID(), var);
+                append(var);
+            }
+        }
+        for (; next < declared.size(); next++) {
+            append(declared.get(next));
+        }
+    }
+
+    private void append(VarElement var) {
+        ordinals.put(var, variables.size());
+        variables.add(var);
+    }
+
+    private boolean isVisible(VarElement var, int horizon) {
+        if (horizon == Integer.MAX_VALUE) {
+            return true;
+        }
+        Integer ordinal = ordinals.get(var);
+        return ordinal != null && ordinal < horizon;
+    }
+
+    private Scope scopeOf(MethodElement context) {
+        return scopes.computeIfAbsent(context.getFirm(), firm -> new Scope(global));
+    }
+
+    /** Variables of one context, by ID */
+    private static class Scope {
+        final Scope parent;
+        final Map<String, VarElement> vars = new LinkedHashMap<>();
+
+        Scope(Scope parent) {
+            this.parent = parent;
+        }
+    }
+}
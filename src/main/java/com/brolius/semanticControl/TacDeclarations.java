@@ -0,0 +1,56 @@
+package com.brolius.semanticControl;
+
+import com.brolius.tac.Declarations;
+
+import java.util.*;
+
+/**
+ * The declarations read from a decaf.tac text, its Global, Struct, Param and Local lines
+ */
+final class TacDeclarations implements Declarations {
+    private final Map<String, List<String>> parameters = new HashMap<>();      // by function label
+    private final Map<String, Map<String, Integer>> locals = new HashMap<>();  // by function label
+    private final Map<String, Integer> globals = new LinkedHashMap<>();
+    private final Map<String, Integer> structs = new HashMap<>();
+
+    void declareParameter(String function, String variable) {
+        parameters.computeIfAbsent(function, label -> new ArrayList<>()).add(variable);
+    }
+
+    void declareLocal(String function, String variable, int size) {
+        locals.computeIfAbsent(function, label -> new HashMap<>()).put(variable, size);
+    }
+
+    void declareGlobal(String variable, int size) {
+        globals.put(variable, size);
+    }
+
+    void declareStruct(String struct, int size) {
+        structs.put(struct, size);
+    }
+
+    @Override
+    public List<String> getParameters(String function) {
+        return parameters.getOrDefault(function, Collections.emptyList());
+    }
+
+    @Override
+    public Integer getLocalSize(String function, String variable) {
+        return locals.getOrDefault(function, Collections.emptyMap()).get(variable);
+    }
+
+    @Override
+    public Integer getGlobalSize(String variable) {
+        return globals.get(variable);
+    }
+
+    @Override
+    public Integer getStructSize(String struct) {
+        return structs.get(struct);
+    }
+
+    @Override
+    public Map<String, Integer> getGlobals() {
+        return Collections.unmodifiableMap(globals);
+    }
+}
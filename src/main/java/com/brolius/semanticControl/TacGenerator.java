@@ -0,0 +1,436 @@
+package com.brolius.semanticControl;
+
+import com.brolius.antlr.decafParser;
+import com.brolius.tac.Instruction;
+import com.brolius.tac.Operand;
+import com.brolius.tac.TacFunction;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the TAC of a method from its tree, statement by statement, once the listener has checked it.
+ * Each expression node gives an operand: literals a constant, variables of int, char and boolean type
+ * themselves, and everything else a temporary that an instruction writes. Temporaries are numbered from
+ * _t0 again for each statement, none lives from one statement to the next.
+ *
+ * Array elements and struct fields are memory: their address is the address of the array or struct, or
+ * the value of an array parameter, plus the offset of the element or field from the {@link DataLayout},
+ * and they are read with a load and written with a store. Assigning a whole struct or array copies it a
+ * word at a time.
+ *
+ * Ifs and whiles take two labels each, numbered in the order the statements start, as
+ * {@link SemanticAnalyzer} counts them. Programs with errors get TAC too, names that don't resolve are
+ * taken as variables.
+ */
+class TacGenerator {
+    private final SymbolTable symbolTable;
+    private final SignatureRegistry signatures;
+    private final DataLayout layout;
+    private final MethodElement method;
+    private final List<Instruction> instructions = new ArrayList<>();
+    private int nextLabel;
+    private int nextTemporary;
+
+    /** Memory a location refers to: where it starts, what it holds and how many bytes */
+    private static final class Place {
+        final Operand base;             // address the location is at an offset of
+        final int offset;               // known at compile time, added when the address is needed
+        final DecafType type;
+        final int size;
+
+        Place(Operand base, int offset, DecafType type, int size) {
+            this.base = base;
+            this.offset = offset;
+            this.type = type;
+            this.size = size;
+        }
+
+        /** @return true for a whole struct or array, which is used by its address */
+        boolean isAggregate() {
+            return type.isStruct() || type.isArray();
+        }
+    }
+
+    /**
+     * @param symbolTable variables the method sees
+     * @param signatures methods and structs the method sees
+     * @param method
+     * @param firstLabel number of the first branch label of the method
+     */
+    TacGenerator(SymbolTable symbolTable, SignatureRegistry signatures, MethodElement method, int firstLabel) {
+        this.symbolTable = symbolTable;
+        this.signatures = signatures;
+        this.layout = new DataLayout(symbolTable);
+        this.method = method;
+        this.nextLabel = firstLabel;
+    }
+
+    /**
+     * @param label label of the function
+     * @param body
+     * @return the TAC of the method, from BeginFunc to EndFunc
+     */
+    TacFunction generate(String label, decafParser.BlockContext body) {
+        block(body);
+        TacFunction function = new TacFunction(label, new ArrayList<>(instructions));
+        function.finish();
+        return function;
+    }
+
+    /** @return number of the first label after the ones of the method */
+    int getNextLabel() {
+        return nextLabel;
+    }
+
+    // statements
+
+    private void block(decafParser.BlockContext block) {
+        if (block == null) {
+            return;         // only on trees with syntax errors
+        }
+        for (decafParser.StatementContext statement : block.statement()) {
+            statement(statement);
+        }
+    }
+
+    private void statement(decafParser.StatementContext statement) {
+        nextTemporary = 0;
+        if (statement instanceof decafParser.IfStatementContext) {
+            ifStatement((decafParser.IfStatementContext) statement);
+        } else if (statement instanceof decafParser.WhileStatementContext) {
+            whileStatement((decafParser.WhileStatementContext) statement);
+        } else if (statement instanceof decafParser.ReturnStatementContext) {
+            decafParser.ExpressionAContext returned = ((decafParser.ReturnStatementContext) statement).expressionA();
+            boolean hasValue = returned != null && returned.expression() != null;
+            emit(Instruction.ret(hasValue ? value(returned.expression()) : null));
+        } else if (statement instanceof decafParser.MethodCallStatementContext) {
+            call(((decafParser.MethodCallStatementContext) statement).methodCall(), null, false);
+        } else if (statement instanceof decafParser.BlockStatementContext) {
+            block(((decafParser.BlockStatementContext) statement).block());
+        } else if (statement instanceof decafParser.AssignStatementContext) {
+            assign((decafParser.AssignStatementContext) statement);
+        } else if (statement instanceof decafParser.ExpressionStatementContext) {
+            decafParser.ExpressionContext expression = ((decafParser.ExpressionStatementContext) statement).expression();
+            if (expression != null) {
+                value(expression);
+            }
+        }
+    }
+
+    /** Ifz c Goto L1; then Goto L2; L1: else L2: */
+    private void ifStatement(decafParser.IfStatementContext ctx) {
+        String elseLabel = newLabel();
+        String end = newLabel();
+        emit(Instruction.ifz(value(ctx.expression()), elseLabel));
+        block(ctx.block(0));
+        emit(Instruction.jump(end));
+        emit(Instruction.label(elseLabel));
+        block(ctx.block(1));
+        emit(Instruction.label(end));
+    }
+
+    /** StartWhile: L1: condition Ifz c Goto L2; body Goto L1: L2: */
+    private void whileStatement(decafParser.WhileStatementContext ctx) {
+        String start = newLabel();
+        String end = newLabel();
+        emit(Instruction.startWhile());
+        emit(Instruction.label(start));
+        emit(Instruction.ifz(value(ctx.expression()), end));
+        block(ctx.block());
+        emit(Instruction.loopJump(start));
+        emit(Instruction.label(end));
+    }
+
+    private void assign(decafParser.AssignStatementContext ctx) {
+        decafParser.LocationContext location = ctx.location();
+        if (location == null || location.ID() == null || ctx.expression() == null) {
+            return;         // only on trees with syntax errors
+        }
+        if (isScalarVariable(location)) {
+            Operand target = Operand.variable(location.ID().getText());
+            decafParser.ExpressionContext expression = unparenthesized(ctx.expression());
+            if (expression instanceof decafParser.MethodCallExpressionContext) {
+                call(((decafParser.MethodCallExpressionContext) expression).methodCall(), target, false);
+                return;
+            }
+            Operand value = value(expression);
+            int last = instructions.size() - 1;
+            if (value.isTemporary() && last >= 0 && value.equals(instructions.get(last).getDefinition())) {
+                // the temporary only carries the value here, the instruction writes the variable instead
+                instructions.set(last, instructions.get(last).withDefinition(target));
+            } else {
+                emit(Instruction.copy(target, value));
+            }
+            return;
+        }
+
+        Place place = place(location);
+        Operand value = value(ctx.expression());
+        if (!place.isAggregate()) {
+            emit(Instruction.store(address(place), value));
+            return;
+        }
+        int mark = nextTemporary;
+        for (int offset = 0; offset < place.size; offset += DataLayout.WORD) {
+            Operand word = newTemporary();
+            emit(Instruction.load(word, offset(value, offset)));
+            emit(Instruction.store(offset(place.base, place.offset + offset), word));
+            nextTemporary = mark;
+        }
+    }
+
+    /**
+     * PushParam for each argument, the call and PopParams. print is called once for each argument.
+     * @param ctx
+     * @param target receives the returned value, null to drop it
+     * @param result true to return the value in a new temporary if there is no target
+     * @return where the returned value is, null if it is dropped
+     */
+    private Operand call(decafParser.MethodCallContext ctx, Operand target, boolean result) {
+        String name = ctx.ID() != null ? ctx.ID().getText() : "";
+        List<Operand> arguments = new ArrayList<>();
+        if (ctx.arg1() != null && ctx.arg1().arg2() != null) {
+            for (decafParser.ArgContext arg : ctx.arg1().arg2().arg()) {
+                if (arg.expression() != null) {
+                    arguments.add(value(arg.expression()));
+                }
+            }
+        }
+        if (target == null && result) {
+            target = newTemporary();
+        }
+
+        if (name.equals("print")) {
+            for (Operand argument : arguments) {
+                emit(Instruction.pushParam(argument));
+                emit(Instruction.call(null, name));
+                emit(Instruction.popParams(DataLayout.WORD));
+            }
+            if (target != null) {
+                emit(Instruction.copy(target, Operand.constant(0)));   // print returns nothing
+            }
+            return target;
+        }
+        for (Operand argument : arguments) {
+            emit(Instruction.pushParam(argument));
+        }
+        emit(Instruction.call(target, "_" + name));
+        if (!arguments.isEmpty()) {
+            emit(Instruction.popParams(DataLayout.WORD * arguments.size()));
+        }
+        return target;
+    }
+
+    // expressions
+
+    /**
+     * @param ctx
+     * @return the operand with the value of the expression, the address of a whole struct or array
+     */
+    private Operand value(decafParser.ExpressionContext ctx) {
+        if (ctx instanceof decafParser.LiteralExpressionContext) {
+            return literal(((decafParser.LiteralExpressionContext) ctx).literal());
+        } else if (ctx instanceof decafParser.LocationExpressionContext) {
+            return value(((decafParser.LocationExpressionContext) ctx).location());
+        } else if (ctx instanceof decafParser.ParenthesizedExpressionContext) {
+            return value(((decafParser.ParenthesizedExpressionContext) ctx).expression());
+        } else if (ctx instanceof decafParser.MinusExpressionContext) {
+            decafParser.ExpressionContext operand = unparenthesized(((decafParser.MinusExpressionContext) ctx).expression());
+            if (operand instanceof decafParser.LiteralExpressionContext
+                    && ((decafParser.LiteralExpressionContext) operand).literal().int_literal() != null) {
+                return Operand.constant(-intValue(((decafParser.LiteralExpressionContext) operand).literal()));
+            }
+            return unary(Operator.NEG, operand);
+        } else if (ctx instanceof decafParser.NotExpressionContext) {
+            return unary(Operator.NOT, ((decafParser.NotExpressionContext) ctx).expression());
+        } else if (ctx instanceof decafParser.MethodCallExpressionContext) {
+            return call(((decafParser.MethodCallExpressionContext) ctx).methodCall(), null, true);
+        } else if (ctx instanceof decafParser.BinaryExpressionContext) {
+            decafParser.BinaryExpressionContext binary = (decafParser.BinaryExpressionContext) ctx;
+            // the operator rule (and_op, rel_op...) has a single token
+            ParseTree operatorNode = binary.getChild(1).getChild(0);
+            Operator operator = operatorNode instanceof TerminalNode
+                    ? Operator.binary(((TerminalNode) operatorNode).getSymbol().getType()) : null;
+            Operand left = value(binary.expression(0));
+            Operand right = value(binary.expression(1));
+            if (operator == null) {
+                return left;        // only on trees with syntax errors
+            }
+            Operand result = newTemporary();
+            emit(Instruction.binary(result, operator, left, right));
+            return result;
+        }
+        return Operand.constant(0);     // only on trees with syntax errors
+    }
+
+    private Operand unary(Operator operator, decafParser.ExpressionContext operand) {
+        Operand value = value(operand);
+        Operand result = newTemporary();
+        emit(Instruction.unary(result, operator, value));
+        return result;
+    }
+
+    private Operand value(decafParser.LocationContext location) {
+        if (location.ID() == null) {
+            return Operand.constant(0);     // only on trees with syntax errors
+        }
+        if (isScalarVariable(location)) {
+            return Operand.variable(location.ID().getText());
+        }
+        Place place = place(location);
+        Operand address = address(place);
+        if (place.isAggregate()) {
+            return address;
+        }
+        Operand value = newTemporary();
+        emit(Instruction.load(value, address));
+        return value;
+    }
+
+    private static Operand literal(decafParser.LiteralContext literal) {
+        if (literal.int_literal() != null) {
+            return Operand.constant(intValue(literal));
+        } else if (literal.char_literal() != null) {
+            return Operand.character(literal.char_literal().CHAR().getText());
+        }
+        return Operand.constant(literal.bool_literal().getText().equals("true"));
+    }
+
+    /** @return the int of an int literal, wrapped around as MIPS would if it doesn't fit in a word */
+    private static int intValue(decafParser.LiteralContext literal) {
+        return new BigInteger(literal.int_literal().NUM().getText()).intValue();
+    }
+
+    private static decafParser.ExpressionContext unparenthesized(decafParser.ExpressionContext ctx) {
+        while (ctx instanceof decafParser.ParenthesizedExpressionContext
+                && ((decafParser.ParenthesizedExpressionContext) ctx).expression() != null) {
+            ctx = ((decafParser.ParenthesizedExpressionContext) ctx).expression();
+        }
+        return ctx;
+    }
+
+    // locations
+
+    /**
+     * @param location
+     * @return true for a plain variable of an int, char or boolean type, or a name that doesn't resolve
+     */
+    private boolean isScalarVariable(decafParser.LocationContext location) {
+        if (location.expression() != null || location.location() != null) {
+            return false;
+        }
+        String ID = location.ID().getText();
+        VarElement var = symbolTable.resolve(ID, method);
+        if (var != null) {
+            return !var.getDecafType().isStruct() && !var.getDecafType().isArray();
+        }
+        return !isStruct(ID);
+    }
+
+    /**
+     * Writes the address arithmetic of a location
+     * @param location a location that isn't a scalar variable
+     * @return the memory of the location
+     */
+    private Place place(decafParser.LocationContext location) {
+        String ID = location.ID().getText();
+        VarElement var = symbolTable.resolve(ID, method);
+        Place place;
+        if (var != null && isArrayParameter(var)) {
+            // the value of the parameter is the address of the array
+            DecafType type = DecafType.of(var.getVarType()).arrayOf();
+            place = new Place(Operand.variable(ID), 0, type, 0);
+        } else if (var != null) {
+            place = new Place(address(ID), 0, var.getDecafType(), layout.sizeOf(var));
+        } else {
+            // a struct used as its own instance, as in Cat.eyes
+            DecafType type = DecafType.struct(ID);
+            place = new Place(address(ID), 0, type, layout.sizeOf(type));
+        }
+
+        for (decafParser.LocationContext segment = location; ; segment = segment.location()) {
+            if (segment.expression() != null) {
+                place = element(place, segment.expression());
+            }
+            if (segment.location() == null || segment.location().ID() == null) {
+                return place;
+            }
+            place = field(place, segment.location().ID().getText());
+        }
+    }
+
+    private Place element(Place array, decafParser.ExpressionContext index) {
+        DecafType type = array.type.isArray() ? array.type.getElementType() : DecafType.UNKNOWN;
+        int size = type == DecafType.UNKNOWN ? DataLayout.WORD : layout.sizeOf(type);
+        Operand value = value(index);
+        if (value.isConstant()) {
+            return new Place(array.base, array.offset + value.intValue() * size, type, size);
+        }
+        Operand offset = newTemporary();
+        emit(Instruction.binary(offset, Operator.MUL, value, Operand.constant(size)));
+        Operand address = newTemporary();
+        emit(Instruction.binary(address, Operator.ADD, array.base, offset));
+        return new Place(address, array.offset, type, size);
+    }
+
+    private Place field(Place struct, String name) {
+        VarElement field = struct.type.isStruct() ? symbolTable.getField(struct.type.getName(), name) : null;
+        if (field == null) {
+            return new Place(struct.base, struct.offset, DecafType.UNKNOWN, DataLayout.WORD);
+        }
+        int offset = struct.offset + layout.offsetOf(struct.type.getName(), name);
+        return new Place(struct.base, offset, field.getDecafType(), layout.sizeOf(field));
+    }
+
+    private Operand address(Place place) {
+        return offset(place.base, place.offset);
+    }
+
+    private Operand address(String variable) {
+        Operand address = newTemporary();
+        emit(Instruction.address(address, variable));
+        return address;
+    }
+
+    private Operand offset(Operand address, int offset) {
+        if (offset == 0) {
+            return address;
+        }
+        Operand result = newTemporary();
+        emit(Instruction.binary(result, Operator.ADD, address, Operand.constant(offset)));
+        return result;
+    }
+
+    private boolean isArrayParameter(VarElement var) {
+        if (!var.getContext().equals(method)) {
+            return false;
+        }
+        for (ParameterElement parameter : method.getArgs()) {
+            if (parameter.getID().equals(var.getID())) {
+                return parameter.isArray();
+            }
+        }
+        return false;
+    }
+
+    private boolean isStruct(String ID) {
+        MethodElement signature = signatures.lookup(ID);
+        return signature != null && signature.isStruct();
+    }
+
+    private Operand newTemporary() {
+        return Operand.temporary(nextTemporary++);
+    }
+
+    private String newLabel() {
+        return "_L" + nextLabel++;
+    }
+
+    private void emit(Instruction instruction) {
+        instructions.add(instruction);
+    }
+}
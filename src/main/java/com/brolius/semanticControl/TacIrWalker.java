@@ -0,0 +1,85 @@
+package com.brolius.semanticControl;
+
+import com.brolius.tac.Instruction;
+import com.brolius.tac.TacFunction;
+
+/**
+ * Drives a {@link TacSemanticListener} over the TAC instructions of a function, one call per instruction,
+ * so the MIPS is written straight from the instructions of the front end without printing the TAC and
+ * parsing it again.
+ */
+public final class TacIrWalker {
+    private final TacFunction function;
+
+    private TacIrWalker(TacFunction function) {
+        this.function = function;
+    }
+
+    /**
+     * @param function a finished function, from BeginFunc to EndFunc, out of SSA form
+     * @return a walker for the function
+     */
+    public static TacIrWalker of(TacFunction function) {
+        return new TacIrWalker(function);
+    }
+
+    /**
+     * Writes the MIPS of the function
+     * @param listener
+     * @throws IllegalArgumentException if the function has a phi
+     */
+    public void walk(TacSemanticListener listener) {
+        listener.beginFunction(function);
+        for (Instruction instruction : function.getInstructions()) {
+            switch (instruction.getOpcode()) {
+                case COPY:
+                    listener.translateCopy(instruction.getTarget(), instruction.getA());
+                    break;
+                case BINARY:
+                    listener.translateBinary(instruction.getTarget(), instruction.getOperator(),
+                            instruction.getA(), instruction.getB());
+                    break;
+                case UNARY:
+                    listener.translateUnary(instruction.getTarget(), instruction.getOperator(), instruction.getA());
+                    break;
+                case ADDRESS:
+                    listener.translateAddress(instruction.getTarget(), instruction.getLabel());
+                    break;
+                case LOAD:
+                    listener.translateLoad(instruction.getTarget(), instruction.getA());
+                    break;
+                case STORE:
+                    listener.translateStore(instruction.getA(), instruction.getB());
+                    break;
+                case CALL:
+                    listener.translateCall(instruction.getTarget(), instruction.getLabel());
+                    break;
+                case PUSH_PARAM:
+                    listener.translatePushParam(instruction.getA());
+                    break;
+                case POP_PARAMS:
+                    listener.translatePopParams(instruction.getNumber());
+                    break;
+                case IFZ:
+                    listener.writeBranchIfZero(instruction.getA(), instruction.getLabel());
+                    break;
+                case GOTO:
+                    listener.writeBranch(instruction.getLabel());
+                    break;
+                case LABEL:
+                    listener.writeLabel(instruction.getLabel());
+                    break;
+                case RETURN:
+                    listener.translateReturn(instruction.getA());
+                    break;
+                case BEGIN_FUNC:            // the frame is sized from the instructions themselves
+                case END_FUNC:
+                case START_WHILE:
+                    break;
+                case PHI:
+                    throw new IllegalArgumentException(function.getName() + " is in SSA form");
+            }
+        }
+        listener.endFunction();
+    }
+}
@@ -1,60 +1,71 @@
 package com.brolius.semanticControl;
 
-import com.brolius.antlr.decafParser;
 import com.brolius.antlrtac.tacBaseListener;
 import com.brolius.antlrtac.tacParser;
-
-import java.io.*;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Stack;
-
+import com.brolius.compiler.Trace;
+import com.brolius.tac.Declarations;
+import com.brolius.tac.Instruction;
+import com.brolius.tac.Operand;
+import com.brolius.tac.TacFunction;
+
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Writes the MIPS of TAC, one instruction at a time. {@link TacIrWalker} calls it for the instructions of
+ * the front end, and as a listener of the TAC grammar it reads a decaf.tac text into the same instructions,
+ * see {@link com.brolius.compiler.DecafCompiler#compileTac(String)}.
+ *
+ * The frames and the data section are laid out from the declarations of the variables, the symbol tables
+ * for the front end's TAC and the declaration lines for a text, see {@link Declarations}.
+ *
+ * Every operand lives in memory, see {@link StackFrame}: an instruction loads its operands into $t0 and
+ * $t1, computes into $t2 and stores that into its target. Parameters are pushed on the stack, the callee
+ * finds them above its frame and returns in $v0; print is a syscall on the pushed value.
+ */
 public class TacSemanticListener extends tacBaseListener {
-    private tacParser parser;
-    private String currentIndent;
-    private String currentContext;
-    private final String dataIndent = "\t\t\t\t";
-
-    private List<VarElement> varListFromSource;
-    private List<MethodElement> methodListFromSource;
-    private Stack<String> temporariesStack;
-    private Stack<String> savedValuesStack;
-    private Stack<String> argumentsStack;
+    private static final String A = "$t0";
+    private static final String B = "$t1";
+    private static final String RESULT = "$t2";
 
-    private String[] registersInUse;
-
-    private List<tacParser.AssignStatementContext> assignments;
-    private List<tacParser.IfStatementContext> ifs;
-    private List<tacParser.WhileStatementContext> whiles;
-    private List<decafParser.MethodCallContext> methodCalls;
-
-    private List<String> pushedParams;
+    private final String dataIndent = "\t\t\t\t";
+    private String currentIndent;
 
-    public TacSemanticListener(tacParser parser, List<VarElement> varListFromSource, List<MethodElement> methodListFromSource) {
-        this.parser = parser;
-        this.varListFromSource = varListFromSource;
-        this.methodListFromSource = methodListFromSource;
+    private Declarations declarations;
+    private TacDeclarations textDeclarations;   // being read from TAC text, null for the front end's TAC
+    private StackFrame frame;                   // of the function being translated
+    private Map<String, Integer> data;          // data labels to declare, with their bytes
+
+    private String label;                       // of the function read from TAC text
+    private List<Instruction> instructions;     // of the function read from TAC text
+    private MipsEmitter emitter;
+
+    /**
+     * For the TAC of the front end
+     * @param declarations the variables of the program, see {@link SemanticListener#getDeclarations()}
+     * @param emitter
+     */
+    public TacSemanticListener(Declarations declarations, MipsEmitter emitter) {
+        this.emitter = emitter;
+        this.declarations = declarations;
         this.currentIndent = "";
-        this.currentContext = "main";
-
-        this.temporariesStack = new Stack<>();
-        this.savedValuesStack = new Stack<>();
-        this.argumentsStack = new Stack<>();
-        fillRegistersStack();
-
-        registersInUse = new String[3];
-
-        assignments = new LinkedList<>();
-        ifs = new LinkedList<>();
-        whiles = new LinkedList<>();
-        methodCalls = new LinkedList<>();
+        this.data = new LinkedHashMap<>();
+    }
 
-        pushedParams = new LinkedList<>();
+    /**
+     * For decaf.tac text, whose variables are declared in the text itself
+     * @param emitter
+     */
+    public TacSemanticListener(MipsEmitter emitter) {
+        this(new TacDeclarations(), emitter);
+        this.textDeclarations = (TacDeclarations) declarations;
     }
 
-    @Override
-    public void enterProgram(tacParser.ProgramContext ctx) {
-        // write headers of MIPS
+    /**
+     * Writes the headers of the program
+     */
+    void beginProgram() {
+        emitter.select(MipsEmitter.Section.TEXT);
         writeToMIPSFile(currentIndent + "# auto generated MIPS file.");
         writeToMIPSFile(currentIndent + "# VaaDecaf, a Decaf compiler made with Java, ANTLR and the Vaadin framework");
         writeToMIPSFile(currentIndent + "\n");
@@ -62,670 +73,424 @@ public class TacSemanticListener extends tacBaseListener {
         writeToMIPSFile(currentIndent + ".globl main");
     }
 
-    @Override
-    public void exitProgram(tacParser.ProgramContext ctx) {
-        // write data section
+    /**
+     * Writes the data section: the global variables and every other data label the functions used
+     */
+    void endProgram() {
+        emitter.select(MipsEmitter.Section.DATA);
         writeToMIPSFile(currentIndent + "# ---------- data section ----------");
         writeToMIPSFile(currentIndent + ".data");
 
-        // traverse varList and write in data section
-        for (VarElement ve : this.varListFromSource) {
-            String methodName = ve.getContext().getFirm();
-            String varName = ve.getID();
-            String type = ve.getVarType();
-
-            // write data
-            writeDataInMemory(methodName, varName, type);
+        Map<String, Integer> labels = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> global : declarations.getGlobals().entrySet()) {
+            labels.put(global.getKey() + "_" + SymbolTable.GLOBAL, global.getValue());
         }
+        for (Map.Entry<String, Integer> label : data.entrySet()) {
+            labels.putIfAbsent(label.getKey(), label.getValue());
+        }
+        for (Map.Entry<String, Integer> label : labels.entrySet()) {
+            writeDataInMemory(label.getKey(), label.getValue());
+        }
+    }
 
-        // re write file with expected order
-        orderFile();
+    /**
+     * Records the data labels a function uses, for a function whose MIPS is reused instead of written again
+     * @param function
+     */
+    public void declareData(TacFunction function) {
+        declareData(new StackFrame(function, declarations));
     }
 
-    @Override
-    public void enterMainDeclaration(tacParser.MainDeclarationContext ctx) {
-        writeToMIPSFile("# ------------------------------------------------- StartMain ---------------------------------------------------------");
-        this.currentContext = "main";                            // current context = main
-        writeToMIPSFile(currentIndent + "main:");           // main method declaration
-        incrementIndent();                                       // increment indent
+    private void declareData(StackFrame frame) {
+        for (Map.Entry<String, Integer> label : frame.getData().entrySet()) {
+            data.putIfAbsent(label.getKey(), label.getValue());
+        }
     }
 
-    @Override
-    public void exitMainDeclaration(tacParser.MainDeclarationContext ctx) {
-        writeToMIPSFile("\n");
-        // write exit call
-        writeToMIPSFile(currentIndent + "# ---------- Exit ----------\n" +
-                currentIndent + "li $v0, 10\n" +
-                currentIndent + "syscall");
-        decrementIndent();                                       // decrement indent
-        writeToMIPSFile(currentIndent + "\n");
-        writeToMIPSFile("# -------------------------------------------------- EndMain ---------------------------------------------------------");
+    /**
+     * Writes the label and prologue of a function: $ra and $fp are saved and the frame is made
+     * @param function the whole function, for the slots of its frame
+     */
+    void beginFunction(TacFunction function) {
+        frame = new StackFrame(function, declarations);
+        declareData(frame);
+        emitter.select(frame.isMain() ? MipsEmitter.Section.TEXT : MipsEmitter.Section.PROCEDURES);
+        writeToMIPSFile(currentIndent + frame.getName() + ":");
+        incrementIndent();
+        writeToMIPSFile(currentIndent + "addiu $sp, $sp, -8" + dataIndent + "# Save $ra and $fp");
+        writeToMIPSFile(currentIndent + "sw $ra, 4($sp)");
+        writeToMIPSFile(currentIndent + "sw $fp, 0($sp)");
+        writeToMIPSFile(currentIndent + "move $fp, $sp");
+        if (frame.getSize() > 0) {
+            writeToMIPSFile(currentIndent + "addiu $sp, $sp, -" + frame.getSize() + dataIndent + "# Locals and temporaries");
+        }
     }
 
-    @Override
-    public void enterMethodDeclaration(tacParser.MethodDeclarationContext ctx) {
-        writeToMIPSFile("# -------------------------------------------------- StartProcedure ---------------------------------------------------");
-        String methodName = ctx.location().getText().replace("_", "");
-        this.currentContext = methodName;
-        writeToMIPSFile(currentIndent + methodName + ":");
+    /**
+     * Writes the epilogue of the function, where its returns jump to. main exits instead of returning.
+     */
+    void endFunction() {
+        decrementIndent();
+        writeToMIPSFile(currentIndent + frame.getEndLabel() + ":");
         incrementIndent();
+        if (frame.isMain()) {
+            writeToMIPSFile(currentIndent + "# ---------- Exit ----------");
+            writeToMIPSFile(currentIndent + "li $v0, 10");
+            writeToMIPSFile(currentIndent + "syscall");
+        } else {
+            writeToMIPSFile(currentIndent + "move $sp, $fp");
+            writeToMIPSFile(currentIndent + "lw $ra, 4($sp)");
+            writeToMIPSFile(currentIndent + "lw $fp, 0($sp)");
+            writeToMIPSFile(currentIndent + "addiu $sp, $sp, 8");
+            writeToMIPSFile(currentIndent + "jr $ra" + dataIndent + "# Jump to addr stored in $ra");
+        }
+        decrementIndent();
+        writeToMIPSFile("\n");
+        frame = null;
+        emitter.select(MipsEmitter.Section.TEXT);
+    }
 
-        int NUM = Integer.parseInt(ctx.funcBlock().NUM().getText()) / 4;
+    // instructions
 
-        // push onto stack
-        for (int i = 0; i < NUM; i++) {
-            writeToMIPSFile(currentIndent + "addi $sp, $sp, -4\t\t\t\t# Adjust stack pointer");
-            writeToMIPSFile(currentIndent + "sw $s" + String.valueOf(i) + ", 0($sp)\t\t\t\t\t# Save reg");
-        }
+    void translateCopy(Operand target, Operand value) {
+        load(value, A);
+        store(A, target);
+    }
 
+    void translateBinary(Operand target, Operator operator, Operand left, Operand right) {
+        load(left, A);
+        load(right, B);
+        switch (operator) {
+            case ADD: write("addu", RESULT, A, B); break;
+            case SUB: write("subu", RESULT, A, B); break;
+            case MUL: write("mul", RESULT, A, B); break;
+            case DIV:
+                writeToMIPSFile(currentIndent + "div " + A + ", " + B);
+                writeToMIPSFile(currentIndent + "mflo " + RESULT);
+                break;
+            case MOD:
+                writeToMIPSFile(currentIndent + "div " + A + ", " + B);
+                writeToMIPSFile(currentIndent + "mfhi " + RESULT);
+                break;
+            case AND: write("and", RESULT, A, B); break;
+            case OR: write("or", RESULT, A, B); break;
+            case LT: write("slt", RESULT, A, B); break;
+            case GT: write("slt", RESULT, B, A); break;
+            case LE:                    // not b < a
+                write("slt", RESULT, B, A);
+                write("xori", RESULT, RESULT, "1");
+                break;
+            case GE:                    // not a < b
+                write("slt", RESULT, A, B);
+                write("xori", RESULT, RESULT, "1");
+                break;
+            case EQ:
+                write("xor", RESULT, A, B);
+                write("sltiu", RESULT, RESULT, "1");
+                break;
+            case NE:
+                write("xor", RESULT, A, B);
+                write("sltu", RESULT, "$zero", RESULT);
+                break;
+            default:
+                throw new IllegalArgumentException("not a binary operator: " + operator);
+        }
+        store(RESULT, target);
+    }
 
+    void translateUnary(Operand target, Operator operator, Operand operand) {
+        load(operand, A);
+        if (operator == Operator.NEG) {
+            write("subu", RESULT, "$zero", A);
+        } else if (operator == Operator.NOT) {
+            write("xori", RESULT, A, "1");
+        } else {
+            throw new IllegalArgumentException("not a unary operator: " + operator);
+        }
+        store(RESULT, target);
     }
 
-    @Override
-    public void exitMethodDeclaration(tacParser.MethodDeclarationContext ctx) {
-        int NUM = Integer.parseInt(ctx.funcBlock().NUM().getText()) / 4;
-        // restore saved values
-        for (int i = NUM; i > 0; i--) {
-            writeToMIPSFile(currentIndent + "lw $s" + String.valueOf(i) + ", 0($sp)\t\t\t\t\t# Restore reg");
-            writeToMIPSFile(currentIndent + "addi $sp, $sp, 4\t\t\t\t# Adjust stack pointer");
+    /**
+     * @param target
+     * @param variable a struct or array
+     */
+    void translateAddress(Operand target, String variable) {
+        Integer local = frame.localAddress(variable);
+        if (local != null) {
+            write("addiu", RESULT, "$fp", String.valueOf(local));
+        } else {
+            writeToMIPSFile(currentIndent + "la " + RESULT + ", " + frame.label(variable));
         }
+        store(RESULT, target);
+    }
 
-        // return from function
-        writeToMIPSFile(currentIndent + "jr $ra\t\t\t\t\t\t\t# Jump to addr stored in $ra");
-        writeToMIPSFile("\n");
-        decrementIndent();
-        writeToMIPSFile("# -------------------------------------------------- EndProcedure -----------------------------------------------------");
+    void translateLoad(Operand target, Operand address) {
+        load(address, A);
+        writeToMIPSFile(currentIndent + "lw " + RESULT + ", 0(" + A + ")");
+        store(RESULT, target);
     }
 
-    @Override
-    public void enterReturnExp(tacParser.ReturnExpContext ctx) {
-        String returnVar = ctx.location().getText().replace("_", "$");
-        //move $v0, returnVar
-        writeToMIPSFile(currentIndent + "move $v0, " + returnVar + "\t\t\t\t\t# Return");
+    void translateStore(Operand address, Operand value) {
+        load(address, A);
+        load(value, B);
+        writeToMIPSFile(currentIndent + "sw " + B + ", 0(" + A + ")");
     }
 
-    @Override
-    public void enterMethodCall(tacParser.MethodCallContext ctx) {
-        // get params
-        List<tacParser.PushParamContext> params = ctx.pushParam();
-        // get methodName
-        String methodName = ctx.location().getText().replace("_", "");
-
-        // check if method is one special method, like print
-        if (methodName.equals("print")) {
-            writeToMIPSFile(currentIndent + "li " + "$v0" + ", " + "1\t\t\t\t\t# Print call");
-            writeToMIPSFile(currentIndent + "lw $a0, " + params.get(0).location().getText() + "_" + currentContext);
+    void translatePushParam(Operand value) {
+        load(value, A);
+        writeToMIPSFile(currentIndent + "addiu $sp, $sp, -4" + dataIndent + "# Push param");
+        writeToMIPSFile(currentIndent + "sw " + A + ", 0($sp)");
+    }
+
+    /**
+     * @param target receives the returned value, null if it is dropped
+     * @param function label of the function, print for the builtin
+     */
+    void translateCall(Operand target, String function) {
+        if (function.equals("print")) {
+            writeToMIPSFile(currentIndent + "lw $a0, 0($sp)" + dataIndent + "# Print call");
+            writeToMIPSFile(currentIndent + "li $v0, 1");
             writeToMIPSFile(currentIndent + "syscall");
-        } else {
-            // load params in registers
-            for (tacParser.PushParamContext param : params) {
-                String argRegister = getNextAvailableAR();
-
-                if (!argRegister.equals("$err")) {
-                    String newParam = param.location().getText().replace("_", "$");
-                    pushedParams.add(argRegister);
-                    writeToMIPSFile(currentIndent + "move " + argRegister + ", " + newParam);
-                }
+            if (target != null) {
+                store("$zero", target);
             }
+            return;
+        }
+        writeToMIPSFile(currentIndent + "jal " + function);
+        if (target != null) {
+            store("$v0", target);
+        }
+    }
 
-            List<decafParser.ParameterContext> paramsInSymbolTable = new LinkedList<>();
+    void translatePopParams(int bytes) {
+        if (bytes > 0) {
+            writeToMIPSFile(currentIndent + "addiu $sp, $sp, " + bytes + dataIndent + "# Pop params");
+        }
+    }
 
-            for (MethodElement me : this.methodListFromSource) {
-                if (me.getFirm().equals(methodName)) {
-                    paramsInSymbolTable.addAll(me.getArgs());
-                    break;
-                }
-            }
+    /**
+     * @param value returned, null for a return without value
+     */
+    void translateReturn(Operand value) {
+        if (value != null) {
+            load(value, "$v0");
+        }
+        writeBranch(frame.getEndLabel());
+    }
 
-            int index = 0;
-            for (decafParser.ParameterContext param : paramsInSymbolTable) {
-                String varName = param.ID().getText() + "_" + methodName;
-                writeToMIPSFile(currentIndent + "sw " + pushedParams.get(index) + ", " + varName);
-                index = index + 1;
-            }
+    /**
+     * @param condition
+     * @param label jumped to if the condition is 0, false
+     */
+    void writeBranchIfZero(Operand condition, String label) {
+        load(condition, A);
+        writeToMIPSFile(currentIndent + "beqz " + A + ", " + label);
+    }
 
-            // jump to function
-            writeToMIPSFile(currentIndent + "jal " + methodName);
+    void writeBranch(String label) {
+        writeToMIPSFile(currentIndent + "b " + label);
+    }
 
-            // load returned value
-            String returnReg = getNextAvailableSVR();
-            writeToMIPSFile(currentIndent + "move " + returnReg + ", " + "$v0");
+    void writeLabel(String label) {
+        decrementIndent();
+        writeToMIPSFile(currentIndent + label + ":");
+        incrementIndent();
+    }
 
-            //pushedParams.clear();
+    private void load(Operand operand, String register) {
+        if (operand.isConstant()) {
+            writeToMIPSFile(currentIndent + "li " + register + ", " + operand.intValue());
+        } else {
+            writeToMIPSFile(currentIndent + "lw " + register + ", " + frame.home(operand));
         }
     }
 
-    @Override
-    public void enterWhileStatement(tacParser.WhileStatementContext ctx) {
-        System.out.println("Entering while stmt");
-        if (!whiles.contains(ctx)) {
-            // get objects
-            List<tacParser.LabelContext> lbls = ctx.label();
-            String lbl1 = lbls.get(0).getText().replace(":", "");
-            String lbl2 = lbls.get(1).getText().replace(":", "");
-            tacParser.AssignStatementContext assignStmt = ctx.assignStatement();
-            List<tacParser.LocationContext> locations = ctx.location();
-            String temp = locations.get(0).getText();
-            tacParser.BlockContext falseBlock = ctx.block();
-            temp = temp.replace("_", "$");
-
-            // handle assignment before if
-            writeToMIPSFile(currentIndent + lbl1 + ":");
-            enterAssignStatement(assignStmt);
-            assignments.add(assignStmt);
-
-            // write MIPS branch
-            writeToMIPSFile(currentIndent + "blez " + temp + ", " + lbl2);
-
-            // TODO handle false block
-            List<tacParser.StatementContext> fbStatements = falseBlock.statement();
-            for (tacParser.StatementContext stmt : fbStatements) {
-                if (stmt.assignStatement() != null) {
-                    enterAssignStatement(stmt.assignStatement());
-                    if (!assignments.contains(stmt.assignStatement())){
-                        assignments.add(stmt.assignStatement());
-                    }
-                } else if (stmt.ifStatement() != null) {
-                    enterIfStatement(stmt.ifStatement());
-                    if (!ifs.contains(stmt.ifStatement())) {
-                        ifs.add(stmt.ifStatement());
-                    }
-                } else if (stmt.whileStatement() != null) {
-                    enterWhileStatement(stmt.whileStatement());
-                    if (!whiles.contains(stmt.whileStatement())) {
-                        whiles.add(stmt.whileStatement());
-                    }
-                }
-            }
+    private void store(String register, Operand target) {
+        writeToMIPSFile(currentIndent + "sw " + register + ", " + frame.home(target));
+    }
 
-            // branch to label 1
-            writeToMIPSFile(currentIndent + "b " + lbl1);
+    private void write(String instruction, String rd, String rs, String rt) {
+        writeToMIPSFile(currentIndent + instruction + " " + rd + ", " + rs + ", " + rt);
+    }
 
-            // write label 2
-            writeToMIPSFile(currentIndent + lbl2 + ":");
+    // decaf.tac text, read into instructions a function at a time
 
-            whiles.add(ctx);
+    @Override
+    public void enterProgram(tacParser.ProgramContext ctx) {
+        beginProgram();
+    }
 
-        }
+    @Override
+    public void exitProgram(tacParser.ProgramContext ctx) {
+        endProgram();
     }
 
     @Override
-    public void exitWhileStatement(tacParser.WhileStatementContext ctx) {
-        fillRegistersStack();
+    public void enterMainDeclaration(tacParser.MainDeclarationContext ctx) {
+        label = "main";
     }
 
     @Override
-    public void enterIfStatement(tacParser.IfStatementContext ctx) {
-        if (!ifs.contains(ctx)) {
-            // get involved variables and labels
-            List<tacParser.LocationContext> locations = ctx.location();
-            String temp = locations.get(0).getText();
-            String lbl1 = locations.get(1).getText();
-            String lbl2 = locations.get(2).getText();
-
-            temp = temp.replace("_", "$");
-
-            // write MIPS branch
-            writeToMIPSFile(currentIndent + "blez " + temp + ", " + lbl1);
-
-            // get blocks
-            List<tacParser.BlockContext> blocks = ctx.block();
-            tacParser.BlockContext falseBlock = blocks.get(0);
-            tacParser.BlockContext trueBlock = blocks.get(1);
-
-            // TODO handle false block
-            List<tacParser.StatementContext> fbStatements = falseBlock.statement();
-            for (tacParser.StatementContext stmt : fbStatements) {
-                if (stmt.assignStatement() != null) {
-                    enterAssignStatement(stmt.assignStatement());
-                    if (!assignments.contains(stmt.assignStatement())){
-                        assignments.add(stmt.assignStatement());
-                    }
-                } else if (stmt.ifStatement() != null) {
-                    enterIfStatement(stmt.ifStatement());
-                    if (!ifs.contains(stmt.ifStatement())) {
-                        ifs.add(stmt.ifStatement());
-                    }
-                } else if (stmt.whileStatement() != null) {
-                    enterWhileStatement(stmt.whileStatement());
-                    if (!whiles.contains(stmt.whileStatement())) {
-                        whiles.add(stmt.whileStatement());
-                    }
-                }
-            }
+    public void enterMethodDeclaration(tacParser.MethodDeclarationContext ctx) {
+        label = ctx.location().getText();
+    }
 
-            // make jump to label 2
-            writeToMIPSFile(currentIndent + "b " + lbl2);
-
-            // label 1
-            writeToMIPSFile(currentIndent + lbl1 + ":");
-
-            // TODO handle true block
-            List<tacParser.StatementContext> tbStatements = trueBlock.statement();
-            for (tacParser.StatementContext stmt : tbStatements) {
-                if (stmt.assignStatement() != null) {
-                    enterAssignStatement(stmt.assignStatement());
-                    if (!assignments.contains(stmt.assignStatement())){
-                        assignments.add(stmt.assignStatement());
-                    }
-                } else if (stmt.ifStatement() != null) {
-                    enterIfStatement(stmt.ifStatement());
-                    if (!ifs.contains(stmt.ifStatement())) {
-                        ifs.add(stmt.ifStatement());
-                    }
-                } else if (stmt.whileStatement() != null) {
-                    enterWhileStatement(stmt.whileStatement());
-                    if (!whiles.contains(stmt.whileStatement())) {
-                        whiles.add(stmt.whileStatement());
-                    }
-                }
-            }
+    @Override
+    public void enterFuncBlock(tacParser.FuncBlockContext ctx) {
+        instructions = new ArrayList<>();
+    }
 
-            // label 2
-            writeToMIPSFile(currentIndent + lbl2 + ":");
+    @Override
+    public void exitGlobal(tacParser.GlobalContext ctx) {
+        textDeclarations.declareGlobal(ctx.ID().getText(), Integer.parseInt(ctx.NUM().getText()));
+    }
 
-            // add if context to list
-            ifs.add(ctx);
-        }
+    @Override
+    public void exitStruct(tacParser.StructContext ctx) {
+        textDeclarations.declareStruct(ctx.ID().getText(), Integer.parseInt(ctx.NUM().getText()));
     }
 
     @Override
-    public void enterAssignStatement(tacParser.AssignStatementContext ctx) {
-        boolean isEqExpr = false;
-        if (ctx.location().getText().equals(ctx.expression().getText()))
-            isEqExpr = true;
-
-        if (!assignments.contains(ctx) && !isEqExpr) {
-            // separate location and expression
-            tacParser.LocationContext location = ctx.location();
-            tacParser.ExpressionContext expression = ctx.expression();
-
-            String locRegister = "";
-            String locRegisterData = "";
-            // check if location has a termprary register in it
-            if (location.getText().contains("_t")) {
-                locRegister = location.getText().replace("_t", "$t");
-                temporariesStack.remove(locRegister);                       // remove register from available registers
-            } else {
-                locRegister = getNextAvailableSVR();
-                locRegisterData = location.getText() + "_" + currentContext;
-            }
+    public void exitParam(tacParser.ParamContext ctx) {
+        textDeclarations.declareParameter(label, ctx.ID().getText());
+    }
 
-            // set assign register
-            registersInUse[0] = locRegister;
-
-            // get the operator for expression
-            String operator = getOperatorFromExpression(expression);
-            if (!operator.equals("$err_no_op")) {
-                // expression has two operands
-                // separate the operands
-                String[] operands = splitTac(expression.getText());
-
-                int i = 1;
-                for (String operand : operands) {
-                    if (operand.contains("_t")) {
-                        registersInUse[i] = operand.replace("_t", "$t");
-                    } else {
-                        try{
-                            // check if its not an immediate number
-                            int immediate = Integer.parseInt(operand);
-                            registersInUse[i] = getNextAvailableTR();
-                            writeToMIPSFile(currentIndent + "li " + registersInUse[i] + ", " + String.valueOf(immediate));
-                        } catch (Exception e) {
-                            // operand is data in memory, so we should load it MIPS style
-
-                            // first change the name of the variable so it matchs context
-                            String varName = operand + "_" + currentContext;
-
-                            // get a register where to load the data
-                            String register = getNextAvailableTR();
-                            registersInUse[i] = register;
-
-                            // load it in MIPS
-                            writeToMIPSFile(currentIndent + "lw " + register + ", " + varName + dataIndent + "# ld " +
-                                    "data " + varName);
-                        }
-                    }
-                    i = i + 1;
-                }
-
-                // registersInUse now stores three registers: [0] contains register to store operation, [1] and [2] the values
-                // find out what is the operation
-
-                String operationIs = getMIPSOperation(operator);
-                if (!operationIs.equals("$err_invalid_op")) {
-                    if (!operationIs.equals("mult") && !operationIs.equals("div")) {
-                        // write operation in MIPS
-                        if (operationIs.equals("slt")) {
-                            // write less than in MIPS and assign to register
-                            writeToMIPSFile(currentIndent + operationIs + " " + registersInUse[0] + ", " + registersInUse[1] + ", "
-                                    + registersInUse[2]);
-
-                            this.temporariesStack.push(registersInUse[1]);
-                            this.temporariesStack.push(registersInUse[2]);
-
-                            // now check if is greater than zero. 1 is true, 0 is false or less than
-                            // TODO
-
-                        } else {
-                            writeToMIPSFile(currentIndent + operationIs + " " + registersInUse[0] + ", " + registersInUse[1] + ", "
-                                    + registersInUse[2]);
-
-                            // free registers except [0]
-                            this.temporariesStack.push(registersInUse[1]);
-                            this.temporariesStack.push(registersInUse[2]);
-
-                            // check if there's need to store
-                            if (!locRegisterData.equals("")) {
-                                // we need to store
-                                writeToMIPSFile(currentIndent + "sw " + registersInUse[0] + ", " + locRegisterData + dataIndent +
-                                        "# str data");
-
-                                // since we did a store we can free the registers
-                                //this.savedValuesStack.push(registersInUse[0]);
-                                this.temporariesStack.push(registersInUse[1]);
-                                this.temporariesStack.push(registersInUse[2]);
-                            }
-                        }
-                    } else {
-                        writeToMIPSFile(currentIndent + operationIs + " " + registersInUse[1] + ", " + registersInUse[2]);
-                        writeToMIPSFile(currentIndent + "mflo " + registersInUse[0]);
-
-                        // check if there's need to store
-                        if (!locRegisterData.equals("")) {
-                            // we need to store
-                            writeToMIPSFile(currentIndent + "sw " + registersInUse[0] + ", " + locRegisterData + dataIndent +
-                                    "# str data");
-
-                            // since we did a store we can free the registers
-                            //this.savedValuesStack.push(registersInUse[0]);
-                        }
-
-                        // free registers except [0]
-                        this.temporariesStack.push(registersInUse[1]);
-                        this.temporariesStack.push(registersInUse[2]);
-                    }
-                }
-
-            } else {
-                // TODO handle here possible immediate values and other stuff
-                String exp = expression.getText();
-
-                // check for inmmediate value
-                try {
-                    int immediate = Integer.parseInt(exp);
-
-                    // check if there's need to store
-                    if (!locRegisterData.equals("")) {
-                        writeToMIPSFile(currentIndent + "li " + registersInUse[0] + ", " + String.valueOf(immediate));
-                        // we need to store
-                        writeToMIPSFile(currentIndent + "sw " + registersInUse[0] + ", " + locRegisterData + dataIndent +
-                                "# str data");
-
-                        // since we did a store we can free the registers
-                        //this.savedValuesStack.push(registersInUse[0]);
-                    } else {
-                        writeToMIPSFile(currentIndent + "li " + registersInUse[0] + ", " + String.valueOf(immediate));
-                    }
-                } catch (Exception e) {
-                    // not an immediate value
-                    if (exp.contains("_t")) {
-                        registersInUse[1] = exp.replace("_t", "$t");
-                    } else {
-                        // operand is data in memory, so we should load it MIPS style
-
-                        // first change the name of the variable so it matchs context
-                        String varName = exp + "_" + currentContext;
-
-                        // get a register where to load the data
-                        String register = getNextAvailableTR();
-                        registersInUse[1] = register;
-
-                        // load it in MIPS
-                        writeToMIPSFile(currentIndent + "lw " + register + ", " + varName + dataIndent + "# ld " +
-                                "data " + varName);
-                    }
-
-                    // make assignment
-                    if (!locRegisterData.equals("")) {
-                        writeToMIPSFile(currentIndent + "move " + registersInUse[0] + ", " + registersInUse[1]);
-                        // we need to store
-                        writeToMIPSFile(currentIndent + "sw " + registersInUse[0] + ", " + locRegisterData + dataIndent +
-                                "# str data");
-
-                        // since we did a store we can free the registers
-                        //this.savedValuesStack.push(registersInUse[0]);
-                        this.temporariesStack.push(registersInUse[1]);
-                    } else {
-                        writeToMIPSFile(currentIndent + "move " + registersInUse[0] + ", " + registersInUse[1]);
-                    }
-                }
-            }
-            assignments.add(ctx);
-        }
+    @Override
+    public void exitLocal(tacParser.LocalContext ctx) {
+        textDeclarations.declareLocal(label, ctx.ID().getText(), Integer.parseInt(ctx.NUM().getText()));
     }
 
-    private String getMIPSOperation(String operator) {
-        if (operator.equals("+")) {
-            return "add";
-        } else if (operator.equals("&&")) {
-            return "and";
-        } else if (operator.equals("/")) {
-            return "div";
-        } else if (operator.equals("*")) {
-            return "mult";
-        } else if (operator.equals("||")) {
-            return "or";
-        } else if (operator.equals("-")) {
-            return "sub";
-        } else if (operator.equals("<")) {
-            return "slt";
-        } else return "$err_invalid_op";
-    }
-
-    private String getOperatorFromExpression(tacParser.ExpressionContext expression) {
-        if (expression.and_op() != null) {
-            return expression.and_op().getText();
-        } else if (expression.or_op() != null) {
-            return expression.or_op().getText();
-        } else if (expression.eq_op() != null) {
-            return expression.eq_op().getText();
-        } else if (expression.rel_op() != null) {
-            return expression.rel_op().getText();
-        } else if (expression.modulus_op() != null) {
-            return expression.modulus_op().getText();
-        } else if (expression.div_op() != null) {
-            return expression.div_op().getText();
-        } else if (expression.mul_op() != null) {
-            return expression.mul_op().getText();
-        } else if (expression.arith_op_sum_subs() != null) {
-            return expression.arith_op_sum_subs().getText();
-        } else return "$err_no_op";
-    }
-
-    private String[] splitTac(String toSplit){
-        return toSplit.split("\\+|-|\\*|/|%|&&|\\|\\||==|!=|<|<=|>|>=");
-    }
-
-    private void fillRegistersStack() {
-        this.temporariesStack.clear();
-        this.savedValuesStack.clear();
-        this.argumentsStack.clear();
-
-        for (int i = 9; i >= 0; i--) {
-            this.temporariesStack.push("$t" + String.valueOf(i));
-        }
+    @Override
+    public void exitFuncBlock(tacParser.FuncBlockContext ctx) {
+        TacFunction function = new TacFunction(label, instructions);
+        function.finish();
+        TacIrWalker.of(function).walk(this);
+        instructions = null;
+    }
 
-        for (int i = 7; i >= 0; i--) {
-            this.savedValuesStack.push("$s" + String.valueOf(i));
-        }
+    @Override
+    public void exitLabelInstruction(tacParser.LabelInstructionContext ctx) {
+        instructions.add(Instruction.label("_" + ctx.label().ID().getText()));
+    }
 
-        for (int i = 3; i >= 0; i--) {
-            this.argumentsStack.push("$a" + String.valueOf(i));
-        }
+    @Override
+    public void exitStartWhile(tacParser.StartWhileContext ctx) {
+        instructions.add(Instruction.startWhile());
     }
 
-    // To obtain next available temporary register
-    private String getNextAvailableTR() {
-        if (!this.temporariesStack.isEmpty()) {
-            return this.temporariesStack.pop();
-        } else return "$err";
+    @Override
+    public void exitIfz(tacParser.IfzContext ctx) {
+        instructions.add(Instruction.ifz(operand(ctx.operand()), ctx.location().getText()));
     }
 
-    // To obtain next available saved value register
-    private String getNextAvailableSVR() {
-        if (!this.savedValuesStack.isEmpty()) {
-            return this.savedValuesStack.pop();
-        } else return "$err";
+    @Override
+    public void exitJump(tacParser.JumpContext ctx) {
+        String target = ctx.location().getText();
+        instructions.add(ctx.loop != null ? Instruction.loopJump(target) : Instruction.jump(target));
     }
 
-    // To obtain next available argument register
-    private String getNextAvailableAR() {
-        if (!this.argumentsStack.isEmpty()) {
-            return this.argumentsStack.pop();
-        } else return "$err";
+    @Override
+    public void exitPushParam(tacParser.PushParamContext ctx) {
+        instructions.add(Instruction.pushParam(operand(ctx.operand())));
     }
 
-    private void incrementIndent() {
-        this.currentIndent = this.currentIndent + "\t";
+    @Override
+    public void exitCall(tacParser.CallContext ctx) {
+        List<tacParser.LocationContext> locations = ctx.location();
+        Operand target = locations.size() > 1 ? location(locations.get(0)) : null;
+        instructions.add(Instruction.call(target, locations.get(locations.size() - 1).getText()));
     }
 
-    private void decrementIndent() {
-        this.currentIndent = this.currentIndent.substring(0, this.currentIndent.length()-1);
+    @Override
+    public void exitPopParams(tacParser.PopParamsContext ctx) {
+        instructions.add(Instruction.popParams(Integer.parseInt(ctx.NUM().getText())));
     }
 
-    private void writeDataInMemory(String methodName, String varName, String type) {
-        if (type.equals("int")) {
-            writeToMIPSFile(currentIndent + varName + "_" + methodName + ":" + dataIndent + ".word 0");
-        } else if (type.equals("char")) {
-            writeToMIPSFile(currentIndent + varName + "_" + methodName + ":" + dataIndent + ".asciiz \"\"");
-        }
+    @Override
+    public void exitReturnInstruction(tacParser.ReturnInstructionContext ctx) {
+        instructions.add(Instruction.ret(ctx.operand() != null ? operand(ctx.operand()) : null));
     }
 
-    private void writeToMIPSFile(String line) {
-        try(FileWriter fw = new FileWriter("generated_mips.asm", true);
-            BufferedWriter bw = new BufferedWriter(fw);
-            PrintWriter out = new PrintWriter(bw))
-        {
-            out.println(line);
-        } catch (IOException e) {
-        }
+    @Override
+    public void exitStore(tacParser.StoreContext ctx) {
+        instructions.add(Instruction.store(operand(ctx.operand(0)), operand(ctx.operand(1))));
     }
 
-    private void writeToMIPSOrderedFile(String line) {
-        try(FileWriter fw = new FileWriter("ordered_mips.asm", true);
-            BufferedWriter bw = new BufferedWriter(fw);
-            PrintWriter out = new PrintWriter(bw))
-        {
-            out.println(line);
-        } catch (IOException e) {
+    @Override
+    public void exitAssign(tacParser.AssignContext ctx) {
+        Operand target = location(ctx.location());
+        tacParser.ExpressionContext expression = ctx.expression();
+        if (expression instanceof tacParser.CopyContext) {
+            instructions.add(Instruction.copy(target, operand(((tacParser.CopyContext) expression).operand())));
+        } else if (expression instanceof tacParser.BinaryContext) {
+            tacParser.BinaryContext binary = (tacParser.BinaryContext) expression;
+            instructions.add(Instruction.binary(target, Operator.binary(binary.binary_op().getText()),
+                    operand(binary.operand(0)), operand(binary.operand(1))));
+        } else if (expression instanceof tacParser.UnaryContext) {
+            tacParser.UnaryContext unary = (tacParser.UnaryContext) expression;
+            Operator operator = unary.unary_op().getText().equals("!") ? Operator.NOT : Operator.NEG;
+            instructions.add(Instruction.unary(target, operator, operand(unary.operand())));
+        } else if (expression instanceof tacParser.AddressContext) {
+            instructions.add(Instruction.address(target, ((tacParser.AddressContext) expression).ID().getText()));
+        } else if (expression instanceof tacParser.LoadContext) {
+            instructions.add(Instruction.load(target, operand(((tacParser.LoadContext) expression).operand())));
+        } else {
+            Trace.debug(Trace.Category.MIPS, "skipped assignment ", ctx.getText());
         }
     }
 
-    private void orderFile() {
-        // create file
-        try {
-            File file = new File("ordered_mips.asm");
-            if (file.exists()) {
-                file.delete();
-            }
-            file.createNewFile();
-        } catch (IOException e) {
-            e.printStackTrace();
+    private static Operand operand(tacParser.OperandContext ctx) {
+        if (ctx.location() != null) {
+            return location(ctx.location());
         }
-
-        // read generated_mips.asm and omit # StartProcedure and # dataSection sections
-        try (BufferedReader br = new BufferedReader(new FileReader("generated_mips.asm"))) {
-            String line;
-            boolean write = true;
-            while ((line = br.readLine()) != null) {
-                boolean skip = false;
-                if (line.contains("# -------------------------------------------------- StartProcedure ---------------------------------------------------")){
-                    // omit
-                    write = false;
-                }
-
-                if (line.contains("# ------------------------------------------------- StartMain ---------------------------------------------------------")) {
-                    // write
-                    write = true;
-                    skip = true;
-                }
-
-                if (line.contains("# -------------------------------------------------- EndMain ---------------------------------------------------------")) {
-                    skip = true;
-                }
-
-                if (line.contains("# ---------- data section ----------")) {
-                    // omit
-                    write = false;
-                }
-
-                if (write && !skip) {
-                    writeToMIPSOrderedFile(line);
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        tacParser.LiteralContext literal = ctx.literal();
+        if (literal.int_literal() != null) {
+            return Operand.constant(new BigInteger(literal.int_literal().getText()).intValue());
+        } else if (literal.char_literal() != null) {
+            return Operand.character(literal.char_literal().getText());
         }
+        return Operand.constant(literal.bool_literal().getText().equals("true"));
+    }
 
-        // read generated_mips.asm and write procedures and data section
-        try (BufferedReader br = new BufferedReader(new FileReader("generated_mips.asm"))) {
-            String line;
-            boolean write = false;
-            while ((line = br.readLine()) != null) {
-                boolean skip = false;
-                if (line.contains("# -------------------------------------------------- StartProcedure ---------------------------------------------------")){
-                    // omit
-                    write = true;
-                    skip = true;
-                }
-
-                if (line.contains("# -------------------------------------------------- EndProcedure -----------------------------------------------------")) {
-                    // write
-                    write = false;
-                }
-
-                if (line.contains("# ---------- data section ----------")) {
-                    // omit
-                    write = true;
-                }
-
-                if (write && !skip) {
-                    writeToMIPSOrderedFile(line);
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    private static Operand location(tacParser.LocationContext ctx) {
+        String text = ctx.getText();
+        return text.startsWith("_") ? Operand.temporary(text) : Operand.variable(text);
+    }
 
-        // copy content of ordered file into generated file and delete ordered file
-        try {
-            File file = new File("generated_mips.asm");
-            if (file.exists()) {
-                file.delete();
-            }
-            file.createNewFile();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    private void incrementIndent() {
+        this.currentIndent = this.currentIndent + "\t";
+    }
 
-        try (BufferedReader br = new BufferedReader(new FileReader("ordered_mips.asm"))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                writeToMIPSFile(line);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    private void decrementIndent() {
+        this.currentIndent = this.currentIndent.substring(0, this.currentIndent.length()-1);
+    }
 
-        try {
-            File file = new File("ordered_mips.asm");
-            if (file.exists()) {
-                file.delete();
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+    /**
+     * @param label
+     * @param size bytes, a word gets a .word and anything else a word aligned .space
+     */
+    private void writeDataInMemory(String label, int size) {
+        if (size == DataLayout.WORD) {
+            writeToMIPSFile(currentIndent + label + ":" + dataIndent + ".word 0");
+        } else {
+            writeToMIPSFile(currentIndent + ".align 2");
+            writeToMIPSFile(currentIndent + label + ":" + dataIndent + ".space " + Math.max(size, DataLayout.WORD));
         }
+    }
+
+    private void writeToMIPSFile(String line) {
+        emitter.emit(line);
+    }
+
+    public MipsEmitter getEmitter() {
+        return emitter;
+    }
 
+    /**
+     * Sends the next lines to another emitter, e.g. one per method
+     * @param emitter
+     */
+    public void setEmitter(MipsEmitter emitter) {
+        this.emitter = emitter;
     }
 }
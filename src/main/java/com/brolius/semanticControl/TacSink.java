@@ -0,0 +1,24 @@
+package com.brolius.semanticControl;
+
+/**
+ * Destination for the TAC lines generated by the {@link SemanticListener}.
+ * A sink is opened once per compilation and flushed once at the end, so the
+ * listener never has to touch the file system on its own.
+ */
+public interface TacSink {
+    /**
+     * Appends a TAC line (a line separator is added after it)
+     * @param line
+     */
+    void writeLine(String line);
+
+    /**
+     * Pushes any buffered lines to the underlying destination
+     */
+    void flush();
+
+    /**
+     * Flushes and releases the underlying destination
+     */
+    void close();
+}
@@ -0,0 +1,154 @@
+package com.brolius.semanticControl;
+
+import com.brolius.antlr.decafParser;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.List;
+
+/**
+ * Computes the type of expressions bottom up from their children, following the alternatives of the
+ * expression rule. Each node is typed once and annotated with its type, so checking a statement is
+ * linear in the size of its tree and asking again for the type of a node (or of any node below it)
+ * is a single lookup.
+ *
+ * An operator applied to operands of the wrong types is reported once, on the node where it happens,
+ * and gives {@link DecafType#ERROR}. Expressions that contain an illegal or unknown operand get that
+ * type too, without further errors. Unknown types come from undefined variables and methods, the listener
+ * has already reported them.
+ */
+public class TypeChecker {
+    private final SymbolTable symbolTable;
+    private final SignatureRegistry signatures;
+    private final List<String> semanticErrorsList;
+    private final NodeAttribute<DecafType> types = new NodeAttribute<>();
+
+    public TypeChecker(SymbolTable symbolTable, SignatureRegistry signatures, List<String> semanticErrorsList) {
+        this.symbolTable = symbolTable;
+        this.signatures = signatures;
+        this.semanticErrorsList = semanticErrorsList;
+    }
+
+    /**
+     * @param ctx
+     * @param context method the expression is in, to resolve its variables
+     * @return the type of the expression
+     */
+    public DecafType typeOf(decafParser.ExpressionContext ctx, MethodElement context) {
+        if (ctx == null) {
+            return DecafType.UNKNOWN;
+        }
+        DecafType type = types.get(ctx);
+        if (type == null) {
+            type = computeType(ctx, context);
+            types.put(ctx, type);
+        }
+        return type;
+    }
+
+    /**
+     * @param ctx
+     * @param context method the location is in
+     * @return the type of the variable, array element or struct field the location refers to
+     */
+    public DecafType typeOf(decafParser.LocationContext ctx, MethodElement context) {
+        DecafType type = types.get(ctx);
+        if (type == null) {
+            type = locationType(ctx, context, null);
+            types.put(ctx, type);
+        }
+        return type;
+    }
+
+    private DecafType computeType(decafParser.ExpressionContext ctx, MethodElement context) {
+        if (ctx instanceof decafParser.BinaryExpressionContext) {
+            decafParser.BinaryExpressionContext binary = (decafParser.BinaryExpressionContext) ctx;
+            DecafType left = typeOf(binary.expression(0), context);
+            DecafType right = typeOf(binary.expression(1), context);
+            if (!left.isKnown() || !right.isKnown()) {
+                return left == DecafType.ERROR || right == DecafType.ERROR ? DecafType.ERROR : DecafType.UNKNOWN;
+            }
+            // the operator rule (and_op, rel_op...) has a single token
+            ParseTree operatorNode = binary.getChild(1).getChild(0);
+            Operator operator = operatorNode instanceof TerminalNode
+                    ? Operator.binary(((TerminalNode) operatorNode).getSymbol().getType()) : null;
+            if (operator == null) {
+                return DecafType.UNKNOWN; // only on trees with syntax errors
+            }
+            DecafType type = operator.resultType(left, right);
+            if (type == DecafType.ERROR) {
+                semanticErrorsList.add("Illegal operation <i>" + ctx.getText() + "</i>, <strong>"
+                        + left + operator + right + "</strong>");
+            }
+            return type;
+        } else if (ctx instanceof decafParser.LocationExpressionContext) {
+            return typeOf(((decafParser.LocationExpressionContext) ctx).location(), context);
+        } else if (ctx instanceof decafParser.LiteralExpressionContext) {
+            decafParser.LiteralContext literal = ((decafParser.LiteralExpressionContext) ctx).literal();
+            if (literal.int_literal() != null) {
+                return DecafType.INT;
+            } else if (literal.char_literal() != null) {
+                return DecafType.CHAR;
+            }
+            return DecafType.BOOLEAN;
+        } else if (ctx instanceof decafParser.MethodCallExpressionContext) {
+            decafParser.MethodCallContext call = ((decafParser.MethodCallExpressionContext) ctx).methodCall();
+            return call.ID() == null ? DecafType.UNKNOWN : signatures.typeOf(call.ID().getText());
+        } else if (ctx instanceof decafParser.ParenthesizedExpressionContext) {
+            return typeOf(((decafParser.ParenthesizedExpressionContext) ctx).expression(), context);
+        } else if (ctx instanceof decafParser.MinusExpressionContext) {
+            return unaryType(ctx, Operator.NEG, ((decafParser.MinusExpressionContext) ctx).expression(), context);
+        } else if (ctx instanceof decafParser.NotExpressionContext) {
+            return unaryType(ctx, Operator.NOT, ((decafParser.NotExpressionContext) ctx).expression(), context);
+        }
+        return DecafType.UNKNOWN; // only on trees with syntax errors
+    }
+
+    private DecafType unaryType(decafParser.ExpressionContext ctx, Operator operator,
+                                decafParser.ExpressionContext operand, MethodElement context) {
+        DecafType operandType = typeOf(operand, context);
+        if (!operandType.isKnown()) {
+            return operandType;
+        }
+        DecafType type = operator.resultType(operandType);
+        if (type == DecafType.ERROR) {
+            semanticErrorsList.add("Illegal operation <i>" + ctx.getText() + "</i>, <strong>"
+                    + operator + operandType + "</strong>");
+        }
+        return type;
+    }
+
+    /**
+     * @param ctx
+     * @param context method the location is in
+     * @param struct struct whose field the location names, null for a variable of the method or a global
+     */
+    private DecafType locationType(decafParser.LocationContext ctx, MethodElement context, DecafType struct) {
+        if (ctx.ID() == null) {
+            return DecafType.UNKNOWN;
+        }
+        String ID = ctx.ID().getText();
+        DecafType type = DecafType.UNKNOWN;
+        VarElement var = struct != null ? symbolTable.getField(struct.getName(), ID) : symbolTable.resolve(ID, context);
+        if (var == null && struct == null) {
+            MethodElement signature = signatures.lookup(ID);
+            if (signature != null && signature.isStruct()) {
+                type = signature.getDecafType(); // the struct itself, as in s.field
+            } else {
+                List<VarElement> fields = symbolTable.getFieldsNamed(ID);
+                var = fields.isEmpty() ? null : fields.get(0);
+            }
+        }
+        if (var != null) {
+            type = var.getDecafType();
+            if (type.isArray() && ctx.expression() != null) {
+                type = type.getElementType();
+            }
+        }
+
+        if (ctx.location() != null) {
+            return type.isStruct() ? locationType(ctx.location(), context, type) : DecafType.UNKNOWN;
+        }
+        return type;
+    }
+}
@@ -10,6 +10,7 @@ public class VarElement {
     private int positionInStruct;
 
     private MethodElement context;
+    private DecafType type;
 
     public VarElement(String varType, String ID, MethodElement context) {
         this.context = context;
@@ -26,15 +27,27 @@ public class VarElement {
         this.value = value;
     }
 
-    public boolean equals(VarElement ve) {
-        if ((this.ID.equals(ve.ID)) && (this.context.equals(ve.context))) {
-            return true;
-        } else return false;
+    /**
+     * Two variables are the same if they have the same ID in the same context
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof VarElement)) {
+            return false;
+        }
+        VarElement ve = (VarElement) o;
+        return this.ID.equals(ve.ID) && this.context.getFirm().equals(ve.context.getFirm());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * ID.hashCode() + context.getFirm().hashCode();
     }
 
     public void setNUM(String num) {
         this.NUM = Integer.parseInt(num);
         isArray = true;
+        type = null;
     }
 
     public void setPositionInStruct(int positionInStruct) {
@@ -44,6 +57,12 @@ public class VarElement {
     public int getPositionInStruct() { return this.positionInStruct; }
     public String getID() { return ID; }
     public String getVarType() { return varType; }
+    public DecafType getDecafType() {
+        if (type == null) {
+            type = isArray ? DecafType.of(varType).arrayOf() : DecafType.of(varType);
+        }
+        return type;
+    }
     public int getNUM() { return NUM; }
     public MethodElement getContext() { return context; }
     public boolean isArray() { return isArray; }
@@ -0,0 +1,68 @@
+package com.brolius.tac;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A straight run of TAC instructions: only the first one is jumped to and only the last one jumps.
+ * Blocks are numbered in the order of their instructions in the function.
+ */
+public class BasicBlock {
+    private final int index;
+    private final List<Instruction> instructions = new ArrayList<>();
+    private final List<BasicBlock> predecessors = new ArrayList<>();
+    private final List<BasicBlock> successors = new ArrayList<>();
+
+    BasicBlock(int index) {
+        this.index = index;
+    }
+
+    void addSuccessor(BasicBlock successor) {
+        if (!successors.contains(successor)) {
+            successors.add(successor);
+            successor.predecessors.add(this);
+        }
+    }
+
+    void removeSuccessor(BasicBlock successor) {
+        if (successors.remove(successor)) {
+            successor.predecessors.remove(this);
+        }
+    }
+
+    public int getIndex() { return index; }
+
+    /**
+     * @return the instructions of the block, passes may change them
+     */
+    public List<Instruction> getInstructions() { return instructions; }
+
+    public List<BasicBlock> getPredecessors() { return Collections.unmodifiableList(predecessors); }
+
+    /**
+     * @return the blocks control goes to next: the one that follows, if control falls through, and
+     * then the one jumped to
+     */
+    public List<BasicBlock> getSuccessors() { return Collections.unmodifiableList(successors); }
+
+    /**
+     * @return the label that starts the block, null if it doesn't start with one
+     */
+    public String getLabel() {
+        return !instructions.isEmpty() && instructions.get(0).getOpcode() == Opcode.LABEL
+                ? instructions.get(0).getLabel() : null;
+    }
+
+    /**
+     * @return the last instruction, null if the block is empty
+     */
+    public Instruction getLast() {
+        return instructions.isEmpty() ? null : instructions.get(instructions.size() - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "B" + index;
+    }
+}
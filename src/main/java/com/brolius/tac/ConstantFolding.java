@@ -0,0 +1,135 @@
+package com.brolius.tac;
+
+import java.util.*;
+
+/**
+ * Folds the constants {@link ConstantPropagation} finds into the TAC of a function: an assignment of a
+ * known value becomes a copy of the int and operands with known values are read as ints. A branch on a
+ * known condition becomes a jump, or goes if it is never taken, and the code that can't run goes with it.
+ * Temporaries nothing reads anymore lose their assignments, and BeginFunc shrinks with them.
+ *
+ * The folding happens in SSA form, the result is the function out of it again, see {@link SsaForm}.
+ */
+public final class ConstantFolding {
+    private ConstantFolding() {
+    }
+
+    /**
+     * @param function a finished function, from BeginFunc to EndFunc
+     * @return the function with its constants folded, the same one if nothing could be
+     * @throws IllegalArgumentException if the function jumps to a label it doesn't have
+     * @throws IllegalStateException if the function can't go back out of SSA form
+     */
+    public static TacFunction fold(TacFunction function) {
+        ConstantPropagation constants = new ConstantPropagation(SsaForm.build(function)).solve();
+        ControlFlowGraph cfg = constants.getSsaForm().getGraph();
+        for (BasicBlock block : cfg.getBlocks()) {
+            if (constants.isExecutable(block)) {
+                List<Instruction> instructions = block.getInstructions();
+                for (int i = 0; i < instructions.size(); i++) {
+                    instructions.set(i, fold(instructions.get(i), constants));
+                }
+                foldBranch(cfg, block, constants);
+            }
+        }
+        for (BasicBlock block : cfg.getBlocks()) {
+            if (!constants.isExecutable(block) && block != cfg.getExit()) {
+                for (BasicBlock successor : new ArrayList<>(block.getSuccessors())) {
+                    cfg.removeEdge(block, successor);
+                }
+                block.getInstructions().clear();
+            }
+        }
+
+        List<Instruction> folded = new ArrayList<>(constants.getSsaForm().toFunction().getInstructions());
+        removeUnread(folded);
+        if (folded.equals(function.getInstructions())) {
+            return function;
+        }
+        folded.set(0, Instruction.beginFunc(TacFunction.frameSize(folded)));
+        return new TacFunction(function.getName(), folded);
+    }
+
+    /**
+     * @param instruction an instruction in SSA form
+     * @param constants
+     * @return the assignment of its value if it is known, else the instruction with the operands that are
+     * known as ints
+     */
+    private static Instruction fold(Instruction instruction, ConstantPropagation constants) {
+        Opcode opcode = instruction.getOpcode();
+        if (opcode == Opcode.PHI) {
+            return instruction;
+        }
+        Operand target = instruction.getTarget();
+        Integer value = target != null ? constants.getConstant(target) : null;
+        if (value != null && (opcode == Opcode.COPY || opcode == Opcode.BINARY || opcode == Opcode.UNARY)) {
+            Instruction copy = Instruction.copy(target, Operand.constant(value));
+            return copy.equals(instruction) ? instruction : copy;
+        }
+        List<Operand> uses = instruction.getUses();
+        List<Operand> folded = new ArrayList<>(uses.size());
+        for (Operand use : uses) {
+            Integer constant = use.isRenamable() ? constants.getConstant(use) : null;
+            folded.add(constant != null ? Operand.constant(constant) : use);
+        }
+        return folded.equals(uses) ? instruction : instruction.withUses(folded);
+    }
+
+    /**
+     * Turns the branch that ends a block, if its condition is known, into a jump if it is always taken
+     * or drops it if it never is, along with the edge that isn't taken
+     */
+    private static void foldBranch(ControlFlowGraph cfg, BasicBlock block, ConstantPropagation constants) {
+        Instruction ifz = block.getLast();
+        if (ifz == null || ifz.getOpcode() != Opcode.IFZ || constants.isTaken(ifz) == null) {
+            return;
+        }
+        boolean taken = constants.isTaken(ifz);
+        BasicBlock jumpedTo = cfg.getBlock(ifz.getLabel());
+        BasicBlock next = cfg.getBlocks().get(block.getIndex() + 1);
+        if (jumpedTo != next) {
+            cfg.removeEdge(block, taken ? next : jumpedTo);
+        }
+        List<Instruction> instructions = block.getInstructions();
+        if (taken) {
+            instructions.set(instructions.size() - 1, Instruction.jump(ifz.getLabel()));
+        } else {
+            instructions.remove(instructions.size() - 1);
+        }
+    }
+
+    /**
+     * Removes the assignments of temporaries nothing reads, until there are none left
+     */
+    private static void removeUnread(List<Instruction> instructions) {
+        boolean removed = true;
+        while (removed) {
+            Set<Operand> read = new HashSet<>();
+            for (Instruction instruction : instructions) {
+                for (Operand use : instruction.getUses()) {
+                    if (use.isTemporary()) {
+                        read.add(use);
+                    }
+                }
+            }
+            removed = instructions.removeIf(instruction -> isPure(instruction)
+                    && instruction.getTarget().isTemporary() && !read.contains(instruction.getTarget()));
+        }
+    }
+
+    /**
+     * @return true for the instructions that only write their target
+     */
+    private static boolean isPure(Instruction instruction) {
+        switch (instruction.getOpcode()) {
+            case COPY:
+            case BINARY:
+            case UNARY:
+            case ADDRESS:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.brolius.tac;
+
+import com.brolius.semanticControl.Operator;
+
+import java.util.*;
+
+/**
+ * Sparse conditional constant propagation (Wegman and Zadeck) over a function in SSA form. Each name is
+ * unknown until a definition that runs gives it a value, then a constant, then varying once two values
+ * reach it; only the edges that may be taken count, so a branch on a constant leaves the other arm, and
+ * what it defines, out.
+ *
+ * Every operation is evaluated with the result MIPS generation gives it: ints wrap, comparisons are 1 or
+ * 0, && and || are bitwise and ! flips the lowest bit; booleans are 1 for true and 0 for false. A
+ * division or remainder MIPS leaves undefined, by 0 or of the smallest int by -1, is varying, and so are
+ * loads, addresses, results of calls and the names a function starts with.
+ */
+public class ConstantPropagation {
+    private final SsaForm ssa;
+    private final ControlFlowGraph cfg;
+    private final Map<Operand, Integer> constants = new HashMap<>();
+    private final Set<Operand> varying = new HashSet<>();     // names in neither are unknown yet
+    private final Map<Operand, List<Instruction>> users = new HashMap<>();
+    private final Map<Instruction, BasicBlock> blockOf = new IdentityHashMap<>();
+    private final BitSet executable = new BitSet();
+    private final Set<List<BasicBlock>> executableEdges = new HashSet<>();
+    private final Deque<List<BasicBlock>> edgeWork = new ArrayDeque<>();
+    private final Deque<Operand> nameWork = new ArrayDeque<>();
+
+    public ConstantPropagation(SsaForm ssa) {
+        this.ssa = ssa;
+        this.cfg = ssa.getGraph();
+    }
+
+    /**
+     * Runs the propagation to its fixed point
+     * @return this analysis
+     */
+    public ConstantPropagation solve() {
+        Set<Operand> defined = new HashSet<>();
+        for (BasicBlock block : cfg.getBlocks()) {
+            for (Instruction instruction : block.getInstructions()) {
+                blockOf.put(instruction, block);
+                for (Operand use : instruction.getUses()) {
+                    if (use.isRenamable()) {
+                        users.computeIfAbsent(use, name -> new ArrayList<>()).add(instruction);
+                    }
+                }
+                if (instruction.getDefinition() != null) {
+                    defined.add(instruction.getDefinition());
+                }
+            }
+        }
+        // names without a definition here: the values the function starts with and the ones calls write
+        for (Operand use : users.keySet()) {
+            if (!defined.contains(use)) {
+                varying.add(use);
+            }
+        }
+
+        executable.set(cfg.getEntry().getIndex());
+        visit(cfg.getEntry());
+        while (!edgeWork.isEmpty() || !nameWork.isEmpty()) {
+            while (!edgeWork.isEmpty()) {
+                List<BasicBlock> edge = edgeWork.poll();
+                if (!executableEdges.add(edge)) {
+                    continue;
+                }
+                BasicBlock block = edge.get(1);
+                if (!executable.get(block.getIndex())) {
+                    executable.set(block.getIndex());
+                    visit(block);
+                } else {
+                    for (Instruction instruction : block.getInstructions()) {
+                        if (instruction.getOpcode() == Opcode.PHI) {
+                            evaluate(instruction, block);
+                        }
+                    }
+                }
+            }
+            while (!nameWork.isEmpty() && edgeWork.isEmpty()) {
+                for (Instruction user : users.getOrDefault(nameWork.poll(), Collections.emptyList())) {
+                    BasicBlock block = blockOf.get(user);
+                    if (executable.get(block.getIndex())) {
+                        evaluate(user, block);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    private void visit(BasicBlock block) {
+        for (Instruction instruction : block.getInstructions()) {
+            evaluate(instruction, block);
+        }
+        Instruction last = block.getLast();
+        if (last == null || last.getOpcode() != Opcode.IFZ) {
+            for (BasicBlock successor : block.getSuccessors()) {
+                edgeWork.add(Arrays.asList(block, successor));
+            }
+        }
+    }
+
+    private void evaluate(Instruction instruction, BasicBlock block) {
+        switch (instruction.getOpcode()) {
+            case IFZ:
+                if (isUnknown(instruction.getA())) {
+                    return;
+                }
+                Boolean taken = isTaken(instruction);
+                if (taken == null || taken) {
+                    edgeWork.add(Arrays.asList(block, cfg.getBlock(instruction.getLabel())));
+                }
+                if (taken == null || !taken) {
+                    edgeWork.add(Arrays.asList(block, cfg.getBlocks().get(block.getIndex() + 1)));
+                }
+                break;
+            case PHI:
+                Integer value = null;
+                List<BasicBlock> predecessors = block.getPredecessors();
+                for (int i = 0; i < predecessors.size(); i++) {
+                    Operand argument = instruction.getArguments().get(i);
+                    if (!executableEdges.contains(Arrays.asList(predecessors.get(i), block))
+                            || isUnknown(argument)) {
+                        continue;
+                    }
+                    Integer constant = getConstant(argument);
+                    if (constant == null || (value != null && !value.equals(constant))) {
+                        lower(instruction.getTarget(), null);
+                        return;
+                    }
+                    value = constant;
+                }
+                if (value != null) {
+                    lower(instruction.getTarget(), value);
+                }
+                break;
+            case COPY:
+                if (!isUnknown(instruction.getA())) {
+                    lower(instruction.getTarget(), getConstant(instruction.getA()));
+                }
+                break;
+            case BINARY:
+                Operand a = instruction.getA();
+                Operand b = instruction.getB();
+                if ((!isUnknown(a) && getConstant(a) == null) || (!isUnknown(b) && getConstant(b) == null)) {
+                    lower(instruction.getTarget(), null);
+                } else if (!isUnknown(a) && !isUnknown(b)) {
+                    lower(instruction.getTarget(), fold(instruction.getOperator(), getConstant(a), getConstant(b)));
+                }
+                break;
+            case UNARY:
+                if (!isUnknown(instruction.getA())) {
+                    Integer operand = getConstant(instruction.getA());
+                    lower(instruction.getTarget(), operand == null ? null : fold(instruction.getOperator(), operand));
+                }
+                break;
+            default:
+                Operand definition = instruction.getDefinition();
+                if (definition != null && definition.isRenamable()) {
+                    lower(definition, null);            // loads and calls
+                }
+        }
+    }
+
+    /**
+     * Moves a name down the lattice: from unknown to a constant, from a constant to varying
+     * @param name
+     * @param constant the value now reaching it, null if it varies
+     */
+    private void lower(Operand name, Integer constant) {
+        if (varying.contains(name)) {
+            return;
+        }
+        Integer previous = constants.get(name);
+        if (constant != null && (previous == null || previous.equals(constant))) {
+            if (previous == null) {
+                constants.put(name, constant);
+                nameWork.add(name);
+            }
+        } else {
+            constants.remove(name);
+            varying.add(name);
+            nameWork.add(name);
+        }
+    }
+
+    /**
+     * @param operator
+     * @param a
+     * @param b
+     * @return the result MIPS gives, null if MIPS leaves it undefined
+     */
+    static Integer fold(Operator operator, int a, int b) {
+        switch (operator) {
+            case ADD:
+                return a + b;               // addu, which wraps
+            case SUB:
+                return a - b;               // subu
+            case MUL:
+                return a * b;               // mul, the low word
+            case DIV:
+                return divides(a, b) ? a / b : null;
+            case MOD:
+                return divides(a, b) ? a % b : null;
+            case LT:
+                return a < b ? 1 : 0;
+            case GT:
+                return a > b ? 1 : 0;
+            case LE:
+                return a <= b ? 1 : 0;
+            case GE:
+                return a >= b ? 1 : 0;
+            case EQ:
+                return a == b ? 1 : 0;
+            case NE:
+                return a != b ? 1 : 0;
+            case AND:
+                return a & b;
+            case OR:
+                return a | b;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean divides(int a, int b) {
+        return b != 0 && !(a == Integer.MIN_VALUE && b == -1);
+    }
+
+    /**
+     * @param operator - or !
+     * @param a
+     * @return the result MIPS gives
+     */
+    static Integer fold(Operator operator, int a) {
+        switch (operator) {
+            case NEG:
+                return -a;                  // subu from $zero
+            case NOT:
+                return a ^ 1;               // xori 1
+            default:
+                return null;
+        }
+    }
+
+    private boolean isUnknown(Operand operand) {
+        return operand.isRenamable() && !constants.containsKey(operand) && !varying.contains(operand);
+    }
+
+    public SsaForm getSsaForm() { return ssa; }
+
+    /**
+     * @param operand a name of the SSA form or a constant
+     * @return the int the operand always holds, null if it may hold others or its code never runs
+     */
+    public Integer getConstant(Operand operand) {
+        if (operand.isRenamable()) {
+            return constants.get(operand);
+        }
+        return operand.isConstant() ? operand.intValue() : null;
+    }
+
+    /**
+     * @param block
+     * @return true if the block may run
+     */
+    public boolean isExecutable(BasicBlock block) {
+        return executable.get(block.getIndex());
+    }
+
+    /**
+     * @param ifz a branch of the function
+     * @return true if the branch is always taken, its condition always 0, false if never, null if that
+     * depends on the run
+     */
+    public Boolean isTaken(Instruction ifz) {
+        Integer condition = getConstant(ifz.getA());
+        return condition == null ? null : condition == 0;
+    }
+}
@@ -0,0 +1,169 @@
+package com.brolius.tac;
+
+import java.util.*;
+
+/**
+ * The basic blocks of a TAC function and the edges between them.
+ *
+ * A block starts at a label, at EndFunc and after a jump or a return. Its successors are the next block,
+ * unless it ends with a Goto or a Return, and the block of the label it jumps to; a Return goes to the
+ * exit block, which has only EndFunc. The blocks keep the order of the function, so {@link #toFunction()} gives back
+ * the TAC in the shape the MIPS backend reads.
+ */
+public class ControlFlowGraph {
+    private final TacFunction function;
+    private final List<BasicBlock> blocks = new ArrayList<>();
+    private final Map<String, BasicBlock> labels = new HashMap<>();
+    private List<BasicBlock> reversePostorder;
+
+    private ControlFlowGraph(TacFunction function) {
+        this.function = function;
+    }
+
+    /**
+     * @param function
+     * @return the graph of the function
+     * @throws IllegalArgumentException if the function jumps to a label it doesn't have
+     */
+    public static ControlFlowGraph build(TacFunction function) {
+        ControlFlowGraph cfg = new ControlFlowGraph(function);
+        BasicBlock current = cfg.newBlock();
+        for (Instruction instruction : function.getInstructions()) {
+            boolean leader = instruction.getOpcode() == Opcode.LABEL
+                    || instruction.getOpcode() == Opcode.END_FUNC
+                    || (current.getLast() != null && current.getLast().isTerminator());
+            if (leader && !current.getInstructions().isEmpty()) {
+                current = cfg.newBlock();
+            }
+            current.getInstructions().add(instruction);
+            if (instruction.getOpcode() == Opcode.LABEL) {
+                cfg.labels.put(instruction.getLabel(), current);
+            }
+        }
+
+        for (BasicBlock block : cfg.blocks) {
+            Instruction last = block.getLast();
+            boolean fallsThrough = last == null
+                    || (last.getOpcode() != Opcode.GOTO && last.getOpcode() != Opcode.RETURN);
+            if (fallsThrough && block.getIndex() + 1 < cfg.blocks.size()) {
+                block.addSuccessor(cfg.blocks.get(block.getIndex() + 1));
+            }
+            if (last != null && (last.getOpcode() == Opcode.GOTO || last.getOpcode() == Opcode.IFZ)) {
+                block.addSuccessor(cfg.getBlock(last.getLabel()));
+            } else if (last != null && last.getOpcode() == Opcode.RETURN) {
+                block.addSuccessor(cfg.getExit());
+            }
+        }
+        return cfg;
+    }
+
+    private BasicBlock newBlock() {
+        BasicBlock block = new BasicBlock(blocks.size());
+        blocks.add(block);
+        return block;
+    }
+
+    public TacFunction getFunction() { return function; }
+
+    /** @return the blocks in the order of the function */
+    public List<BasicBlock> getBlocks() { return Collections.unmodifiableList(blocks); }
+
+    /** @return the block with BeginFunc */
+    public BasicBlock getEntry() { return blocks.get(0); }
+
+    /** @return the block with only EndFunc */
+    public BasicBlock getExit() { return blocks.get(blocks.size() - 1); }
+
+    /**
+     * @param label
+     * @return the block that starts with the label
+     * @throws IllegalArgumentException if there is none
+     */
+    public BasicBlock getBlock(String label) {
+        BasicBlock block = labels.get(label);
+        if (block == null) {
+            throw new IllegalArgumentException("no label " + label + " in " + function.getName());
+        }
+        return block;
+    }
+
+    /**
+     * Removes an edge, e.g. of a branch that is never taken, and in SSA form the phi arguments of it
+     * @param from
+     * @param to
+     */
+    public void removeEdge(BasicBlock from, BasicBlock to) {
+        int predecessor = to.getPredecessors().indexOf(from);
+        if (predecessor < 0) {
+            return;
+        }
+        List<Instruction> instructions = to.getInstructions();
+        for (int i = 0; i < instructions.size(); i++) {
+            Instruction instruction = instructions.get(i);
+            if (instruction.getOpcode() == Opcode.PHI) {
+                List<Operand> arguments = new ArrayList<>(instruction.getArguments());
+                arguments.remove(predecessor);
+                instructions.set(i, instruction.withUses(arguments));
+            }
+        }
+        from.removeSuccessor(to);
+        reversePostorder = null;
+    }
+
+    /**
+     * @return the blocks reachable from the entry, each one before its successors except along back edges
+     */
+    public List<BasicBlock> getReversePostorder() {
+        if (reversePostorder == null) {
+            List<BasicBlock> postorder = new ArrayList<>();
+            BitSet visited = new BitSet(blocks.size());
+            Deque<BasicBlock> stack = new ArrayDeque<>();
+            Deque<Integer> next = new ArrayDeque<>();   // successor of the block on the stack to visit next
+            stack.push(getEntry());
+            next.push(0);
+            visited.set(getEntry().getIndex());
+            while (!stack.isEmpty()) {
+                BasicBlock block = stack.peek();
+                int i = next.pop();
+                if (i < block.getSuccessors().size()) {
+                    next.push(i + 1);
+                    BasicBlock successor = block.getSuccessors().get(i);
+                    if (!visited.get(successor.getIndex())) {
+                        visited.set(successor.getIndex());
+                        stack.push(successor);
+                        next.push(0);
+                    }
+                } else {
+                    postorder.add(stack.pop());
+                }
+            }
+            Collections.reverse(postorder);
+            reversePostorder = Collections.unmodifiableList(postorder);
+        }
+        return reversePostorder;
+    }
+
+    /**
+     * @return the instructions of the blocks one after the other, as a function
+     */
+    public TacFunction toFunction() {
+        List<Instruction> instructions = new ArrayList<>();
+        for (BasicBlock block : blocks) {
+            instructions.addAll(block.getInstructions());
+        }
+        return new TacFunction(function.getName(), instructions);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(function.getName()).append(":\n");
+        for (BasicBlock block : blocks) {
+            text.append(block).append(" <- ").append(block.getPredecessors())
+                    .append(" -> ").append(block.getSuccessors()).append('\n');
+            for (Instruction instruction : block.getInstructions()) {
+                text.append('\t').append(instruction).append('\n');
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,151 @@
+package com.brolius.tac;
+
+import java.util.*;
+
+/**
+ * A dataflow analysis over the blocks of a control flow graph, with facts kept as bit sets, solved with a
+ * worklist. Subclasses give the direction, the value at the boundary and where blocks start, the meet of
+ * the values of neighbor blocks (union for may analyses, intersection for must analyses) and the transfer
+ * function of a block.
+ *
+ * The worklist starts with every block in reverse postorder, backwards for backward analyses, so acyclic
+ * code is solved in one pass; a block goes back in the list only when the value flowing into it changes.
+ */
+public abstract class DataflowAnalysis {
+    public enum Direction { FORWARD, BACKWARD }
+
+    protected final ControlFlowGraph cfg;
+    private final Direction direction;
+    private final BitSet[] in;
+    private final BitSet[] out;
+
+    protected DataflowAnalysis(ControlFlowGraph cfg, Direction direction) {
+        this.cfg = cfg;
+        this.direction = direction;
+        int n = cfg.getBlocks().size();
+        this.in = new BitSet[n];
+        this.out = new BitSet[n];
+    }
+
+    /**
+     * @return the value entering the entry block, for forward analyses, or leaving the exit block, for
+     * backward ones
+     */
+    protected abstract BitSet boundary();
+
+    /**
+     * @return the value every other block starts with: empty for union, everything for intersection
+     */
+    protected abstract BitSet initial();
+
+    /**
+     * Combines the value of a neighbor block into the one being built
+     * @param into
+     * @param value
+     */
+    protected abstract void meet(BitSet into, BitSet value);
+
+    /**
+     * @param block
+     * @param value the value at the start of the block in the direction of the analysis
+     * @return the value at the other end; value must not be changed
+     */
+    protected abstract BitSet transfer(BasicBlock block, BitSet value);
+
+    /**
+     * The value of a neighbor block as it reaches a block, e.g. with the arguments of the phis of a
+     * successor that come from this block; the value itself by default
+     * @param neighbor predecessor of the block in forward analyses, successor in backward ones
+     * @param block
+     * @param value the value of the neighbor, must not be changed
+     */
+    protected BitSet edge(BasicBlock neighbor, BasicBlock block, BitSet value) {
+        return value;
+    }
+
+    /**
+     * Runs the analysis to its fixed point
+     * @return this analysis
+     */
+    public DataflowAnalysis solve() {
+        boolean forward = direction == Direction.FORWARD;
+        List<BasicBlock> order = new ArrayList<>(cfg.getReversePostorder());
+        BitSet reached = new BitSet();
+        for (BasicBlock block : order) {
+            reached.set(block.getIndex());
+        }
+        for (BasicBlock block : cfg.getBlocks()) {
+            if (!reached.get(block.getIndex())) {
+                order.add(block);
+            }
+        }
+        if (!forward) {
+            Collections.reverse(order);
+        }
+
+        for (BasicBlock block : cfg.getBlocks()) {
+            in[block.getIndex()] = initial();
+            out[block.getIndex()] = initial();
+        }
+        Deque<BasicBlock> worklist = new ArrayDeque<>(order);
+        BitSet listed = new BitSet();
+        for (BasicBlock block : order) {
+            listed.set(block.getIndex());
+        }
+        BasicBlock boundaryBlock = forward ? cfg.getEntry() : cfg.getExit();
+        while (!worklist.isEmpty()) {
+            BasicBlock block = worklist.poll();
+            listed.clear(block.getIndex());
+
+            BitSet value = null;
+            if (block == boundaryBlock) {
+                value = boundary();
+            }
+            for (BasicBlock neighbor : forward ? block.getPredecessors() : block.getSuccessors()) {
+                BitSet neighborValue = edge(neighbor, block,
+                        forward ? out[neighbor.getIndex()] : in[neighbor.getIndex()]);
+                if (value == null) {
+                    value = (BitSet) neighborValue.clone();
+                } else {
+                    meet(value, neighborValue);
+                }
+            }
+            if (value == null) {
+                value = initial();
+            }
+
+            BitSet result = transfer(block, value);
+            BitSet[] start = forward ? in : out;
+            BitSet[] end = forward ? out : in;
+            start[block.getIndex()] = value;
+            if (!result.equals(end[block.getIndex()])) {
+                end[block.getIndex()] = result;
+                for (BasicBlock next : forward ? block.getSuccessors() : block.getPredecessors()) {
+                    if (!listed.get(next.getIndex())) {
+                        listed.set(next.getIndex());
+                        worklist.add(next);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    public Direction getDirection() { return direction; }
+
+    /**
+     * @param block
+     * @return the value at the start of the block, in the order of its instructions
+     */
+    public BitSet getIn(BasicBlock block) {
+        return (BitSet) in[block.getIndex()].clone();
+    }
+
+    /**
+     * @param block
+     * @return the value at the end of the block, in the order of its instructions
+     */
+    public BitSet getOut(BasicBlock block) {
+        return (BitSet) out[block.getIndex()].clone();
+    }
+}
@@ -0,0 +1,42 @@
+package com.brolius.tac;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The variables the TAC of a program refers to by name: the parameters and locals of each function, the
+ * global variables, and the structs used as their own instance. The MIPS of a function keeps its parameters
+ * and locals in its frame and the rest in the data section, so it can't be generated without them.
+ * {@link TacPrinter} writes them into the decaf.tac text, for the TAC parser to read back.
+ */
+public interface Declarations {
+    /**
+     * @param function label of the function
+     * @return names of its parameters in order, empty for a function without any
+     */
+    List<String> getParameters(String function);
+
+    /**
+     * @param function label of the function
+     * @param variable
+     * @return bytes of the local variable of the function, null if the function has none with that name
+     */
+    Integer getLocalSize(String function, String variable);
+
+    /**
+     * @param variable
+     * @return bytes of the global variable, null if there is none
+     */
+    Integer getGlobalSize(String variable);
+
+    /**
+     * @param struct
+     * @return bytes of the struct as its own instance, null if there is no such struct
+     */
+    Integer getStructSize(String struct);
+
+    /**
+     * @return the global variables with their bytes, in declaration order
+     */
+    Map<String, Integer> getGlobals();
+}
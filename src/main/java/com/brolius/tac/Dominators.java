@@ -0,0 +1,165 @@
+package com.brolius.tac;
+
+import java.util.*;
+
+/**
+ * Dominator tree of a control flow graph: a block dominates another if every path from the entry to the
+ * other goes through it. Built with the iterative algorithm of Cooper, Harvey and Kennedy over the reverse
+ * postorder; blocks the entry can't reach have no dominators.
+ *
+ * The dominance frontier of a block is where its dominance stops: the blocks it doesn't strictly dominate
+ * with a predecessor it dominates. That is where definitions in the block meet others, and SSA form
+ * places phis.
+ */
+public class Dominators {
+    private final ControlFlowGraph cfg;
+    private final BasicBlock[] idom;
+    private final List<List<BasicBlock>> children;
+    private final int[] preorder;       // numbering of the dominator tree, for constant time dominance
+    private final int[] lastDescendant;
+    private List<Set<BasicBlock>> frontiers;
+
+    public Dominators(ControlFlowGraph cfg) {
+        this.cfg = cfg;
+        int n = cfg.getBlocks().size();
+        this.idom = new BasicBlock[n];
+        this.children = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            children.add(new ArrayList<>());
+        }
+        this.preorder = new int[n];
+        this.lastDescendant = new int[n];
+        Arrays.fill(preorder, -1);
+
+        List<BasicBlock> rpo = cfg.getReversePostorder();
+        int[] order = new int[n];
+        for (int i = 0; i < rpo.size(); i++) {
+            order[rpo.get(i).getIndex()] = i;
+        }
+        BasicBlock entry = cfg.getEntry();
+        idom[entry.getIndex()] = entry;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (BasicBlock block : rpo) {
+                if (block == entry) {
+                    continue;
+                }
+                BasicBlock newIdom = null;
+                for (BasicBlock predecessor : block.getPredecessors()) {
+                    if (idom[predecessor.getIndex()] != null) {
+                        newIdom = newIdom == null ? predecessor : intersect(predecessor, newIdom, order);
+                    }
+                }
+                if (idom[block.getIndex()] != newIdom) {
+                    idom[block.getIndex()] = newIdom;
+                    changed = true;
+                }
+            }
+        }
+
+        for (BasicBlock block : rpo) {
+            if (block != entry) {
+                children.get(idom[block.getIndex()].getIndex()).add(block);
+            }
+        }
+        number(entry);
+    }
+
+    private BasicBlock intersect(BasicBlock a, BasicBlock b, int[] order) {
+        while (a != b) {
+            while (order[a.getIndex()] > order[b.getIndex()]) {
+                a = idom[a.getIndex()];
+            }
+            while (order[b.getIndex()] > order[a.getIndex()]) {
+                b = idom[b.getIndex()];
+            }
+        }
+        return a;
+    }
+
+    private void number(BasicBlock root) {
+        int counter = 0;
+        Deque<BasicBlock> stack = new ArrayDeque<>();
+        Deque<Integer> next = new ArrayDeque<>();
+        stack.push(root);
+        next.push(0);
+        preorder[root.getIndex()] = counter++;
+        while (!stack.isEmpty()) {
+            BasicBlock block = stack.peek();
+            int i = next.pop();
+            List<BasicBlock> blockChildren = children.get(block.getIndex());
+            if (i < blockChildren.size()) {
+                next.push(i + 1);
+                BasicBlock child = blockChildren.get(i);
+                preorder[child.getIndex()] = counter++;
+                stack.push(child);
+                next.push(0);
+            } else {
+                lastDescendant[block.getIndex()] = counter - 1;
+                stack.pop();
+            }
+        }
+    }
+
+    public ControlFlowGraph getGraph() { return cfg; }
+
+    /**
+     * @param block
+     * @return the closest block that dominates it, null for the entry and for unreachable blocks
+     */
+    public BasicBlock getImmediateDominator(BasicBlock block) {
+        BasicBlock dominator = idom[block.getIndex()];
+        return dominator == block ? null : dominator;
+    }
+
+    /**
+     * @param block
+     * @return the blocks it immediately dominates, its children in the dominator tree
+     */
+    public List<BasicBlock> getChildren(BasicBlock block) {
+        return Collections.unmodifiableList(children.get(block.getIndex()));
+    }
+
+    /**
+     * @param a
+     * @param b
+     * @return true if a dominates b; every reachable block dominates itself
+     */
+    public boolean dominates(BasicBlock a, BasicBlock b) {
+        int pa = preorder[a.getIndex()];
+        int pb = preorder[b.getIndex()];
+        return pa >= 0 && pb >= 0 && pa <= pb && pb <= lastDescendant[a.getIndex()];
+    }
+
+    public boolean isReachable(BasicBlock block) {
+        return preorder[block.getIndex()] >= 0;
+    }
+
+    /**
+     * @param block
+     * @return the dominance frontier of the block, in the order of the function
+     */
+    public Set<BasicBlock> getFrontier(BasicBlock block) {
+        if (frontiers == null) {
+            frontiers = new ArrayList<>(idom.length);
+            for (int i = 0; i < idom.length; i++) {
+                frontiers.add(new TreeSet<>(Comparator.comparingInt(BasicBlock::getIndex)));
+            }
+            // a join is in the frontier of each block from its predecessors up to, not with, its idom
+            for (BasicBlock join : cfg.getBlocks()) {
+                if (join.getPredecessors().size() < 2 || !isReachable(join)) {
+                    continue;
+                }
+                for (BasicBlock predecessor : join.getPredecessors()) {
+                    BasicBlock runner = predecessor;
+                    while (isReachable(runner) && runner != idom[join.getIndex()]) {
+                        frontiers.get(runner.getIndex()).add(join);
+                        runner = idom[runner.getIndex()];
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableSet(frontiers.get(block.getIndex()));
+    }
+}
@@ -0,0 +1,302 @@
+package com.brolius.tac;
+
+import com.brolius.semanticControl.Operator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A TAC instruction. Instructions are immutable, passes that change one make a new one.
+ * Which fields an instruction has depends on its {@link Opcode}: the target of assignments and calls,
+ * the operands a and b, the operator of a binary or unary operation, the label of jumps and labels (also
+ * the function of a call and the variable of an address) and the number of BeginFunc and PopParams.
+ * A phi, only in SSA form, has a target and an argument for each predecessor of its block.
+ * Instructions are equal when all of their fields are.
+ */
+public final class Instruction {
+    private final Opcode opcode;
+    private final Operand target;
+    private final Operator operator;
+    private final Operand a;
+    private final Operand b;
+    private final String label;
+    private final int number;
+    private final List<Operand> arguments;      // of a phi
+
+    private Instruction(Opcode opcode, Operand target, Operator operator, Operand a, Operand b, String label,
+                        int number) {
+        this(opcode, target, operator, a, b, label, number, null);
+    }
+
+    private Instruction(Opcode opcode, Operand target, Operator operator, Operand a, Operand b, String label,
+                        int number, List<Operand> arguments) {
+        this.opcode = opcode;
+        this.target = target;
+        this.operator = operator;
+        this.a = a;
+        this.b = b;
+        this.label = label;
+        this.number = number;
+        this.arguments = arguments;
+    }
+
+    public static Instruction beginFunc(int frameSize) {
+        return new Instruction(Opcode.BEGIN_FUNC, null, null, null, null, null, frameSize);
+    }
+
+    public static Instruction endFunc() {
+        return new Instruction(Opcode.END_FUNC, null, null, null, null, null, 0);
+    }
+
+    public static Instruction copy(Operand target, Operand value) {
+        return new Instruction(Opcode.COPY, target, null, value, null, null, 0);
+    }
+
+    public static Instruction binary(Operand target, Operator operator, Operand left, Operand right) {
+        return new Instruction(Opcode.BINARY, target, operator, left, right, null, 0);
+    }
+
+    /**
+     * @param target
+     * @param operator - or !
+     * @param operand
+     */
+    public static Instruction unary(Operand target, Operator operator, Operand operand) {
+        return new Instruction(Opcode.UNARY, target, operator, operand, null, null, 0);
+    }
+
+    /**
+     * @param target
+     * @param variable identifier of an array or struct variable, or of a struct used as its own instance
+     * @return target = &amp;variable
+     */
+    public static Instruction address(Operand target, String variable) {
+        return new Instruction(Opcode.ADDRESS, target, null, null, null, variable, 0);
+    }
+
+    /**
+     * @param target
+     * @param address
+     * @return target = *(address)
+     */
+    public static Instruction load(Operand target, Operand address) {
+        return new Instruction(Opcode.LOAD, target, null, address, null, null, 0);
+    }
+
+    /**
+     * @param address
+     * @param value
+     * @return *(address) = value
+     */
+    public static Instruction store(Operand address, Operand value) {
+        return new Instruction(Opcode.STORE, null, null, address, value, null, 0);
+    }
+
+    /**
+     * @param target receives the returned value, null to drop it
+     * @param function label of the function, or a builtin like print
+     */
+    public static Instruction call(Operand target, String function) {
+        return new Instruction(Opcode.CALL, target, null, null, null, function, 0);
+    }
+
+    public static Instruction pushParam(Operand value) {
+        return new Instruction(Opcode.PUSH_PARAM, null, null, value, null, null, 0);
+    }
+
+    public static Instruction popParams(int bytes) {
+        return new Instruction(Opcode.POP_PARAMS, null, null, null, null, null, bytes);
+    }
+
+    public static Instruction ifz(Operand condition, String label) {
+        return new Instruction(Opcode.IFZ, null, null, condition, null, label, 0);
+    }
+
+    public static Instruction jump(String label) {
+        return new Instruction(Opcode.GOTO, null, null, null, null, label, 0);
+    }
+
+    /**
+     * @param label the start of the loop
+     * @return the jump back to the start that closes a while, written with a colon
+     */
+    public static Instruction loopJump(String label) {
+        return new Instruction(Opcode.GOTO, null, null, null, null, label, 1);
+    }
+
+    public static Instruction label(String label) {
+        return new Instruction(Opcode.LABEL, null, null, null, null, label, 0);
+    }
+
+    public static Instruction startWhile() {
+        return new Instruction(Opcode.START_WHILE, null, null, null, null, null, 0);
+    }
+
+    /**
+     * @param value the returned value, null for a method without one
+     */
+    public static Instruction ret(Operand value) {
+        return new Instruction(Opcode.RETURN, null, null, value, null, null, 0);
+    }
+
+    /**
+     * @param target
+     * @param arguments the value from each predecessor of the block, in the order of its predecessors
+     */
+    public static Instruction phi(Operand target, List<Operand> arguments) {
+        return new Instruction(Opcode.PHI, target, null, null, null, null, 0,
+                Collections.unmodifiableList(new ArrayList<>(arguments)));
+    }
+
+    public Opcode getOpcode() { return opcode; }
+    public Operand getTarget() { return target; }
+    public Operator getOperator() { return operator; }
+    public Operand getA() { return a; }
+    public Operand getB() { return b; }
+    public String getLabel() { return label; }
+    /** @return frame size of BeginFunc, bytes of PopParams */
+    public int getNumber() { return number; }
+    /** @return the arguments of a phi, null for other instructions */
+    public List<Operand> getArguments() { return arguments; }
+    /** @return true for the jump back that closes a while */
+    public boolean isLoopJump() { return opcode == Opcode.GOTO && number == 1; }
+
+    /**
+     * @return the operand written by the instruction, null if it writes none
+     */
+    public Operand getDefinition() {
+        switch (opcode) {
+            case COPY:
+            case BINARY:
+            case UNARY:
+            case ADDRESS:
+            case LOAD:
+            case CALL:
+            case PHI:
+                return target;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param target
+     * @return the same instruction writing another operand
+     */
+    public Instruction withDefinition(Operand target) {
+        return new Instruction(opcode, target, operator, a, b, label, number, arguments);
+    }
+
+    /**
+     * @param uses operands in place of the ones in {@link #getUses()}, in the same order
+     * @return the same instruction reading other operands
+     */
+    public Instruction withUses(List<Operand> uses) {
+        if (arguments != null) {
+            return phi(target, uses);
+        }
+        Operand newA = uses.size() > 0 ? uses.get(0) : null;
+        Operand newB = uses.size() > 1 ? uses.get(1) : null;
+        return new Instruction(opcode, target, operator, newA, newB, label, number, null);
+    }
+
+    /**
+     * @return the operands read by the instruction, in order
+     */
+    public List<Operand> getUses() {
+        if (arguments != null) {
+            return arguments;
+        } else if (a == null) {
+            return Collections.emptyList();
+        }
+        List<Operand> uses = new ArrayList<>(2);
+        uses.add(a);
+        if (b != null) {
+            uses.add(b);
+        }
+        return uses;
+    }
+
+    /**
+     * @return true for a call to a method, which may write any global variable or struct; builtins
+     * like print, the labels without the leading underscore of methods, write none
+     */
+    public boolean writesVariables() {
+        return opcode == Opcode.CALL && (label.startsWith("_") || label.equals("main"));
+    }
+
+    /**
+     * @return true for the instructions that end a basic block: jumps and returns
+     */
+    public boolean isTerminator() {
+        return opcode == Opcode.GOTO || opcode == Opcode.IFZ || opcode == Opcode.RETURN;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Instruction)) {
+            return false;
+        }
+        Instruction instruction = (Instruction) o;
+        return opcode == instruction.opcode && number == instruction.number && operator == instruction.operator
+                && Objects.equals(target, instruction.target) && Objects.equals(a, instruction.a)
+                && Objects.equals(b, instruction.b) && Objects.equals(label, instruction.label)
+                && Objects.equals(arguments, instruction.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(opcode, target, operator, a, b, label, number, arguments);
+    }
+
+    /**
+     * @return the instruction in decaf.tac syntax, without indentation
+     */
+    @Override
+    public String toString() {
+        switch (opcode) {
+            case BEGIN_FUNC:
+                return "BeginFunc " + number + ";";
+            case END_FUNC:
+                return "EndFunc;";
+            case COPY:
+                return target + " = " + a + ";";
+            case BINARY:
+                return target + " = " + a + operator.getSymbol() + b + ";";
+            case UNARY:
+                return target + " = " + operator.getSymbol() + a + ";";
+            case ADDRESS:
+                return target + " = &" + label + ";";
+            case LOAD:
+                return target + " = *(" + a + ");";
+            case STORE:
+                return "*(" + a + ") = " + b + ";";
+            case CALL:
+                return (target != null ? target + " = " : "") + "LCall " + label + ";";
+            case PUSH_PARAM:
+                return "PushParam " + a + ";";
+            case POP_PARAMS:
+                return "PopParams " + number + ";";
+            case IFZ:
+                return "Ifz " + a + " Goto " + label + ";";
+            case GOTO:
+                return "Goto " + label + (isLoopJump() ? ":" : ";");
+            case LABEL:
+                return label + ":";
+            case START_WHILE:
+                return "StartWhile:";
+            case RETURN:
+                return a != null ? "Return " + a + ";" : "Return;";
+            case PHI:
+                StringBuilder phi = new StringBuilder().append(target).append(" = phi(");
+                for (int i = 0; i < arguments.size(); i++) {
+                    phi.append(i > 0 ? ", " : "").append(arguments.get(i));
+                }
+                return phi.append(");").toString();
+            default:
+                throw new IllegalStateException(opcode.name());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.brolius.tac;
+
+import java.util.*;
+
+/**
+ * Live variables: an operand is live at a point if the function may read it later before writing it.
+ * Temporaries and variables are tracked; constants and passed through text aren't. Variables are only
+ * followed inside the function, a call that reads a global doesn't make it live.
+ *
+ * In SSA form the phis of a block define their targets where the block starts, and each argument is
+ * read at the end of its predecessor, so it is live out of that predecessor only. A call to a method
+ * defines a new version of every variable, so the versions of variables from before it end there.
+ */
+public class Liveness extends DataflowAnalysis {
+    private final List<Operand> operands = new ArrayList<>();
+    private final Map<Operand, Integer> indexes = new HashMap<>();
+    private final BitSet[] uses;        // read in the block before being written
+    private final BitSet[] defs;        // written in the block
+
+    public Liveness(ControlFlowGraph cfg) {
+        super(cfg, Direction.BACKWARD);
+        int n = cfg.getBlocks().size();
+        uses = new BitSet[n];
+        defs = new BitSet[n];
+        BitSet versionedVariables = new BitSet();
+        for (BasicBlock block : cfg.getBlocks()) {
+            for (Instruction instruction : block.getInstructions()) {
+                for (Operand operand : instruction.getUses()) {
+                    indexOf(operand, true);
+                }
+                indexOf(instruction.getDefinition(), true);
+            }
+        }
+        for (int i = 0; i < operands.size(); i++) {
+            Operand operand = operands.get(i);
+            if (operand.getKind() == Operand.Kind.VARIABLE && operand.getVersion() != Operand.NO_VERSION) {
+                versionedVariables.set(i);
+            }
+        }
+        for (BasicBlock block : cfg.getBlocks()) {
+            BitSet use = new BitSet();
+            BitSet def = new BitSet();
+            for (Instruction instruction : block.getInstructions()) {
+                for (Operand operand : instruction.getUses()) {
+                    int index = indexOf(operand);
+                    if (index >= 0 && !def.get(index) && instruction.getOpcode() != Opcode.PHI) {
+                        use.set(index);
+                    }
+                }
+                if (instruction.writesVariables()) {
+                    def.or(versionedVariables);
+                }
+                int index = indexOf(instruction.getDefinition());
+                if (index >= 0) {
+                    def.set(index);
+                }
+            }
+            uses[block.getIndex()] = use;
+            defs[block.getIndex()] = def;
+        }
+    }
+
+    private int indexOf(Operand operand, boolean add) {
+        if (operand == null || !operand.isRenamable()) {
+            return -1;
+        }
+        Integer index = indexes.get(operand);
+        if (index == null) {
+            if (!add) {
+                return -1;
+            }
+            index = operands.size();
+            operands.add(operand);
+            indexes.put(operand, index);
+        }
+        return index;
+    }
+
+    @Override
+    protected BitSet boundary() {
+        return new BitSet();
+    }
+
+    @Override
+    protected BitSet initial() {
+        return new BitSet();
+    }
+
+    @Override
+    protected void meet(BitSet into, BitSet value) {
+        into.or(value);
+    }
+
+    @Override
+    protected BitSet edge(BasicBlock successor, BasicBlock block, BitSet value) {
+        BitSet live = null;
+        int predecessor = successor.getPredecessors().indexOf(block);
+        for (Instruction instruction : successor.getInstructions()) {
+            if (instruction.getOpcode() == Opcode.PHI) {
+                int index = indexOf(instruction.getArguments().get(predecessor));
+                if (index >= 0) {
+                    if (live == null) {
+                        live = (BitSet) value.clone();
+                    }
+                    live.set(index);
+                }
+            }
+        }
+        return live == null ? value : live;
+    }
+
+    @Override
+    protected BitSet transfer(BasicBlock block, BitSet value) {
+        BitSet live = (BitSet) value.clone();
+        live.andNot(defs[block.getIndex()]);
+        live.or(uses[block.getIndex()]);
+        return live;
+    }
+
+    /**
+     * @param operand
+     * @return the bit of the operand in the sets of this analysis, -1 if it isn't tracked
+     */
+    public int indexOf(Operand operand) {
+        return indexOf(operand, false);
+    }
+
+    /**
+     * @param index
+     * @return the operand of a bit
+     */
+    public Operand getOperand(int index) {
+        return operands.get(index);
+    }
+
+    public boolean isLiveIn(BasicBlock block, Operand operand) {
+        int index = indexOf(operand);
+        return index >= 0 && getIn(block).get(index);
+    }
+
+    public boolean isLiveOut(BasicBlock block, Operand operand) {
+        int index = indexOf(operand);
+        return index >= 0 && getOut(block).get(index);
+    }
+}
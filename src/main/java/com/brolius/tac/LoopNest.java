@@ -0,0 +1,124 @@
+package com.brolius.tac;
+
+import java.util.*;
+
+/**
+ * The natural loops of a control flow graph and how they nest. A loop is found from each back edge, an
+ * edge to a block that dominates its source: the header is that block and the body every block that
+ * reaches the source without going through the header. Back edges to the same header make one loop.
+ */
+public class LoopNest {
+    /** A natural loop */
+    public static final class Loop {
+        private final BasicBlock header;
+        private final BitSet blocks = new BitSet();     // by block index, the header included
+        private Loop parent;
+        private final List<Loop> children = new ArrayList<>();
+        private int depth;
+
+        private Loop(BasicBlock header) {
+            this.header = header;
+        }
+
+        public BasicBlock getHeader() { return header; }
+        /** @return the innermost loop around this one, null for an outermost loop */
+        public Loop getParent() { return parent; }
+        public List<Loop> getChildren() { return Collections.unmodifiableList(children); }
+        /** @return 1 for an outermost loop */
+        public int getDepth() { return depth; }
+
+        public boolean contains(BasicBlock block) {
+            return blocks.get(block.getIndex());
+        }
+
+        /** @return the indexes of the blocks of the loop */
+        public BitSet getBlocks() {
+            return (BitSet) blocks.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "loop " + header + " " + blocks;
+        }
+    }
+
+    private final List<Loop> loops = new ArrayList<>();
+    private final Loop[] innermost;
+
+    public LoopNest(ControlFlowGraph cfg, Dominators dominators) {
+        innermost = new Loop[cfg.getBlocks().size()];
+        Map<BasicBlock, Loop> byHeader = new LinkedHashMap<>();
+        for (BasicBlock block : cfg.getReversePostorder()) {
+            for (BasicBlock successor : block.getSuccessors()) {
+                if (dominators.dominates(successor, block)) {
+                    Loop loop = byHeader.computeIfAbsent(successor, Loop::new);
+                    addBody(loop, block, dominators);
+                }
+            }
+        }
+        loops.addAll(byHeader.values());
+
+        // the parent of a loop is the smallest other loop with its header
+        List<Loop> bySize = new ArrayList<>(loops);
+        bySize.sort(Comparator.comparingInt(loop -> loop.blocks.cardinality()));
+        for (int i = 0; i < bySize.size(); i++) {
+            Loop loop = bySize.get(i);
+            for (int j = i + 1; j < bySize.size() && loop.parent == null; j++) {
+                if (bySize.get(j).contains(loop.header)) {
+                    loop.parent = bySize.get(j);
+                    loop.parent.children.add(loop);
+                }
+            }
+        }
+        for (int i = bySize.size() - 1; i >= 0; i--) {      // outer loops are larger, so come later
+            Loop loop = bySize.get(i);
+            loop.depth = loop.parent == null ? 1 : loop.parent.depth + 1;
+        }
+
+        // the innermost loop of a block is the smallest one with it
+        for (Loop loop : bySize) {
+            for (int b = loop.blocks.nextSetBit(0); b >= 0; b = loop.blocks.nextSetBit(b + 1)) {
+                if (innermost[b] == null) {
+                    innermost[b] = loop;
+                }
+            }
+        }
+    }
+
+    private static void addBody(Loop loop, BasicBlock source, Dominators dominators) {
+        loop.blocks.set(loop.header.getIndex());
+        Deque<BasicBlock> work = new ArrayDeque<>();
+        if (!loop.blocks.get(source.getIndex())) {
+            loop.blocks.set(source.getIndex());
+            work.push(source);
+        }
+        while (!work.isEmpty()) {
+            for (BasicBlock predecessor : work.pop().getPredecessors()) {
+                if (!loop.blocks.get(predecessor.getIndex()) && dominators.isReachable(predecessor)) {
+                    loop.blocks.set(predecessor.getIndex());
+                    work.push(predecessor);
+                }
+            }
+        }
+    }
+
+    /** @return every loop, in the order of their headers */
+    public List<Loop> getLoops() { return Collections.unmodifiableList(loops); }
+
+    /**
+     * @param block
+     * @return the innermost loop with the block, null if it is in none
+     */
+    public Loop getLoop(BasicBlock block) {
+        return innermost[block.getIndex()];
+    }
+
+    /**
+     * @param block
+     * @return how many loops the block is in, 0 outside loops
+     */
+    public int getDepth(BasicBlock block) {
+        Loop loop = innermost[block.getIndex()];
+        return loop == null ? 0 : loop.depth;
+    }
+}
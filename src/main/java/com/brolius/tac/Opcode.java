@@ -0,0 +1,24 @@
+package com.brolius.tac;
+
+/**
+ * Kinds of TAC instructions
+ */
+public enum Opcode {
+    BEGIN_FUNC,         // BeginFunc size;
+    END_FUNC,           // EndFunc;
+    COPY,               // target = a;
+    BINARY,             // target = a op b;
+    UNARY,              // target = op a;  with - or !
+    ADDRESS,            // target = &variable;  of an array or struct
+    LOAD,               // target = *(a);
+    STORE,              // *(a) = b;
+    CALL,               // [target =] LCall function;
+    PUSH_PARAM,         // PushParam a;
+    POP_PARAMS,         // PopParams bytes;
+    IFZ,                // Ifz a Goto label;
+    GOTO,               // Goto label;  or  Goto label:  closing a while
+    LABEL,              // label:
+    START_WHILE,        // StartWhile:
+    RETURN,             // Return [a];
+    PHI                 // target = phi(a, b...);  only in SSA form, one argument per predecessor
+}
@@ -0,0 +1,136 @@
+package com.brolius.tac;
+
+/**
+ * An operand of a TAC instruction: a temporary, a scalar variable or a constant. Arrays and structs
+ * are never operands, instructions reach them through their address, see {@link Instruction#address}.
+ * Operands are immutable and compared by kind, text and SSA version.
+ *
+ * Every constant has an int value: ints their own, chars their code and booleans 1 for true and 0 for
+ * false, the values MIPS gives them. The text is the one the source wrote.
+ *
+ * In SSA form temporaries and variables carry a version, each definition a new one; version 0 is the
+ * value the function starts with. Outside SSA form operands have no version.
+ */
+public final class Operand {
+    public enum Kind { TEMPORARY, VARIABLE, CONSTANT }
+
+    public static final int NO_VERSION = -1;
+
+    private final Kind kind;
+    private final String text;
+    private final int value;            // of a constant
+    private final int version;
+
+    private Operand(Kind kind, String text, int value, int version) {
+        this.kind = kind;
+        this.text = text;
+        this.value = value;
+        this.version = version;
+    }
+
+    /**
+     * @param number
+     * @return the temporary _tN
+     */
+    public static Operand temporary(int number) {
+        return temporary("_t" + number);
+    }
+
+    /**
+     * @param name name of the temporary with its leading underscore, e.g. _t0
+     * @return the temporary
+     */
+    public static Operand temporary(String name) {
+        return new Operand(Kind.TEMPORARY, name, 0, NO_VERSION);
+    }
+
+    /**
+     * @param name identifier of a variable of an int, char or boolean type
+     * @return the variable
+     */
+    public static Operand variable(String name) {
+        return new Operand(Kind.VARIABLE, name, 0, NO_VERSION);
+    }
+
+    /**
+     * @param value
+     * @return an int constant
+     */
+    public static Operand constant(int value) {
+        return new Operand(Kind.CONSTANT, String.valueOf(value), value, NO_VERSION);
+    }
+
+    /**
+     * @param value
+     * @return true or false, 1 or 0
+     */
+    public static Operand constant(boolean value) {
+        return new Operand(Kind.CONSTANT, String.valueOf(value), value ? 1 : 0, NO_VERSION);
+    }
+
+    /**
+     * @param literal a char literal as both grammars write it: 'a', or the escaped '\'' and '\\'
+     * @return the char constant, its value the code of the char
+     */
+    public static Operand character(String literal) {
+        char value = literal.charAt(1) == '\\' ? literal.charAt(2) : literal.charAt(1);
+        return new Operand(Kind.CONSTANT, literal, value, NO_VERSION);
+    }
+
+    public Kind getKind() { return kind; }
+    /** @return the operand as TAC writes it, without version */
+    public String getText() { return text; }
+    public int getVersion() { return version; }
+
+    /**
+     * @param version an SSA version, or {@link #NO_VERSION}
+     * @return the same temporary or variable with that version
+     */
+    public Operand withVersion(int version) {
+        return version == this.version ? this : new Operand(kind, text, value, version);
+    }
+
+    /** @return the operand without version, the one it was renamed from in SSA form */
+    public Operand getBase() {
+        return withVersion(NO_VERSION);
+    }
+
+    /** @return true for the operands SSA form renames: temporaries and variables */
+    public boolean isRenamable() {
+        return kind == Kind.TEMPORARY || kind == Kind.VARIABLE;
+    }
+
+    public boolean isTemporary() { return kind == Kind.TEMPORARY; }
+    public boolean isVariable() { return kind == Kind.VARIABLE; }
+    public boolean isConstant() { return kind == Kind.CONSTANT; }
+
+    /**
+     * @return the value of a constant
+     * @throws IllegalStateException if the operand isn't one
+     */
+    public int intValue() {
+        if (kind != Kind.CONSTANT) {
+            throw new IllegalStateException(text + " is not a constant");
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Operand)) {
+            return false;
+        }
+        Operand operand = (Operand) o;
+        return kind == operand.kind && text.equals(operand.text) && version == operand.version;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * text.hashCode() + version;
+    }
+
+    @Override
+    public String toString() {
+        return version == NO_VERSION ? text : text + "." + version;
+    }
+}
@@ -0,0 +1,453 @@
+package com.brolius.tac;
+
+import java.util.*;
+
+/**
+ * A TAC function in static single assignment form: every temporary and variable is renamed to one
+ * version per definition, and where definitions meet a phi picks the version of the edge taken.
+ *
+ * Phis go at the iterated dominance frontier of the blocks defining a name, only where the name is live
+ * (pruned SSA), and renaming walks the dominator tree (Cytron et al.). A call to a method may write any
+ * global variable, and locals can't be told apart here, so it defines a new version of each variable.
+ * Blocks the entry can't reach keep their names unversioned.
+ *
+ * {@link #toFunction()} goes back with copies in place of the phis, so passes may leave versions of a
+ * temporary live at the same time, e.g. by reading an older one after a newer one is defined. Variables
+ * can't be split that way, calls read and write them under their own names.
+ */
+public class SsaForm {
+    private final ControlFlowGraph cfg;
+    private final Dominators dominators;
+    private final Set<Operand> variables = new LinkedHashSet<>();  // the ones a call may write
+    private final Map<Operand, Integer> versions = new HashMap<>(); // last version of each name
+
+    private SsaForm(ControlFlowGraph cfg) {
+        this.cfg = cfg;
+        this.dominators = new Dominators(cfg);
+    }
+
+    /**
+     * @param function
+     * @return the function in SSA form
+     * @throws IllegalArgumentException if the function jumps to a label it doesn't have
+     */
+    public static SsaForm build(TacFunction function) {
+        SsaForm ssa = new SsaForm(ControlFlowGraph.build(function));
+        ssa.placePhis();
+        ssa.rename();
+        return ssa;
+    }
+
+    public ControlFlowGraph getGraph() { return cfg; }
+    public Dominators getDominators() { return dominators; }
+
+    private void placePhis() {
+        Map<Operand, BitSet> definedIn = new LinkedHashMap<>();
+        BitSet calls = new BitSet();
+        for (BasicBlock block : cfg.getBlocks()) {
+            if (!dominators.isReachable(block)) {
+                continue;
+            }
+            for (Instruction instruction : block.getInstructions()) {
+                for (Operand operand : instruction.getUses()) {
+                    addVariable(operand);
+                }
+                Operand definition = instruction.getDefinition();
+                if (definition != null && definition.isRenamable()) {
+                    addVariable(definition);
+                    definedIn.computeIfAbsent(definition, name -> new BitSet()).set(block.getIndex());
+                }
+                if (instruction.writesVariables()) {
+                    calls.set(block.getIndex());
+                }
+            }
+        }
+        for (Operand variable : variables) {
+            definedIn.computeIfAbsent(variable, name -> new BitSet()).or(calls);
+        }
+
+        Liveness liveness = new Liveness(cfg);
+        liveness.solve();
+        for (Map.Entry<Operand, BitSet> entry : definedIn.entrySet()) {
+            Operand name = entry.getKey();
+            BitSet hasPhi = new BitSet();
+            Deque<BasicBlock> work = new ArrayDeque<>();
+            BitSet defining = entry.getValue();
+            for (int b = defining.nextSetBit(0); b >= 0; b = defining.nextSetBit(b + 1)) {
+                work.push(cfg.getBlocks().get(b));
+            }
+            while (!work.isEmpty()) {
+                for (BasicBlock join : dominators.getFrontier(work.pop())) {
+                    if (hasPhi.get(join.getIndex()) || !liveness.isLiveIn(join, name)) {
+                        continue;
+                    }
+                    hasPhi.set(join.getIndex());
+                    List<Instruction> instructions = join.getInstructions();
+                    int at = join.getLabel() != null ? 1 : 0;
+                    while (at < instructions.size() && instructions.get(at).getOpcode() == Opcode.PHI) {
+                        at++;
+                    }
+                    instructions.add(at, Instruction.phi(name,
+                            Collections.nCopies(join.getPredecessors().size(), name)));
+                    if (!defining.get(join.getIndex())) {
+                        work.push(join);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addVariable(Operand operand) {
+        if (operand.getKind() == Operand.Kind.VARIABLE) {
+            variables.add(operand);
+        }
+    }
+
+    private void rename() {
+        Map<Operand, Deque<Operand>> stacks = new HashMap<>();
+        Deque<BasicBlock> blocks = new ArrayDeque<>();
+        Deque<Boolean> leaving = new ArrayDeque<>();
+        Deque<List<Operand>> pushed = new ArrayDeque<>();   // names defined by the blocks on the path
+        blocks.push(cfg.getEntry());
+        leaving.push(false);
+        while (!blocks.isEmpty()) {
+            BasicBlock block = blocks.pop();
+            if (leaving.pop()) {            // its versions go out of scope
+                for (Operand name : pushed.pop()) {
+                    stacks.get(name).pop();
+                }
+                continue;
+            }
+            List<Operand> defined = new ArrayList<>();
+            blocks.push(block);
+            leaving.push(true);
+            pushed.push(defined);
+
+            List<Instruction> instructions = block.getInstructions();
+            for (int i = 0; i < instructions.size(); i++) {
+                Instruction instruction = instructions.get(i);
+                if (instruction.getOpcode() != Opcode.PHI) {
+                    List<Operand> uses = instruction.getUses();
+                    List<Operand> renamed = new ArrayList<>(uses.size());
+                    for (Operand use : uses) {
+                        renamed.add(use.isRenamable() ? current(stacks, use) : use);
+                    }
+                    if (!renamed.equals(uses)) {
+                        instruction = instruction.withUses(renamed);
+                    }
+                }
+                if (instruction.writesVariables()) {
+                    for (Operand variable : variables) {
+                        define(stacks, variable, defined);
+                    }
+                }
+                Operand definition = instruction.getDefinition();
+                if (definition != null && definition.isRenamable()) {
+                    instruction = instruction.withDefinition(define(stacks, definition, defined));
+                }
+                instructions.set(i, instruction);
+            }
+
+            for (BasicBlock successor : block.getSuccessors()) {
+                int predecessor = successor.getPredecessors().indexOf(block);
+                List<Instruction> successorInstructions = successor.getInstructions();
+                for (int i = 0; i < successorInstructions.size(); i++) {
+                    Instruction phi = successorInstructions.get(i);
+                    if (phi.getOpcode() == Opcode.PHI) {
+                        List<Operand> arguments = new ArrayList<>(phi.getArguments());
+                        arguments.set(predecessor, current(stacks, arguments.get(predecessor).getBase()));
+                        successorInstructions.set(i, phi.withUses(arguments));
+                    }
+                }
+            }
+
+            List<BasicBlock> children = dominators.getChildren(block);
+            for (int i = children.size() - 1; i >= 0; i--) {
+                blocks.push(children.get(i));
+                leaving.push(false);
+            }
+        }
+    }
+
+    private static Operand current(Map<Operand, Deque<Operand>> stacks, Operand name) {
+        Deque<Operand> stack = stacks.get(name);
+        return stack == null || stack.isEmpty() ? name.withVersion(0) : stack.peek();
+    }
+
+    private Operand define(Map<Operand, Deque<Operand>> stacks, Operand name, List<Operand> defined) {
+        Operand base = name.getBase();
+        int version = versions.merge(base, 1, Integer::sum);
+        Operand renamed = base.withVersion(version);
+        stacks.computeIfAbsent(base, key -> new ArrayDeque<>()).push(renamed);
+        defined.add(base);
+        return renamed;
+    }
+
+    /**
+     * Goes back out of SSA form. Each phi becomes a copy of its argument at the end of the predecessor
+     * it comes from, the copies of a predecessor done as if at the same time. A predecessor that branches
+     * gets a block of its own for them on the edge, under a new label after the one of the block. Then
+     * the versions of a name go back to the name, all of them but those of temporaries live at the same
+     * time as another version, which get new temporaries.
+     * @return the function out of SSA form, with no phis or versions
+     * @throws IllegalStateException if two versions of a variable are live at the same time, so they
+     * can't share it; variables keep their names, calls read and write them there
+     */
+    public TacFunction toFunction() {
+        List<Instruction> instructions = withCopies();
+        Map<Operand, Operand> names = names(instructions);
+        List<Instruction> renamed = new ArrayList<>(instructions.size());
+        for (Instruction instruction : instructions) {
+            List<Operand> uses = instruction.getUses();
+            List<Operand> newUses = new ArrayList<>(uses.size());
+            for (Operand use : uses) {
+                newUses.add(nameOf(use, names));
+            }
+            if (!newUses.equals(uses)) {
+                instruction = instruction.withUses(newUses);
+            }
+            Operand definition = instruction.getDefinition();
+            if (definition != null && definition.isRenamable()) {
+                instruction = instruction.withDefinition(nameOf(definition, names));
+                if (instruction.getOpcode() == Opcode.COPY && instruction.getTarget().equals(instruction.getA())) {
+                    continue;       // a copy to itself, like the ones of most phis
+                }
+            }
+            renamed.add(instruction);
+        }
+        boolean newTemporaries = false;
+        for (Map.Entry<Operand, Operand> name : names.entrySet()) {
+            newTemporaries |= !name.getValue().equals(name.getKey().getBase());
+        }
+        if (newTemporaries && renamed.get(0).getOpcode() == Opcode.BEGIN_FUNC) {
+            renamed.set(0, Instruction.beginFunc(TacFunction.frameSize(renamed)));
+        }
+        return new TacFunction(cfg.getFunction().getName(), renamed);
+    }
+
+    private static Operand nameOf(Operand operand, Map<Operand, Operand> names) {
+        return operand.isRenamable() ? names.getOrDefault(operand, operand.getBase()) : operand;
+    }
+
+    /**
+     * @return the instructions of the blocks with the phis replaced by copies in the predecessors
+     */
+    private List<Instruction> withCopies() {
+        Map<BasicBlock, List<Instruction>> atEnd = new HashMap<>();        // before the jump, if any
+        Map<BasicBlock, List<Instruction>> after = new HashMap<>();        // falling into the next block
+        Map<BasicBlock, List<List<Instruction>>> before = new HashMap<>(); // jumped to by a branch
+        Map<BasicBlock, Instruction> branches = new HashMap<>();           // retargeted to their copies
+        for (BasicBlock block : cfg.getBlocks()) {
+            List<Instruction> phis = new ArrayList<>();
+            for (Instruction instruction : block.getInstructions()) {
+                if (instruction.getOpcode() == Opcode.PHI) {
+                    phis.add(instruction);
+                }
+            }
+            if (phis.isEmpty()) {
+                continue;
+            }
+            List<BasicBlock> predecessors = block.getPredecessors();
+            for (int p = 0; p < predecessors.size(); p++) {
+                BasicBlock predecessor = predecessors.get(p);
+                Map<Operand, Operand> parallel = new LinkedHashMap<>();
+                for (Instruction phi : phis) {
+                    if (!phi.getTarget().equals(phi.getArguments().get(p))) {
+                        parallel.put(phi.getTarget(), phi.getArguments().get(p));
+                    }
+                }
+                List<Instruction> copies = sequentialize(parallel);
+                Instruction last = predecessor.getLast();
+                if (copies.isEmpty()) {
+                    continue;
+                } else if (last == null || last.getOpcode() != Opcode.IFZ) {
+                    atEnd.computeIfAbsent(predecessor, key -> new ArrayList<>()).addAll(copies);
+                    continue;
+                }
+                boolean jumpsHere = last.getLabel().equals(block.getLabel());
+                boolean fallsHere = block.getIndex() == predecessor.getIndex() + 1;
+                List<Instruction> edge = new ArrayList<>();
+                if (jumpsHere) {
+                    String label = block.getLabel() + "e" + predecessor.getIndex();
+                    edge.add(Instruction.label(label));
+                    branches.put(predecessor, Instruction.ifz(last.getA(), label));
+                }
+                edge.addAll(copies);
+                if (fallsHere) {
+                    after.put(predecessor, edge);
+                } else {
+                    before.computeIfAbsent(block, key -> new ArrayList<>()).add(edge);
+                }
+            }
+        }
+
+        List<Instruction> instructions = new ArrayList<>();
+        for (BasicBlock block : cfg.getBlocks()) {
+            for (List<Instruction> edge : before.getOrDefault(block, Collections.emptyList())) {
+                if (fallsThrough(instructions)) {
+                    instructions.add(Instruction.jump(block.getLabel()));
+                }
+                instructions.addAll(edge);
+            }
+            List<Instruction> body = new ArrayList<>();
+            for (Instruction instruction : block.getInstructions()) {
+                if (instruction.getOpcode() != Opcode.PHI) {
+                    body.add(instruction);
+                }
+            }
+            if (branches.containsKey(block)) {
+                body.set(body.size() - 1, branches.get(block));
+            }
+            List<Instruction> copies = atEnd.get(block);
+            if (copies != null) {
+                boolean jumps = !body.isEmpty() && body.get(body.size() - 1).isTerminator();
+                body.addAll(jumps ? body.size() - 1 : body.size(), copies);
+            }
+            instructions.addAll(body);
+            instructions.addAll(after.getOrDefault(block, Collections.emptyList()));
+        }
+        return instructions;
+    }
+
+    private static boolean fallsThrough(List<Instruction> instructions) {
+        if (instructions.isEmpty()) {
+            return false;
+        }
+        Opcode last = instructions.get(instructions.size() - 1).getOpcode();
+        return last != Opcode.GOTO && last != Opcode.RETURN;
+    }
+
+    /**
+     * Orders copies that happen at the same time so each reads its source before another copy writes it.
+     * A cycle of them, like a swap, goes through a new version of one of the names.
+     * @param parallel source of each target
+     * @return the copies one after the other
+     */
+    private List<Instruction> sequentialize(Map<Operand, Operand> parallel) {
+        List<Instruction> copies = new ArrayList<>();
+        Map<Operand, Operand> pending = new LinkedHashMap<>(parallel);
+        while (!pending.isEmpty()) {
+            Operand ready = null;
+            for (Operand target : pending.keySet()) {
+                if (!pending.containsValue(target)) {
+                    ready = target;
+                    break;
+                }
+            }
+            if (ready != null) {
+                copies.add(Instruction.copy(ready, pending.remove(ready)));
+                continue;
+            }
+            Operand blocked = pending.keySet().iterator().next();
+            Operand saved = blocked.getBase().withVersion(versions.merge(blocked.getBase(), 1, Integer::sum));
+            copies.add(Instruction.copy(saved, blocked));
+            for (Map.Entry<Operand, Operand> copy : pending.entrySet()) {
+                if (copy.getValue().equals(blocked)) {
+                    copy.setValue(saved);
+                }
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * Gives each version of a temporary the temporary itself, unless it is live at the same time as a
+     * version that already has it, then another temporary, a new one if none is free
+     * @param instructions with versions and no phis
+     * @return the new name of the versions that don't go back to their own names
+     * @throws IllegalStateException if versions of a variable are live at the same time
+     */
+    private Map<Operand, Operand> names(List<Instruction> instructions) {
+        ControlFlowGraph copies = ControlFlowGraph.build(new TacFunction(cfg.getFunction().getName(), instructions));
+        Liveness liveness = new Liveness(copies);
+        liveness.solve();
+        Map<Operand, Set<Operand>> interference = new LinkedHashMap<>();
+        for (BasicBlock block : copies.getBlocks()) {
+            Set<Operand> live = new HashSet<>();
+            BitSet out = liveness.getOut(block);
+            for (int i = out.nextSetBit(0); i >= 0; i = out.nextSetBit(i + 1)) {
+                live.add(liveness.getOperand(i));
+            }
+            List<Instruction> body = block.getInstructions();
+            for (int i = body.size() - 1; i >= 0; i--) {
+                Instruction instruction = body.get(i);
+                Operand definition = instruction.getDefinition();
+                if (definition != null && definition.isRenamable()) {
+                    live.remove(definition);
+                    for (Operand operand : live) {
+                        boolean copied = instruction.getOpcode() == Opcode.COPY && operand.equals(instruction.getA());
+                        if (operand.getBase().equals(definition.getBase()) && !copied) {
+                            if (definition.isVariable()) {
+                                throw interference(definition, operand, block);
+                            }
+                            interference.computeIfAbsent(definition, name -> new HashSet<>()).add(operand);
+                            interference.computeIfAbsent(operand, name -> new HashSet<>()).add(definition);
+                        }
+                    }
+                }
+                if (instruction.writesVariables()) {
+                    live.removeIf(operand -> operand.isVariable());     // the versions the call defines
+                }
+                for (Operand use : instruction.getUses()) {
+                    if (use.isRenamable()) {
+                        live.add(use);
+                    }
+                }
+            }
+        }
+
+        List<Operand> versions = new ArrayList<>(interference.keySet());
+        versions.sort(Comparator.comparing(Operand::getText).thenComparingInt(Operand::getVersion));
+        Map<Operand, Operand> names = new HashMap<>();
+        Map<Operand, List<Operand>> given = new HashMap<>();       // names given to the versions of a base
+        int next = nextTemporary(instructions);
+        for (Operand version : versions) {
+            List<Operand> candidates = given.computeIfAbsent(version.getBase(),
+                    base -> new ArrayList<>(Collections.singletonList(base)));
+            Operand name = null;
+            for (int c = 0; name == null && c < candidates.size(); c++) {
+                name = candidates.get(c);
+                for (Operand other : interference.get(version)) {
+                    if (name.equals(names.get(other))) {
+                        name = null;
+                        break;
+                    }
+                }
+            }
+            if (name == null) {
+                name = Operand.temporary(next++);
+                candidates.add(name);
+            }
+            names.put(version, name);
+        }
+        return names;
+    }
+
+    /**
+     * @param instructions
+     * @return the first number of a temporary _tN the instructions don't use
+     */
+    private static int nextTemporary(List<Instruction> instructions) {
+        int next = 0;
+        for (Instruction instruction : instructions) {
+            List<Operand> operands = new ArrayList<>(instruction.getUses());
+            operands.add(instruction.getDefinition());
+            for (Operand operand : operands) {
+                if (operand == null || !operand.isTemporary() || !operand.getText().startsWith("_t")) {
+                    continue;
+                }
+                try {
+                    next = Math.max(next, Integer.parseInt(operand.getText().substring(2)) + 1);
+                } catch (NumberFormatException e) {
+                    // a temporary of hand written TAC with another name
+                }
+            }
+        }
+        return next;
+    }
+
+    private IllegalStateException interference(Operand a, Operand b, BasicBlock block) {
+        return new IllegalStateException(cfg.getFunction().getName() + ": " + a + " and " + b
+                + " share a variable but are both live in " + block);
+    }
+}
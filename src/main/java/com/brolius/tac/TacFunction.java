@@ -0,0 +1,74 @@
+package com.brolius.tac;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The TAC of one method: its label and its instructions, from BeginFunc to EndFunc once finished
+ */
+public class TacFunction {
+    private final String name;
+    private final List<Instruction> instructions;
+
+    /**
+     * @param name label of the function, "main" or the name of the method with a leading underscore
+     */
+    public TacFunction(String name) {
+        this(name, new ArrayList<>());
+    }
+
+    /**
+     * @param name
+     * @param instructions every instruction of the function, BeginFunc and EndFunc included
+     */
+    public TacFunction(String name, List<Instruction> instructions) {
+        this.name = name;
+        this.instructions = instructions;
+    }
+
+    public void add(Instruction instruction) {
+        instructions.add(instruction);
+    }
+
+    /**
+     * Closes the body: BeginFunc goes first, sized for its temporaries, and EndFunc last
+     */
+    public void finish() {
+        instructions.add(0, Instruction.beginFunc(frameSize(instructions)));
+        instructions.add(Instruction.endFunc());
+    }
+
+    /**
+     * @param instructions
+     * @return the bytes of BeginFunc for the instructions, 4 for each temporary they read or write
+     */
+    public static int frameSize(List<Instruction> instructions) {
+        Set<Operand> temporaries = new HashSet<>();
+        for (Instruction instruction : instructions) {
+            for (Operand use : instruction.getUses()) {
+                if (use.isTemporary()) {
+                    temporaries.add(use.getBase());
+                }
+            }
+            Operand definition = instruction.getDefinition();
+            if (definition != null && definition.isTemporary()) {
+                temporaries.add(definition.getBase());
+            }
+        }
+        return 4 * temporaries.size();
+    }
+
+    public String getName() { return name; }
+
+    public List<Instruction> getInstructions() {
+        return Collections.unmodifiableList(instructions);
+    }
+
+    @Override
+    public String toString() {
+        return TacPrinter.print(this);
+    }
+}
@@ -0,0 +1,133 @@
+package com.brolius.tac;
+
+import com.brolius.semanticControl.TacSink;
+
+import java.util.*;
+
+/**
+ * Writes TAC in the decaf.tac format the TAC parser reads: the label of the function, then its
+ * instructions one per line indented with a tab, labels and StartWhile after a blank line.
+ *
+ * A whole program is written with the declarations of its variables, which the MIPS needs: the global
+ * variables and the structs used as their own instance first, as Global and Struct lines with their
+ * bytes, and after the BeginFunc of a function its parameters in order and the locals it uses, as Param
+ * and Local lines.
+ */
+public final class TacPrinter {
+    private static final String INDENT = "\t";
+
+    private TacPrinter() {
+    }
+
+    /**
+     * @param function
+     * @param sink receives the lines of the function
+     */
+    public static void print(TacFunction function, TacSink sink) {
+        sink.writeLine(function.getName() + ":");
+        for (Instruction instruction : function.getInstructions()) {
+            if (startsBlock(instruction)) {
+                sink.writeLine("");
+            }
+            sink.writeLine(INDENT + instruction);
+        }
+    }
+
+    /**
+     * @param function
+     * @return the text of the function, lines ended by a line separator
+     */
+    public static String print(TacFunction function) {
+        StringBuilder text = new StringBuilder();
+        text.append(function.getName()).append(":\n");
+        for (Instruction instruction : function.getInstructions()) {
+            if (startsBlock(instruction)) {
+                text.append('\n');
+            }
+            text.append(INDENT).append(instruction).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * @param program
+     * @param declarations of the variables of the program
+     * @return the text of the program with the declarations of its variables, lines ended by a line separator
+     */
+    public static String print(TacProgram program, Declarations declarations) {
+        Map<String, Integer> globals = new LinkedHashMap<>(declarations.getGlobals());
+        Map<String, Integer> structs = new LinkedHashMap<>();
+        StringBuilder functions = new StringBuilder();
+        for (TacFunction function : program.getFunctions()) {
+            String name = function.getName();
+            List<String> parameters = declarations.getParameters(name);
+            Map<String, Integer> locals = new LinkedHashMap<>();
+            for (String variable : variables(function)) {
+                Integer size;
+                if (parameters.contains(variable)) {
+                    continue;
+                } else if ((size = declarations.getLocalSize(name, variable)) != null) {
+                    locals.put(variable, size);
+                } else if ((size = declarations.getGlobalSize(variable)) != null) {
+                    globals.putIfAbsent(variable, size);
+                } else if ((size = declarations.getStructSize(variable)) != null) {
+                    structs.putIfAbsent(variable, size);
+                }
+            }
+
+            functions.append(name).append(":\n");
+            for (Instruction instruction : function.getInstructions()) {
+                if (startsBlock(instruction)) {
+                    functions.append('\n');
+                }
+                functions.append(INDENT).append(instruction).append('\n');
+                if (instruction.getOpcode() == Opcode.BEGIN_FUNC) {
+                    for (String parameter : parameters) {
+                        functions.append(INDENT).append("Param ").append(parameter).append(";\n");
+                    }
+                    for (Map.Entry<String, Integer> local : locals.entrySet()) {
+                        functions.append(INDENT).append("Local ").append(local.getKey()).append(' ')
+                                .append(local.getValue()).append(";\n");
+                    }
+                }
+            }
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, Integer> global : globals.entrySet()) {
+            text.append("Global ").append(global.getKey()).append(' ').append(global.getValue()).append(";\n");
+        }
+        for (Map.Entry<String, Integer> struct : structs.entrySet()) {
+            text.append("Struct ").append(struct.getKey()).append(' ').append(struct.getValue()).append(";\n");
+        }
+        if (text.length() > 0) {
+            text.append('\n');
+        }
+        return text.append(functions).toString();
+    }
+
+    /**
+     * @return the variables the function uses, in the order it first uses them
+     */
+    private static Set<String> variables(TacFunction function) {
+        Set<String> variables = new LinkedHashSet<>();
+        for (Instruction instruction : function.getInstructions()) {
+            for (Operand use : instruction.getUses()) {
+                if (use.isVariable()) {
+                    variables.add(use.getText());
+                }
+            }
+            if (instruction.getDefinition() != null && instruction.getDefinition().isVariable()) {
+                variables.add(instruction.getDefinition().getText());
+            }
+            if (instruction.getOpcode() == Opcode.ADDRESS) {
+                variables.add(instruction.getLabel());
+            }
+        }
+        return variables;
+    }
+
+    private static boolean startsBlock(Instruction instruction) {
+        return instruction.getOpcode() == Opcode.LABEL || instruction.getOpcode() == Opcode.START_WHILE;
+    }
+}
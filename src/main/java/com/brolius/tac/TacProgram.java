@@ -0,0 +1,33 @@
+package com.brolius.tac;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The TAC of a program, its functions in source order
+ */
+public class TacProgram {
+    private final List<TacFunction> functions = new ArrayList<>();
+
+    public void add(TacFunction function) {
+        functions.add(function);
+    }
+
+    public void addAll(TacProgram program) {
+        functions.addAll(program.functions);
+    }
+
+    public List<TacFunction> getFunctions() {
+        return Collections.unmodifiableList(functions);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (TacFunction function : functions) {
+            text.append(TacPrinter.print(function));
+        }
+        return text.toString();
+    }
+}
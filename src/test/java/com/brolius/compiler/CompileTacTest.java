@@ -0,0 +1,70 @@
+package com.brolius.compiler;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * The TAC of a compilation compiles on its own to the MIPS of the compilation, see
+ * {@link DecafCompiler#compileTac(String)}
+ */
+public class CompileTacTest {
+    @Test
+    public void examples() throws IOException {
+        try (Stream<Path> walk = Files.walk(Paths.get("examples"))) {
+            List<Path> files = walk.filter(p -> p.toString().endsWith(".decaf")).sorted().collect(Collectors.toList());
+            assertFalse(files.isEmpty());
+            for (Path file : files) {
+                checkRoundTrip(file.toString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    public void generatedPrograms() {
+        for (long seed = 1; seed <= 5; seed++) {
+            checkRoundTrip("seed " + seed, new SyntheticProgramGenerator().seed(seed).generate());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void undeclaredVariableIsRejected() {
+        new DecafCompiler().compileTac("main:\n\tBeginFunc 4;\n\tx = 1;\n\tEndFunc;\n");
+    }
+
+    @Test
+    public void declaredVariablesKeepTheirPlaces() {
+        String mips = new DecafCompiler().compileTac("Global total 4;\n"
+                + "Struct Cat 8;\n"
+                + "\n"
+                + "_f:\n\tBeginFunc 8;\n\tParam a;\n\tParam b;\n\tLocal x 4;\n"
+                + "\tx = a;\n\ttotal = b;\n\t_t0 = &Cat;\n\tReturn x;\n\tEndFunc;\n");
+        assertTrue(mips, mips.contains("lw $t0, 12($fp)"));       // a, pushed first
+        assertTrue(mips, mips.contains("lw $t0, 8($fp)"));        // b
+        assertTrue(mips, mips.contains("sw $t0, -4($fp)"));       // x, the first slot
+        assertTrue(mips, mips.contains("sw $t0, total_global"));
+        assertTrue(mips, mips.contains("la $t2, Cat_Cat"));
+        assertTrue(mips, mips.contains("Cat_Cat:\t\t\t\t.space 8"));
+    }
+
+    private static void checkRoundTrip(String name, String source) {
+        for (boolean optimize : new boolean[]{true, false}) {
+            DecafCompiler compiler = new DecafCompiler().optimize(optimize);
+            Compilation compilation = compiler.compile(source);
+            if (compilation.getMips().isEmpty()) {
+                continue;       // a program with errors has no TAC
+            }
+            assertEquals(name + (optimize ? "" : ", not optimized"), compilation.getMips(),
+                    compiler.compileTac(compilation.getTac()));
+        }
+    }
+}
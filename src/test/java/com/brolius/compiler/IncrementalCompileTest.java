@@ -0,0 +1,71 @@
+package com.brolius.compiler;
+
+import com.brolius.semanticControl.IncrementalCache;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A recompile that reuses the unchanged methods gives what a fresh compile of the edited program gives
+ */
+public class IncrementalCompileTest {
+    private static final String PROGRAM = "class Program {\n"
+            + "    int total;\n"
+            + "    int square(int n) {\n"
+            + "        return n * n;\n"
+            + "    }\n"
+            + "    int sum(int n) {\n"
+            + "        int i;\n"
+            + "        int s;\n"
+            + "        i = 0;\n"
+            + "        s = 0;\n"
+            + "        while (i < n) {\n"
+            + "            s = s + square(i);\n"
+            + "            i = i + 1;\n"
+            + "        }\n"
+            + "        return s;\n"
+            + "    }\n"
+            + "    void main() {\n"
+            + "        if (sum(4) > 10) {\n"
+            + "            total = sum(4);\n"
+            + "        }\n"
+            + "        print(total);\n"
+            + "    }\n"
+            + "}\n";
+
+    @Test
+    public void editedBodyMatchesFreshCompile() {
+        checkEdit(PROGRAM.replace("return n * n;", "return n * n + 1;"), 2);
+    }
+
+    @Test
+    public void newBranchRenumbersLaterMethods() {
+        checkEdit(PROGRAM.replace("return n * n;", "if (n < 0) { return 0; }\n        return n * n;"), 0);
+    }
+
+    @Test
+    public void changedSignatureRechecksCallers() {
+        checkEdit(PROGRAM.replace("int square(int n) {\n        return n * n;",
+                "boolean square(int n) {\n        return n < 2;"), 1);
+    }
+
+    @Test
+    public void unchangedProgramReusesEveryMethod() {
+        checkEdit(PROGRAM, 3);
+    }
+
+    private static void checkEdit(String edited, int reused) {
+        for (boolean optimize : new boolean[]{true, false}) {
+            DecafCompiler compiler = new DecafCompiler().optimize(optimize);
+            IncrementalCache cache = new IncrementalCache();
+            compiler.compile(PROGRAM, phase -> { }, cache);
+
+            Compilation incremental = compiler.compile(edited, phase -> { }, cache);
+            Compilation fresh = compiler.compile(edited);
+            assertEquals(reused, cache.getReused());
+            assertEquals(fresh.getSemanticErrors(), incremental.getSemanticErrors());
+            assertEquals(fresh.getTac(), incremental.getTac());
+            assertEquals(fresh.getMips(), incremental.getMips());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.brolius.compiler;
+
+import com.brolius.antlr.decafParser;
+import com.brolius.semanticControl.DiscardTacSink;
+import com.brolius.semanticControl.SemanticListener;
+import com.brolius.tac.*;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Checker of the passes over the TAC. Each program goes through the front end, and each of its TAC
+ * functions through the passes, checking what they promise:
+ * the control flow graph gives back the function it was built from, its blocks have a label only first
+ * and a jump only last, its edges go both ways and its exit block has only EndFunc;
+ * SSA form defines each version once, with the phis first in their blocks and an argument for each
+ * predecessor, and out of it the function does what it did, run by {@link TacInterpreter} with a few
+ * seeds; and the function with its constants folded does what it did too.
+ *
+ * Each broken promise is kept with the program and function, see {@link #getProblems()}.
+ */
+class TacChecker {
+    private static final int SEEDS = 5;
+
+    private final DecafCompiler compiler = new DecafCompiler();
+    private final List<String> problems = new ArrayList<>();
+    private String program;     // being checked
+    private int functions;
+
+    /**
+     * Checks every function of a program
+     * @param file
+     * @throws IOException if the file can't be read
+     */
+    void checkFile(Path file) throws IOException {
+        checkProgram(file.toString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Checks every function of a program
+     * @param name of the program, for the problems
+     * @param source
+     */
+    void checkProgram(String name, String source) {
+        this.program = name;
+        CommonTokenStream tokens = compiler.lex(source, ConsoleErrorListener.INSTANCE);
+        decafParser parser = compiler.newParser(tokens, ConsoleErrorListener.INSTANCE);
+        ParseTree tree = compiler.parseProgram(parser, mode -> { });
+        SemanticListener semanticListener = compiler.analyze(parser, tree, DiscardTacSink.INSTANCE);
+        for (TacFunction function : semanticListener.getTacProgram().getFunctions()) {
+            functions++;
+            try {
+                checkGraph(function);
+                checkSsa(function);
+                checkSameRuns(function, ConstantFolding.fold(function), "constant folding");
+            } catch (RuntimeException e) {
+                problems.add(program + " " + function.getName() + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * @return the functions checked so far
+     */
+    int getFunctions() {
+        return functions;
+    }
+
+    /**
+     * @return what the checks found broken so far
+     */
+    List<String> getProblems() {
+        return Collections.unmodifiableList(problems);
+    }
+
+    private void checkGraph(TacFunction function) {
+        ControlFlowGraph cfg = ControlFlowGraph.build(function);
+        List<Instruction> instructions = cfg.toFunction().getInstructions();
+        List<Instruction> original = function.getInstructions();
+        boolean same = instructions.size() == original.size();
+        for (int i = 0; same && i < instructions.size(); i++) {
+            same = instructions.get(i) == original.get(i);
+        }
+        check(same, function, "the blocks don't give back the function");
+
+        List<Instruction> exit = cfg.getExit().getInstructions();
+        check(exit.size() == 1 && exit.get(0).getOpcode() == Opcode.END_FUNC, function,
+                "the exit block " + exit + " isn't only EndFunc");
+        check(cfg.getEntry().getInstructions().get(0).getOpcode() == Opcode.BEGIN_FUNC, function,
+                "the entry block doesn't start with BeginFunc");
+
+        for (BasicBlock block : cfg.getBlocks()) {
+            List<Instruction> body = block.getInstructions();
+            check(!body.isEmpty(), function, block + " is empty");
+            for (int i = 0; i < body.size(); i++) {
+                check(i == 0 || body.get(i).getOpcode() != Opcode.LABEL, function, block + " has a label inside");
+                check(i == body.size() - 1 || !body.get(i).isTerminator(), function, block + " jumps before its end");
+            }
+            for (BasicBlock successor : block.getSuccessors()) {
+                check(successor.getPredecessors().contains(block), function,
+                        successor + " doesn't have its predecessor " + block);
+            }
+            for (BasicBlock predecessor : block.getPredecessors()) {
+                check(predecessor.getSuccessors().contains(block), function,
+                        predecessor + " doesn't have its successor " + block);
+            }
+        }
+    }
+
+    private void checkSsa(TacFunction function) {
+        SsaForm ssa = SsaForm.build(function);
+        Set<Operand> defined = new HashSet<>();
+        for (BasicBlock block : ssa.getGraph().getBlocks()) {
+            boolean phis = true;        // still at the start of the block
+            for (Instruction instruction : block.getInstructions()) {
+                if (instruction.getOpcode() == Opcode.PHI) {
+                    check(phis, function, block + " has a phi after other instructions");
+                    check(instruction.getArguments().size() == block.getPredecessors().size(), function,
+                            instruction + " doesn't have an argument for each predecessor of " + block);
+                } else if (instruction.getOpcode() != Opcode.LABEL) {
+                    phis = false;
+                }
+                Operand definition = instruction.getDefinition();
+                if (definition != null && definition.getVersion() != Operand.NO_VERSION) {
+                    check(defined.add(definition), function, definition + " is defined twice");
+                }
+            }
+        }
+
+        TacFunction out = ssa.toFunction();
+        for (Instruction instruction : out.getInstructions()) {
+            boolean versioned = instruction.getDefinition() != null
+                    && instruction.getDefinition().getVersion() != Operand.NO_VERSION;
+            for (Operand use : instruction.getUses()) {
+                versioned |= use.getVersion() != Operand.NO_VERSION;
+            }
+            check(instruction.getOpcode() != Opcode.PHI && !versioned, function,
+                    instruction + " is still in SSA form");
+        }
+        checkSameRuns(function, out, "going in and out of SSA form");
+    }
+
+    /**
+     * Runs both functions with the same inputs and checks they do the same, up to where one runs too long
+     * @param function
+     * @param changed the function after a pass
+     * @param pass what changed it, for the problem
+     */
+    private void checkSameRuns(TacFunction function, TacFunction changed, String pass) {
+        for (int seed = 0; seed < SEEDS; seed++) {
+            List<String> before = TacInterpreter.run(function, seed);
+            List<String> after = TacInterpreter.run(changed, seed);
+            if (before.contains(TacInterpreter.TIMEOUT) || after.contains(TacInterpreter.TIMEOUT)) {
+                int length = Math.min(before.size(), after.size()) - 1;
+                before = before.subList(0, length);
+                after = after.subList(0, length);
+            }
+            if (!before.equals(after)) {
+                check(false, function, pass + " changes what it does with seed " + seed + ": " + before
+                        + " became " + after + " in\n" + changed);
+                return;
+            }
+        }
+    }
+
+    private void check(boolean holds, TacFunction function, String problem) {
+        if (!holds) {
+            problems.add(program + " " + function.getName() + ": " + problem);
+        }
+    }
+}
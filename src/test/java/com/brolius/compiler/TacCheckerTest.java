@@ -0,0 +1,44 @@
+package com.brolius.compiler;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The passes over the TAC keep their promises on every function of the examples and of generated programs,
+ * see {@link TacChecker}
+ */
+public class TacCheckerTest {
+    @Test
+    public void examples() throws IOException {
+        TacChecker checker = new TacChecker();
+        try (Stream<Path> walk = Files.walk(Paths.get("examples"))) {
+            List<Path> files = walk.filter(p -> p.toString().endsWith(".decaf")).sorted().collect(Collectors.toList());
+            for (Path file : files) {
+                checker.checkFile(file);
+            }
+        }
+        assertTrue(checker.getFunctions() > 0);
+        assertEquals("", String.join("\n", checker.getProblems()));
+    }
+
+    @Test
+    public void generatedPrograms() {
+        TacChecker checker = new TacChecker();
+        for (long seed = 1; seed <= 10; seed++) {
+            checker.checkProgram("seed " + seed, new SyntheticProgramGenerator().seed(seed).generate());
+            checker.checkProgram("nested seed " + seed, new SyntheticProgramGenerator().seed(seed)
+                    .nesting(4).expressionDepth(4).callDensity(40).generate());
+        }
+        assertEquals("", String.join("\n", checker.getProblems()));
+    }
+}
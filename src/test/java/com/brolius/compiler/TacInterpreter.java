@@ -0,0 +1,196 @@
+package com.brolius.compiler;
+
+import com.brolius.semanticControl.Operator;
+import com.brolius.tac.Instruction;
+import com.brolius.tac.Opcode;
+import com.brolius.tac.Operand;
+import com.brolius.tac.TacFunction;
+
+import java.util.*;
+
+/**
+ * Runs one TAC function, out of SSA form, on made up inputs and records what the rest of the program
+ * could see of it: the calls with their parameters and the variables written before them, stores, the
+ * value returned and the variables written by the end. Two versions of a function that record the same
+ * did the same, as far as {@link TacChecker} can tell.
+ *
+ * Names read before they are written, loads of memory not stored to and results of calls are inputs,
+ * picked from the seed and the name, address or call. A call to a method may write any variable and
+ * memory, so those are inputs again after it. A variable only counts as written while it holds something
+ * else than it would as an input, so copying a variable to itself writes nothing. Ints wrap and operators
+ * give what MIPS generation makes of them; a division by 0 ends the run.
+ */
+public class TacInterpreter {
+    public static final String TIMEOUT = "timeout";
+    private static final int STEPS = 10000;
+
+    private final TacFunction function;
+    private final int seed;
+    private final List<String> events = new ArrayList<>();
+    private final Map<Operand, Integer> values = new HashMap<>();
+    private final Map<String, Integer> written = new TreeMap<>();    // variables not holding their input
+    private final Map<Integer, Integer> memory = new HashMap<>();
+    private final List<Integer> parameters = new ArrayList<>();
+    private int calls;
+
+    private TacInterpreter(TacFunction function, int seed) {
+        this.function = function;
+        this.seed = seed;
+    }
+
+    /**
+     * @param function out of SSA form
+     * @param seed picks the inputs
+     * @return what the function did, ending with {@link #TIMEOUT} if it ran too long
+     * @throws IllegalArgumentException if the function has a phi or jumps to a label it doesn't have
+     */
+    public static List<String> run(TacFunction function, int seed) {
+        TacInterpreter interpreter = new TacInterpreter(function, seed);
+        interpreter.run();
+        return interpreter.events;
+    }
+
+    private void run() {
+        List<Instruction> instructions = function.getInstructions();
+        Map<String, Integer> labels = new HashMap<>();
+        for (int i = 0; i < instructions.size(); i++) {
+            if (instructions.get(i).getOpcode() == Opcode.LABEL) {
+                labels.put(instructions.get(i).getLabel(), i);
+            }
+        }
+
+        int pc = 0;
+        for (int step = 0; step < STEPS; step++) {
+            if (pc >= instructions.size()) {
+                events.add("end " + written);
+                return;
+            }
+            Instruction instruction = instructions.get(pc++);
+            switch (instruction.getOpcode()) {
+                case COPY:
+                    write(instruction.getTarget(), read(instruction.getA()));
+                    break;
+                case BINARY:
+                    Integer result = binary(instruction, read(instruction.getA()), read(instruction.getB()));
+                    if (result == null) {
+                        events.add("division by 0");
+                        return;
+                    }
+                    write(instruction.getTarget(), result);
+                    break;
+                case UNARY:
+                    int a = read(instruction.getA());
+                    write(instruction.getTarget(), instruction.getOperator() == Operator.NEG ? -a : a ^ 1);
+                    break;
+                case ADDRESS:
+                    write(instruction.getTarget(), (instruction.getLabel().hashCode() & 0xffff) << 12);
+                    break;
+                case LOAD:
+                    int address = read(instruction.getA());
+                    Integer loaded = memory.get(address);
+                    write(instruction.getTarget(), loaded != null ? loaded : input("*" + address + "@" + calls));
+                    break;
+                case STORE:
+                    int at = read(instruction.getA());
+                    int value = read(instruction.getB());
+                    memory.put(at, value);
+                    events.add("*(" + at + ") = " + value);
+                    break;
+                case PUSH_PARAM:
+                    parameters.add(read(instruction.getA()));
+                    break;
+                case CALL:
+                    call(instruction);
+                    break;
+                case IFZ:
+                case GOTO:
+                    if (instruction.getOpcode() == Opcode.GOTO || read(instruction.getA()) == 0) {
+                        Integer target = labels.get(instruction.getLabel());
+                        if (target == null) {
+                            throw new IllegalArgumentException("no label " + instruction.getLabel());
+                        }
+                        pc = target;
+                    }
+                    break;
+                case RETURN:
+                    events.add("return " + (instruction.getA() != null ? read(instruction.getA()) : "") + " " + written);
+                    return;
+                case END_FUNC:
+                    events.add("end " + written);
+                    return;
+                case PHI:
+                    throw new IllegalArgumentException("phi out of SSA form: " + instruction);
+                default:
+                    break;          // BeginFunc, PopParams, labels and StartWhile do nothing
+            }
+        }
+        events.add(TIMEOUT);
+    }
+
+    private void call(Instruction instruction) {
+        events.add("call " + instruction.getLabel() + parameters + " " + written);
+        parameters.clear();
+        calls++;
+        if (instruction.writesVariables()) {
+            values.keySet().removeIf(Operand::isVariable);
+            memory.clear();
+            written.clear();
+        }
+        if (instruction.getTarget() != null) {
+            write(instruction.getTarget(), input("call " + calls));
+        }
+    }
+
+    private int read(Operand operand) {
+        if (operand.isConstant()) {
+            return operand.intValue();
+        }
+        Integer value = values.get(operand);
+        if (value == null) {
+            value = input(operand + "@" + calls);
+            values.put(operand, value);
+        }
+        return value;
+    }
+
+    private void write(Operand operand, int value) {
+        values.put(operand, value);
+        if (operand.isVariable() && value == input(operand + "@" + calls)) {
+            written.remove(operand.toString());
+        } else if (operand.isVariable()) {
+            written.put(operand.toString(), value);
+        }
+    }
+
+    /**
+     * @param name what the input is for
+     * @return a small int, -3 to 9, so loops end
+     */
+    private int input(String name) {
+        int hash = (name.hashCode() + seed) * 0x9E3779B1;
+        return Math.floorMod(hash >>> 7, 13) - 3;
+    }
+
+    /**
+     * @return the result of a binary operation, null for a division by 0
+     */
+    private static Integer binary(Instruction instruction, int a, int b) {
+        switch (instruction.getOperator()) {
+            case ADD: return a + b;
+            case SUB: return a - b;
+            case MUL: return a * b;
+            case DIV: return b == 0 ? null : a / b;
+            case MOD: return b == 0 ? null : a % b;
+            case LT: return a < b ? 1 : 0;
+            case GT: return a > b ? 1 : 0;
+            case LE: return a <= b ? 1 : 0;
+            case GE: return a >= b ? 1 : 0;
+            case EQ: return a == b ? 1 : 0;
+            case NE: return a != b ? 1 : 0;
+            case AND: return a & b;
+            case OR: return a | b;
+            default:
+                throw new IllegalArgumentException(instruction.toString());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.brolius.semanticControl;
+
+import com.brolius.antlr.decafParser;
+import com.brolius.compiler.DecafCompiler;
+import com.brolius.compiler.SyntheticProgramGenerator;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The bodies checked in parallel give what they give checked one after the other
+ */
+public class SemanticAnalyzerTest {
+    private static final String ERRORS = "class Program {\n"
+            + "    int g;\n"
+            + "    int f(int a) { boolean b; b = a; return b; }\n"
+            + "    void h() { g = f(true); k = 1; }\n"
+            + "    int g;\n"
+            + "    boolean j(int a) { if (a) { return 1; } return a < 2; }\n"
+            + "    void main() { h(); print(f(1) + j(2)); }\n"
+            + "}\n";
+
+    private final DecafCompiler compiler = new DecafCompiler();
+
+    @Test
+    public void parallelBodiesMatchSerialOnes() throws IOException {
+        List<String> programs = new ArrayList<>();
+        try (Stream<Path> examples = Files.walk(Paths.get("examples"))) {
+            for (Path file : examples.filter(p -> p.toString().endsWith(".decaf")).sorted().collect(Collectors.toList())) {
+                programs.add(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            }
+        }
+        for (long seed = 1; seed <= 5; seed++) {
+            programs.add(new SyntheticProgramGenerator().seed(seed).methods(40).generate());
+        }
+        programs.add(ERRORS);
+
+        for (String program : programs) {
+            assertEquals(analyze(program, Integer.MAX_VALUE, Integer.MAX_VALUE), analyze(program, Integer.MAX_VALUE, 0));
+        }
+        assertEquals(analyze(ERRORS, 3, Integer.MAX_VALUE), analyze(ERRORS, 3, 0));
+    }
+
+    /**
+     * @return the errors, the TAC text and the TAC instructions of the program, one after the other
+     */
+    private List<String> analyze(String program, int errorLimit, int parallelThreshold) {
+        decafParser parser = compiler.newParser(compiler.lex(program, ConsoleErrorListener.INSTANCE),
+                ConsoleErrorListener.INSTANCE);
+        decafParser.ProgramContext tree = (decafParser.ProgramContext) compiler.parseProgram(parser, mode -> { });
+        MemoryTacSink tac = new MemoryTacSink();
+        SemanticListener listener = SemanticAnalyzer.analyze(parser, tree, tac, null, errorLimit, parallelThreshold);
+
+        List<String> result = new ArrayList<>(listener.getSemanticErrorsList());
+        result.add(tac.getText());
+        result.add(listener.getTacProgram().toString());
+        return result;
+    }
+}
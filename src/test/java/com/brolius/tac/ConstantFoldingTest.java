@@ -0,0 +1,148 @@
+package com.brolius.tac;
+
+import com.brolius.antlr.decafParser;
+import com.brolius.compiler.DecafCompiler;
+import com.brolius.compiler.TacInterpreter;
+import com.brolius.semanticControl.DiscardTacSink;
+import com.brolius.semanticControl.Operator;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ConstantFoldingTest {
+    @Test
+    public void constantBranchBecomesJump() {
+        TacFunction folded = fold("int f(int n) {\n"
+                + "    int x;\n"
+                + "    x = n;\n"
+                + "    if (1 < 2) { x = x * 2; } else { x = 0; }\n"
+                + "    return x;\n"
+                + "}");
+        assertEquals(0, count(folded, Opcode.IFZ));
+        assertFalse(folded.getInstructions().contains(Instruction.copy(Operand.variable("x"), Operand.constant(0))));
+        assertEquals(1, count(folded, Operator.MUL));
+    }
+
+    @Test
+    public void whileFalseGoesAway() {
+        TacFunction folded = fold("int f(int n) {\n"
+                + "    int x;\n"
+                + "    x = n;\n"
+                + "    while (false) { x = x + 1; }\n"
+                + "    return x;\n"
+                + "}");
+        assertEquals(0, count(folded, Opcode.IFZ));
+        assertEquals(0, count(folded, Operator.ADD));
+    }
+
+    @Test
+    public void loopWithKnownFirstTestStays() {
+        // i < 3 holds the first time, but i changes in the loop, so the test can't be folded
+        TacFunction folded = fold("int f() {\n"
+                + "    int i;\n"
+                + "    i = 0;\n"
+                + "    while (i < 3) { i = i + 1; }\n"
+                + "    return i;\n"
+                + "}");
+        assertEquals(1, count(folded, Opcode.IFZ));
+        assertEquals(1, count(folded, Operator.ADD));
+    }
+
+    @Test
+    public void divisionByZeroIsNotFolded() {
+        TacFunction folded = fold("int f() {\n"
+                + "    int a;\n"
+                + "    a = 7;\n"
+                + "    return a / 0 + a % 0;\n"
+                + "}");
+        assertTrue(operates(folded, Operator.DIV, 7, 0));
+        assertTrue(operates(folded, Operator.MOD, 7, 0));
+    }
+
+    @Test
+    public void smallestIntByMinusOneIsNotFolded() {
+        TacFunction folded = fold("int f() {\n"
+                + "    int a;\n"
+                + "    a = -2147483647 - 1;\n"
+                + "    return a / -1 + a % -1;\n"
+                + "}");
+        assertTrue(operates(folded, Operator.DIV, Integer.MIN_VALUE, -1));
+        assertTrue(operates(folded, Operator.MOD, Integer.MIN_VALUE, -1));
+    }
+
+    @Test
+    public void overflowWraps() {
+        TacFunction folded = fold("int f() {\n"
+                + "    int a;\n"
+                + "    a = 2147483647;\n"
+                + "    return a + 1;\n"
+                + "}");
+        assertEquals(0, count(folded, Operator.ADD));
+        assertEquals(Instruction.ret(Operand.constant(Integer.MIN_VALUE)), returnOf(folded));
+    }
+
+    /**
+     * Folds the TAC of a method the front end made, and checks it still does what it did
+     * @param method a method f of a program with only it and main
+     * @return the TAC of f with its constants folded
+     */
+    private static TacFunction fold(String method) {
+        String source = "class Program {\n" + method + "\nvoid main() { }\n}\n";
+        DecafCompiler compiler = new DecafCompiler();
+        decafParser parser = compiler.newParser(compiler.lex(source, ConsoleErrorListener.INSTANCE),
+                ConsoleErrorListener.INSTANCE);
+        TacFunction function = compiler.analyze(parser, compiler.parseProgram(parser, mode -> { }),
+                DiscardTacSink.INSTANCE).getTacProgram().getFunctions().get(0);
+        assertEquals("_f", function.getName());
+
+        TacFunction folded = ConstantFolding.fold(function);
+        for (int seed = 0; seed < 3; seed++) {
+            assertEquals(TacInterpreter.run(function, seed), TacInterpreter.run(folded, seed));
+        }
+        return folded;
+    }
+
+    /**
+     * @return true if the function does the operation on the two ints, a binary instruction of them
+     */
+    private static boolean operates(TacFunction function, Operator operator, int left, int right) {
+        for (Instruction instruction : function.getInstructions()) {
+            if (instruction.getOpcode() == Opcode.BINARY && instruction.getOperator() == operator
+                    && instruction.getA().equals(Operand.constant(left))
+                    && instruction.getB().equals(Operand.constant(right))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Instruction returnOf(TacFunction function) {
+        for (Instruction instruction : function.getInstructions()) {
+            if (instruction.getOpcode() == Opcode.RETURN) {
+                return instruction;
+            }
+        }
+        return null;
+    }
+
+    private static int count(TacFunction function, Opcode opcode) {
+        int count = 0;
+        for (Instruction instruction : function.getInstructions()) {
+            if (instruction.getOpcode() == opcode) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int count(TacFunction function, Operator operator) {
+        int count = 0;
+        for (Instruction instruction : function.getInstructions()) {
+            if (instruction.getOperator() == operator) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,78 @@
+package com.brolius.tac;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static com.brolius.tac.TestFunctions.*;
+import static org.junit.Assert.*;
+
+public class DominatorsTest {
+    @Test
+    public void diamond() {
+        ControlFlowGraph cfg = ControlFlowGraph.build(TestFunctions.diamond());
+        List<BasicBlock> b = cfg.getBlocks();
+        Dominators dominators = new Dominators(cfg);
+
+        assertEquals(5, b.size());
+        assertNull(dominators.getImmediateDominator(b.get(0)));
+        assertEquals(b.get(0), dominators.getImmediateDominator(b.get(1)));
+        assertEquals(b.get(0), dominators.getImmediateDominator(b.get(2)));
+        assertEquals(b.get(0), dominators.getImmediateDominator(b.get(3)));
+        assertEquals(b.get(3), dominators.getImmediateDominator(b.get(4)));
+        assertEquals(blocks(cfg, 1, 2, 3), new HashSet<>(dominators.getChildren(b.get(0))));
+
+        assertTrue(dominators.dominates(b.get(0), b.get(4)));
+        assertTrue(dominators.dominates(b.get(3), b.get(3)));
+        assertFalse(dominators.dominates(b.get(1), b.get(3)));
+        assertFalse(dominators.dominates(b.get(1), b.get(2)));
+
+        assertEquals(blocks(cfg), dominators.getFrontier(b.get(0)));
+        assertEquals(blocks(cfg, 3), dominators.getFrontier(b.get(1)));
+        assertEquals(blocks(cfg, 3), dominators.getFrontier(b.get(2)));
+        assertEquals(blocks(cfg), dominators.getFrontier(b.get(3)));
+    }
+
+    @Test
+    public void nestedLoops() {
+        ControlFlowGraph cfg = ControlFlowGraph.build(TestFunctions.nestedLoops());
+        List<BasicBlock> b = cfg.getBlocks();
+        Dominators dominators = new Dominators(cfg);
+
+        assertEquals(8, b.size());
+        int[] idoms = {-1, 0, 1, 2, 3, 3, 1, 6};
+        for (int i = 1; i < idoms.length; i++) {
+            assertEquals("idom of B" + i, b.get(idoms[i]), dominators.getImmediateDominator(b.get(i)));
+        }
+        assertTrue(dominators.dominates(b.get(1), b.get(5)));
+        assertFalse(dominators.dominates(b.get(4), b.get(5)));
+        assertFalse(dominators.dominates(b.get(2), b.get(6)));
+
+        // the back edges put the headers in the frontiers of the loop bodies, B3 in its own
+        assertEquals(blocks(cfg, 1), dominators.getFrontier(b.get(1)));
+        assertEquals(blocks(cfg, 1), dominators.getFrontier(b.get(2)));
+        assertEquals(blocks(cfg, 1, 3), dominators.getFrontier(b.get(3)));
+        assertEquals(blocks(cfg, 3), dominators.getFrontier(b.get(4)));
+        assertEquals(blocks(cfg, 1), dominators.getFrontier(b.get(5)));
+        assertEquals(blocks(cfg), dominators.getFrontier(b.get(6)));
+    }
+
+    @Test
+    public void codeAfterReturnIsUnreachable() {
+        ControlFlowGraph cfg = ControlFlowGraph.build(function(
+                Instruction.beginFunc(0),
+                Instruction.ret(Operand.constant(0)),
+                Instruction.copy(X, Operand.constant(1)),
+                Instruction.endFunc()));
+        List<BasicBlock> b = cfg.getBlocks();
+        Dominators dominators = new Dominators(cfg);
+
+        assertEquals(3, b.size());
+        assertFalse(dominators.isReachable(b.get(1)));
+        assertNull(dominators.getImmediateDominator(b.get(1)));
+        assertFalse(dominators.dominates(b.get(0), b.get(1)));
+        assertEquals(b.get(0), dominators.getImmediateDominator(b.get(2)));
+        assertEquals(blocks(cfg), dominators.getFrontier(b.get(0)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.brolius.tac;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.brolius.tac.TestFunctions.*;
+import static org.junit.Assert.*;
+
+public class LivenessTest {
+    @Test
+    public void nestedLoops() {
+        ControlFlowGraph cfg = ControlFlowGraph.build(TestFunctions.nestedLoops());
+        List<BasicBlock> b = cfg.getBlocks();
+        Liveness liveness = new Liveness(cfg);
+        liveness.solve();
+
+        String[][] liveIn = {{}, {"i"}, {"i"}, {"i", "j"}, {"i", "j"}, {"i"}, {"i"}, {}};
+        String[][] liveOut = {{"i"}, {"i"}, {"i", "j"}, {"i", "j"}, {"i", "j"}, {"i"}, {}, {}};
+        for (int i = 0; i < liveIn.length; i++) {
+            assertEquals("live in B" + i, names(liveIn[i]), live(liveness, liveness.getIn(b.get(i))));
+            assertEquals("live out B" + i, names(liveOut[i]), live(liveness, liveness.getOut(b.get(i))));
+        }
+        // the conditions are read right after they are written, in the same block
+        assertFalse(liveness.isLiveOut(b.get(1), Operand.temporary(0)));
+        assertFalse(liveness.isLiveIn(b.get(3), Operand.temporary(1)));
+    }
+
+    @Test
+    public void diamond() {
+        ControlFlowGraph cfg = ControlFlowGraph.build(TestFunctions.diamond());
+        List<BasicBlock> b = cfg.getBlocks();
+        Liveness liveness = new Liveness(cfg);
+        liveness.solve();
+
+        // a is read before anything writes it, x is written on both paths before the return reads it
+        assertEquals(names("a"), live(liveness, liveness.getIn(b.get(0))));
+        assertEquals(names(), live(liveness, liveness.getOut(b.get(0))));
+        assertEquals(names("x"), live(liveness, liveness.getOut(b.get(1))));
+        assertEquals(names("x"), live(liveness, liveness.getOut(b.get(2))));
+        assertEquals(names("x"), live(liveness, liveness.getIn(b.get(3))));
+        assertEquals(names(), live(liveness, liveness.getOut(b.get(3))));
+        assertEquals(-1, liveness.indexOf(Operand.constant(1)));
+    }
+
+    private static Set<String> names(String... names) {
+        return new TreeSet<>(Arrays.asList(names));
+    }
+
+    private static Set<String> live(Liveness liveness, BitSet bits) {
+        Set<String> names = new TreeSet<>();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            names.add(liveness.getOperand(i).toString());
+        }
+        return names;
+    }
+}
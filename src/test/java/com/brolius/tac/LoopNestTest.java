@@ -0,0 +1,50 @@
+package com.brolius.tac;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.brolius.tac.TestFunctions.*;
+import static org.junit.Assert.*;
+
+public class LoopNestTest {
+    @Test
+    public void nestedLoops() {
+        ControlFlowGraph cfg = ControlFlowGraph.build(TestFunctions.nestedLoops());
+        List<BasicBlock> b = cfg.getBlocks();
+        LoopNest loops = new LoopNest(cfg, new Dominators(cfg));
+
+        assertEquals(2, loops.getLoops().size());
+        LoopNest.Loop outer = loops.getLoop(b.get(2));
+        LoopNest.Loop inner = loops.getLoop(b.get(4));
+        assertEquals(b.get(1), outer.getHeader());
+        assertEquals(bits(1, 2, 3, 4, 5), outer.getBlocks());
+        assertEquals(b.get(3), inner.getHeader());
+        assertEquals(bits(3, 4), inner.getBlocks());
+
+        assertNull(outer.getParent());
+        assertEquals(outer, inner.getParent());
+        assertEquals(1, outer.getChildren().size());
+        assertEquals(inner, outer.getChildren().get(0));
+        assertEquals(1, outer.getDepth());
+        assertEquals(2, inner.getDepth());
+
+        int[] depths = {0, 1, 1, 2, 2, 1, 0, 0};
+        for (int i = 0; i < depths.length; i++) {
+            assertEquals("depth of B" + i, depths[i], loops.getDepth(b.get(i)));
+        }
+        assertEquals(outer, loops.getLoop(b.get(5)));
+        assertNull(loops.getLoop(b.get(6)));
+    }
+
+    @Test
+    public void noLoopsWithoutBackEdges() {
+        ControlFlowGraph cfg = ControlFlowGraph.build(TestFunctions.diamond());
+        LoopNest loops = new LoopNest(cfg, new Dominators(cfg));
+
+        assertTrue(loops.getLoops().isEmpty());
+        for (BasicBlock block : cfg.getBlocks()) {
+            assertEquals(0, loops.getDepth(block));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.brolius.tac;
+
+import com.brolius.compiler.TacInterpreter;
+import com.brolius.semanticControl.Operator;
+import org.junit.Test;
+
+import java.util.*;
+
+import static com.brolius.tac.Instruction.*;
+import static com.brolius.tac.TestFunctions.*;
+import static org.junit.Assert.*;
+
+public class SsaFormTest {
+    private static final Operand Y = Operand.variable("y");
+
+    @Test
+    public void phisOnlyWhereTheNameIsLive() {
+        // x and y are both written on each side of the if, only x is read after it
+        SsaForm ssa = SsaForm.build(function(
+                beginFunc(0),
+                ifz(A, "_L1"),
+                copy(X, Operand.constant(1)),
+                copy(Y, Operand.constant(1)),
+                jump("_L2"),
+                label("_L1"),
+                copy(X, Operand.constant(2)),
+                copy(Y, Operand.constant(2)),
+                label("_L2"),
+                ret(X),
+                endFunc()));
+        List<BasicBlock> b = ssa.getGraph().getBlocks();
+
+        assertEquals(Collections.singletonList(X), phiTargets(b.get(3)));
+        Instruction phi = b.get(3).getInstructions().get(1);
+        assertEquals(Arrays.asList(definitionOf(X, b.get(1)), definitionOf(X, b.get(2))), phi.getArguments());
+        assertEquals(ret(phi.getTarget()), b.get(3).getLast());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Collections.emptyList(), phiTargets(b.get(i)));
+        }
+    }
+
+    @Test
+    public void phisOnlyAtTheHeadersThatNeedThem() {
+        SsaForm ssa = SsaForm.build(TestFunctions.nestedLoops());
+        List<BasicBlock> b = ssa.getGraph().getBlocks();
+
+        // j is in the frontier of the inner loop at the outer header too, but it is written before it is read there
+        assertEquals(Collections.singletonList(I), phiTargets(b.get(1)));
+        assertEquals(Collections.singletonList(J), phiTargets(b.get(3)));
+        for (int i : new int[]{0, 2, 4, 5, 6, 7}) {
+            assertEquals("phis of B" + i, Collections.emptyList(), phiTargets(b.get(i)));
+        }
+        assertEquals(TacInterpreter.run(TestFunctions.nestedLoops(), 0), TacInterpreter.run(ssa.toFunction(), 0));
+    }
+
+    /**
+     * The swap problem: with the copies through _t2 propagated, the phis of the loop header read each
+     * other's targets, so copying them one after the other loses one of the values
+     */
+    @Test
+    public void swapGoesThroughATemporary() {
+        Operand a = Operand.temporary(0);
+        Operand b = Operand.temporary(1);
+        Operand saved = Operand.temporary(2);
+        Operand i = Operand.temporary(3);
+        Operand more = Operand.temporary(4);
+        Operand tens = Operand.temporary(5);
+        Operand result = Operand.temporary(6);
+        TacFunction function = function(
+                beginFunc(28),
+                copy(a, Operand.constant(1)),
+                copy(b, Operand.constant(2)),
+                copy(i, Operand.constant(0)),
+                label("_L0"),
+                binary(more, Operator.LT, i, Operand.constant(3)),
+                ifz(more, "_L1"),
+                copy(saved, a),
+                copy(a, b),
+                copy(b, saved),
+                binary(i, Operator.ADD, i, Operand.constant(1)),
+                loopJump("_L0"),
+                label("_L1"),
+                binary(tens, Operator.MUL, a, Operand.constant(10)),
+                binary(result, Operator.ADD, tens, b),
+                ret(result),
+                endFunc());
+        SsaForm ssa = SsaForm.build(function);
+        propagateCopies(ssa);
+        List<Instruction> header = ssa.getGraph().getBlocks().get(1).getInstructions();
+        assertEquals(Arrays.asList(a, b, i), phiTargets(ssa.getGraph().getBlocks().get(1)));
+        assertEquals(header.get(2).getTarget(), header.get(1).getArguments().get(1));
+        assertEquals(header.get(1).getTarget(), header.get(2).getArguments().get(1));
+
+        // three swaps of 1 and 2, copied one after the other both would end up 2, giving 22
+        assertEquals(Collections.singletonList("return 21 {}"), TacInterpreter.run(ssa.toFunction(), 0));
+    }
+
+    /**
+     * The lost copy problem: with the copy to _t1 propagated, the version of _t0 the loop starts with is
+     * read after the loop, where the next version is live too, so they can't share _t0
+     */
+    @Test
+    public void lostCopyKeepsBothVersions() {
+        Operand x = Operand.temporary(0);
+        Operand y = Operand.temporary(1);
+        Operand more = Operand.temporary(2);
+        TacFunction function = function(
+                beginFunc(12),
+                copy(x, Operand.constant(1)),
+                label("_L0"),
+                copy(y, x),
+                binary(x, Operator.ADD, y, Operand.constant(1)),
+                binary(more, Operator.LT, x, Operand.constant(5)),
+                ifz(more, "_L1"),
+                loopJump("_L0"),
+                label("_L1"),
+                ret(y),
+                endFunc());
+        SsaForm ssa = SsaForm.build(function);
+        propagateCopies(ssa);
+        Instruction returned = ssa.getGraph().getBlocks().get(3).getLast();
+        Instruction phi = ssa.getGraph().getBlocks().get(1).getInstructions().get(1);
+        assertEquals(ret(phi.getTarget()), returned);
+
+        // sharing _t0 the copy at the end of the loop would overwrite the value returned, giving 5
+        assertEquals(Collections.singletonList("return 4 {}"), TacInterpreter.run(ssa.toFunction(), 0));
+    }
+
+    /**
+     * Replaces the temporaries copied from other temporaries by their sources and drops the copies, as a
+     * pass like copy propagation would
+     */
+    private static void propagateCopies(SsaForm ssa) {
+        Map<Operand, Operand> copied = new HashMap<>();
+        for (BasicBlock block : ssa.getGraph().getBlocks()) {
+            for (Instruction instruction : block.getInstructions()) {
+                if (instruction.getOpcode() == Opcode.COPY && instruction.getTarget().isTemporary()
+                        && instruction.getA().isTemporary()) {
+                    copied.put(instruction.getTarget(), instruction.getA());
+                }
+            }
+        }
+        for (BasicBlock block : ssa.getGraph().getBlocks()) {
+            List<Instruction> instructions = block.getInstructions();
+            instructions.removeIf(instruction -> copied.containsKey(instruction.getTarget())
+                    && instruction.getOpcode() == Opcode.COPY);
+            for (int i = 0; i < instructions.size(); i++) {
+                List<Operand> uses = new ArrayList<>(instructions.get(i).getUses());
+                for (int u = 0; u < uses.size(); u++) {
+                    while (copied.containsKey(uses.get(u))) {
+                        uses.set(u, copied.get(uses.get(u)));
+                    }
+                }
+                if (!uses.equals(instructions.get(i).getUses())) {
+                    instructions.set(i, instructions.get(i).withUses(uses));
+                }
+            }
+        }
+    }
+
+    private static List<Operand> phiTargets(BasicBlock block) {
+        List<Operand> targets = new ArrayList<>();
+        for (Instruction instruction : block.getInstructions()) {
+            if (instruction.getOpcode() == Opcode.PHI) {
+                targets.add(instruction.getTarget().getBase());
+            }
+        }
+        return targets;
+    }
+
+    private static Operand definitionOf(Operand name, BasicBlock block) {
+        Operand definition = null;
+        for (Instruction instruction : block.getInstructions()) {
+            if (instruction.getDefinition() != null && instruction.getDefinition().getBase().equals(name)) {
+                definition = instruction.getDefinition();
+            }
+        }
+        return definition;
+    }
+}
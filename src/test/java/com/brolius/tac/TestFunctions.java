@@ -0,0 +1,87 @@
+package com.brolius.tac;
+
+import com.brolius.semanticControl.Operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.brolius.tac.Instruction.*;
+
+/**
+ * Small hand built TAC functions whose blocks, dominators, loops and live variables are known
+ */
+final class TestFunctions {
+    static final Operand A = Operand.variable("a");
+    static final Operand I = Operand.variable("i");
+    static final Operand J = Operand.variable("j");
+    static final Operand X = Operand.variable("x");
+
+    private TestFunctions() {
+    }
+
+    /**
+     * An if with an else, both writing x:
+     * B0 BeginFunc, IfZ a; B1 x = 1, Goto; B2 _L1, x = 2; B3 _L2, Return x; B4 EndFunc
+     */
+    static TacFunction diamond() {
+        return function(
+                beginFunc(0),
+                ifz(A, "_L1"),
+                copy(X, Operand.constant(1)),
+                jump("_L2"),
+                label("_L1"),
+                copy(X, Operand.constant(2)),
+                label("_L2"),
+                ret(X),
+                endFunc());
+    }
+
+    /**
+     * A while inside a while, the inner one counting j up to i:
+     * B0 BeginFunc, i = 0; B1 _L0, IfZ i &lt; 10; B2 j = 0; B3 _L1, IfZ j &lt; i; B4 j = j + 1, Goto _L1;
+     * B5 _L2, i = i + 1, Goto _L0; B6 _L3, Return i; B7 EndFunc
+     */
+    static TacFunction nestedLoops() {
+        return function(
+                beginFunc(8),
+                copy(I, Operand.constant(0)),
+                label("_L0"),
+                binary(Operand.temporary(0), Operator.LT, I, Operand.constant(10)),
+                ifz(Operand.temporary(0), "_L3"),
+                copy(J, Operand.constant(0)),
+                label("_L1"),
+                binary(Operand.temporary(1), Operator.LT, J, I),
+                ifz(Operand.temporary(1), "_L2"),
+                binary(J, Operator.ADD, J, Operand.constant(1)),
+                loopJump("_L1"),
+                label("_L2"),
+                binary(I, Operator.ADD, I, Operand.constant(1)),
+                loopJump("_L0"),
+                label("_L3"),
+                ret(I),
+                endFunc());
+    }
+
+    static TacFunction function(Instruction... instructions) {
+        return new TacFunction("_f", new ArrayList<>(Arrays.asList(instructions)));
+    }
+
+    static Set<BasicBlock> blocks(ControlFlowGraph cfg, int... indexes) {
+        Set<BasicBlock> blocks = new TreeSet<>((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        for (int index : indexes) {
+            blocks.add(cfg.getBlocks().get(index));
+        }
+        return blocks;
+    }
+
+    static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}